@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.aggregator.fixture.SyntheticFleet;
+import com.avispl.symphony.dal.communicator.aggregator.property.CompactProperties;
+
+/**
+ * GoogleWorkspaceFootprintBenchmark compares the retained heap of the cached inventory kept in regular hash maps
+ * with the same inventory kept in {@link CompactProperties}, reporting bytes per device next to the time and
+ * allocation needed to build the cache.
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Djmh.args="-prof gc GoogleWorkspaceFootprintBenchmark"}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoogleWorkspaceFootprintBenchmark {
+	private static final String CUSTOMER_ID = "C0benchmark";
+
+	@Param({ "10000" })
+	private int fleetSize;
+
+	@Param({ "HashMap", "Compact" })
+	private String storage;
+
+	private List<AggregatedDevice> extractedDevices;
+
+	/**
+	 * Retained heap of the cached inventory, reported as a secondary result of the benchmark
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long bytesPerDevice;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		SyntheticFleet fleet = new SyntheticFleet(objectMapper, fleetSize, 42L);
+		GoogleWorkspaceMappingBenchmark.FixtureCommunicator communicator = new GoogleWorkspaceMappingBenchmark.FixtureCommunicator();
+		communicator.setEvictDeprovisioned(false);
+		setField(communicator, "telemetryResponse", fleet.telemetryPage(0, fleetSize, null), GoogleWorkspaceMappingBenchmark.FixtureCommunicator.class);
+		setField(communicator, "customerId", CUSTOMER_ID, GoogleWorkspaceCommunicator.class);
+		setField(communicator, "aggregatedDeviceResponse", fleet.getDevices(), GoogleWorkspaceCommunicator.class);
+		Method populateDeviceDetails = GoogleWorkspaceCommunicator.class.getDeclaredMethod("populateDeviceDetails");
+		populateDeviceDetails.setAccessible(true);
+		populateDeviceDetails.invoke(communicator);
+
+		Field field = GoogleWorkspaceCommunicator.class.getDeclaredField("aggregatedDeviceList");
+		field.setAccessible(true);
+		@SuppressWarnings("unchecked")
+		List<AggregatedDevice> cachedDevices = (List<AggregatedDevice>) field.get(communicator);
+		extractedDevices = new ArrayList<>();
+		synchronized (cachedDevices) {
+			for (AggregatedDevice cachedDevice : cachedDevices) {
+				extractedDevices.add(copyAsExtracted(cachedDevice));
+			}
+		}
+	}
+
+	/**
+	 * Builds the cached inventory from freshly extracted devices, the way populateDeviceDetails does.
+	 */
+	@Benchmark
+	public List<AggregatedDevice> cacheFleet() {
+		List<AggregatedDevice> cache = new ArrayList<>(extractedDevices.size());
+		for (AggregatedDevice extractedDevice : extractedDevices) {
+			AggregatedDevice aggregatedDevice = copyAsExtracted(extractedDevice);
+			if ("Compact".equals(storage)) {
+				aggregatedDevice.setDeviceModel(CompactProperties.intern(aggregatedDevice.getDeviceModel()));
+				aggregatedDevice.setProperties(new CompactProperties(aggregatedDevice.getProperties()));
+			}
+			cache.add(aggregatedDevice);
+		}
+		return cache;
+	}
+
+	/**
+	 * Walks the object graph of the cached inventory, the time of a single shot is not meaningful, the bytesPerDevice counter is.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 0)
+	@Measurement(iterations = 1)
+	public void retainedHeap(Footprint footprint) {
+		List<AggregatedDevice> cache = cacheFleet();
+		footprint.bytesPerDevice = GraphLayout.parseInstance(cache).totalSize() / cache.size();
+	}
+
+	/**
+	 * Copies a device with its own string instances, as the device processor produces them from a parsed response.
+	 */
+	private static AggregatedDevice copyAsExtracted(AggregatedDevice aggregatedDevice) {
+		AggregatedDevice copy = new AggregatedDevice();
+		copy.setDeviceId(new String(aggregatedDevice.getDeviceId()));
+		copy.setDeviceName(new String(aggregatedDevice.getDeviceName()));
+		copy.setDeviceModel(new String(aggregatedDevice.getDeviceModel()));
+		copy.setDeviceOnline(aggregatedDevice.getDeviceOnline());
+		Map<String, String> properties = new HashMap<>();
+		aggregatedDevice.getProperties().forEach((name, value) -> properties.put(name, value != null ? new String(value) : null));
+		copy.setProperties(properties);
+		return copy;
+	}
+
+	private static void setField(Object target, String name, Object value, Class<?> owner) throws Exception {
+		Field field = owner.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(target, value);
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.aggregator.fixture.SyntheticFleet;
+
+/**
+ * GoogleWorkspaceMappingBenchmark measures the mapping and conversion hot path of {@link GoogleWorkspaceCommunicator}
+ * against synthetic fleets, without any network access.
+ * Run with {@code mvn -P benchmark test-compile exec:exec}, the gc profiler reports allocation rate next to throughput.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoogleWorkspaceMappingBenchmark {
+	private static final String CUSTOMER_ID = "C0benchmark";
+
+	@Param({ "1000", "10000", "50000" })
+	private int fleetSize;
+
+	private FixtureCommunicator communicator;
+	private Method populateDeviceDetails;
+	private Method cloneAndPopulateAggregatedDeviceList;
+	private Method mapMonitoringProperty;
+	private Method mapDynamicStatistic;
+	private List<Map<String, String>> rawProperties;
+
+	/**
+	 * Communicator answering telemetry requests from the synthetic fleet instead of Chrome Management API
+	 */
+	static class FixtureCommunicator extends GoogleWorkspaceCommunicator {
+		private JsonNode telemetryResponse;
+
+		FixtureCommunicator() throws IOException {
+			super();
+		}
+
+		@Override
+		protected <Response> Response doGet(String uri, Class<Response> responseClass) {
+			return responseClass.cast(telemetryResponse);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		SyntheticFleet fleet = new SyntheticFleet(objectMapper, fleetSize, 42L);
+		communicator = new FixtureCommunicator();
+		communicator.setEvictDeprovisioned(false);
+		communicator.telemetryResponse = fleet.telemetryPage(0, fleetSize, null);
+		setField("customerId", CUSTOMER_ID);
+		setField("parentOrgUnit", "Synthetic");
+		setField("aggregatedDeviceResponse", fleet.getDevices());
+
+		populateDeviceDetails = getMethod("populateDeviceDetails");
+		cloneAndPopulateAggregatedDeviceList = getMethod("cloneAndPopulateAggregatedDeviceList");
+		mapMonitoringProperty = getMethod("mapMonitoringProperty", Map.class, Map.class);
+		mapDynamicStatistic = getMethod("mapDynamicStatistic", Map.class, Map.class, Map.class);
+
+		populateDeviceDetails.invoke(communicator);
+		@SuppressWarnings("unchecked")
+		List<AggregatedDevice> aggregatedDevices = (List<AggregatedDevice>) getField("aggregatedDeviceList");
+		rawProperties = new ArrayList<>();
+		synchronized (aggregatedDevices) {
+			for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+				rawProperties.add(new HashMap<>(aggregatedDevice.getProperties()));
+			}
+		}
+	}
+
+	/**
+	 * A sweep over the whole fleet takes seconds on large fleets, so it is measured as single invocations.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public void populateDeviceDetails() throws Exception {
+		populateDeviceDetails.invoke(communicator);
+	}
+
+	@Benchmark
+	public Object cloneAndPopulateAggregatedDeviceList() throws Exception {
+		return cloneAndPopulateAggregatedDeviceList.invoke(communicator);
+	}
+
+	@Benchmark
+	public void mapMonitoringProperty(Blackhole blackhole) throws Exception {
+		for (Map<String, String> properties : rawProperties) {
+			Map<String, String> stats = new HashMap<>();
+			mapMonitoringProperty.invoke(communicator, properties, stats);
+			blackhole.consume(stats);
+		}
+	}
+
+	@Benchmark
+	public void mapDynamicStatistic(Blackhole blackhole) throws Exception {
+		for (Map<String, String> properties : rawProperties) {
+			Map<String, String> stats = new HashMap<>();
+			Map<String, String> dynamics = new HashMap<>();
+			mapDynamicStatistic.invoke(communicator, properties, stats, dynamics);
+			blackhole.consume(stats);
+			blackhole.consume(dynamics);
+		}
+	}
+
+	private Method getMethod(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+		Method method = GoogleWorkspaceCommunicator.class.getDeclaredMethod(name, parameterTypes);
+		method.setAccessible(true);
+		return method;
+	}
+
+	private void setField(String name, Object value) throws Exception {
+		Field field = GoogleWorkspaceCommunicator.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(communicator, value);
+	}
+
+	private Object getField(String name) throws Exception {
+		Field field = GoogleWorkspaceCommunicator.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(communicator);
+	}
+}
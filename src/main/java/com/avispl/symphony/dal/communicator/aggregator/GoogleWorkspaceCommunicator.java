@@ -5,12 +5,24 @@
 package com.avispl.symphony.dal.communicator.aggregator;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.math.RoundingMode;
 import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -22,26 +34,41 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
-
+import javax.management.ObjectName;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -57,15 +84,56 @@ import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.communicator.aggregator.cache.SharedTenantCache;
 import com.avispl.symphony.dal.communicator.aggregator.common.AggregatedDeviceEnum;
+import com.avispl.symphony.dal.communicator.aggregator.common.ApiEndpointEnum;
+import com.avispl.symphony.dal.communicator.aggregator.common.ApiServiceEnum;
 import com.avispl.symphony.dal.communicator.aggregator.common.CPUTemperatureEnum;
 import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceCommand;
 import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceConstant;
 import com.avispl.symphony.dal.communicator.aggregator.common.OrgUnitEnum;
 import com.avispl.symphony.dal.communicator.aggregator.dto.aggregatedInfo.CPUTemperature;
 import com.avispl.symphony.dal.communicator.aggregator.dto.aggregatedInfo.NetworkDTO;
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.DeviceSnapshot;
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.InventorySnapshot;
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.PaginationCheckpoint;
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.PaginationCheckpoints;
 import com.avispl.symphony.dal.communicator.aggregator.dto.systemInfo.OrgUnit;
+import com.avispl.symphony.dal.communicator.aggregator.filter.DeviceFilter;
+import com.avispl.symphony.dal.communicator.aggregator.http.BatchRequestQueue;
+import com.avispl.symphony.dal.communicator.aggregator.http.CircuitBreaker;
+import com.avispl.symphony.dal.communicator.aggregator.http.CircuitOpenException;
+import com.avispl.symphony.dal.communicator.aggregator.http.CompressionMonitor;
+import com.avispl.symphony.dal.communicator.aggregator.http.ConnectionPoolMonitor;
+import com.avispl.symphony.dal.communicator.aggregator.http.CountingInputStream;
+import com.avispl.symphony.dal.communicator.aggregator.http.EndpointRegistry;
+import com.avispl.symphony.dal.communicator.aggregator.http.HttpStatusException;
+import com.avispl.symphony.dal.communicator.aggregator.http.ReadTimingInputStream;
+import com.avispl.symphony.dal.communicator.aggregator.http.SingleFlight;
+import com.avispl.symphony.dal.communicator.aggregator.inventory.DeviceEvictionTracker;
+import com.avispl.symphony.dal.communicator.aggregator.inventory.DeviceQuarantine;
+import com.avispl.symphony.dal.communicator.aggregator.pipeline.BoundedStage;
+import com.avispl.symphony.dal.communicator.aggregator.pipeline.PagePrefetcher;
+import com.avispl.symphony.dal.communicator.aggregator.property.CompactProperties;
+import com.avispl.symphony.dal.communicator.aggregator.publication.DeltaPublicationTracker;
+import com.avispl.symphony.dal.communicator.aggregator.publication.PublicationSharder;
+import com.avispl.symphony.dal.communicator.aggregator.publication.ShardPartitionEnum;
+import com.avispl.symphony.dal.communicator.aggregator.reports.FleetReport;
+import com.avispl.symphony.dal.communicator.aggregator.reports.FleetReportCollector;
+import com.avispl.symphony.dal.communicator.aggregator.scheduling.AdaptiveCollectionScheduler;
+import com.avispl.symphony.dal.communicator.aggregator.scheduling.RefreshTierEnum;
+import com.avispl.symphony.dal.communicator.aggregator.scheduling.TieredRefreshScheduler;
+import com.avispl.symphony.dal.communicator.aggregator.snapshot.InventorySnapshotStore;
+import com.avispl.symphony.dal.communicator.aggregator.snapshot.PaginationCheckpointStore;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.AdapterMetrics;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.CycleStageEnum;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.DeviceMetricHistory;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.EndpointMetrics;
 import com.avispl.symphony.dal.communicator.aggregator.statistics.DynamicStatisticsDefinition;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.HistoricalPropertyRouter;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.MetricHistoryEnum;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.MetricRingBuffer;
+import com.avispl.symphony.dal.communicator.aggregator.statistics.ReportSeries;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -177,6 +245,7 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 				} catch (Exception e) {
 					logger.error("Error occurred during device list retrieval: " + e.getMessage(), e);
 				}
+				persistInventorySnapshot();
 
 				try{
 					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + (getMonitoringRate() * 60000L);
@@ -271,644 +340,3093 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 	private ExecutorService executorService;
 
 	/**
-	 * A private field that represents an instance of the PolyLensDataLoader class, which is responsible for loading device data for PolyLens.
+	 * Executor running the device pipeline stages and page prefetches
 	 */
-	private GoogleWorkspaceDataLoader deviceDataLoader;
+	private ExecutorService pipelineExecutorService;
 
 	/**
-	 * An instance of the AggregatedDeviceProcessor class used to process and aggregate device-related data.
+	 * Whether the next device and telemetry pages are requested while the current ones are processed
 	 */
-	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+	private boolean pagePrefetch = true;
 
 	/**
-	 * Google Workspace API Token
+	 * Holds the prefetched device page
 	 */
-	private String apiToken;
+	private final PagePrefetcher devicePagePrefetcher = new PagePrefetcher();
 
 	/**
-	 * customer ID used to perform commands related to orgUnit Chrome OS and telemetry.
+	 * Holds the prefetched telemetry page
 	 */
-	private String customerId;
+	private final PagePrefetcher telemetryPagePrefetcher = new PagePrefetcher();
 
 	/**
-	 * save time get token
+	 * Holds Directory API requests of a cycle still in flight when the cycle time budget ran out, by request URI
 	 */
-	private Long tokenExpire;
+	private final Map<String, PagePrefetcher> directoryRequestPrefetchers = new ConcurrentHashMap<>();
 
 	/**
-	 * time the token expires
+	 * Highest queue depth of the map stage during the last cycle
 	 */
-	private Long expiresIn = 3000L * 1000;
+	private volatile int mapQueuePeakDepth;
 
 	/**
-	 * save nextToken for next request
+	 * Highest queue depth of the publish stage during the last cycle
 	 */
-	private String nextTokenChromeOS = GoogleWorkspaceConstant.EMPTY;
+	private volatile int publishQueuePeakDepth;
 
 	/**
-	 * save nextToken for next request
+	 * Seconds a collection cycle may wait for Google API pages, 0 waits without limit
 	 */
-	private String nextTokenTelemetry = GoogleWorkspaceConstant.EMPTY;
+	private int cycleTimeBudget;
 
 	/**
-	 * List of aggregated device
+	 * Number of page fetches that ran out of {@link #cycleTimeBudget}
 	 */
-	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicLong cycleBudgetExceeded = new AtomicLong();
 
 	/**
-	 * List of orgUnit Name
+	 * Deadline of the current cycle, shared by every fetch of the cycle, 0 waits without limit
 	 */
-	private List<String> orgUnitNameList = Collections.synchronizedList(new ArrayList<>());
+	private volatile long cycleDeadline;
 
 	/**
-	 * List of orgUnit
+	 * Whether the interval between device sweeps follows the churn of the fleet
 	 */
-	private List<OrgUnit> orgUnitList = Collections.synchronizedList(new ArrayList<>());
+	private boolean adaptiveCollection;
 
 	/**
-	 * Parent OrgUnit
+	 * Shortest interval in minutes between device sweeps with {@link #adaptiveCollection} enabled
 	 */
-	private String parentOrgUnit;
+	private int minCollectionInterval = GoogleWorkspaceConstant.DEFAULT_MIN_COLLECTION_INTERVAL;
 
 	/**
-	 * contains information of aggregated devices
+	 * Longest interval in minutes between device sweeps with {@link #adaptiveCollection} enabled
 	 */
-	private JsonNode aggregatedDeviceResponse;
+	private int maxCollectionInterval = GoogleWorkspaceConstant.DEFAULT_MAX_COLLECTION_INTERVAL;
 
 	/**
-	 * current orgUnit Name
+	 * Schedules device sweeps with {@link #adaptiveCollection} enabled
 	 */
-	private String currentOrgUnitName;
+	private final AdaptiveCollectionScheduler collectionScheduler = new AdaptiveCollectionScheduler(GoogleWorkspaceConstant.HIGH_CHURN_PERCENT,
+			GoogleWorkspaceConstant.LOW_CHURN_PERCENT);
 
 	/**
-	 * filter by Serial Number
+	 * Whether the current poll waits for the next sweep to be due instead of fetching pages
 	 */
-	private String filterSerialNumber;
+	private volatile boolean sweepDeferred;
 
 	/**
-	 * filter by Org Unit
+	 * Whether the current device page belongs to a full sweep, only devices of such pages count towards the churn of a sweep
 	 */
-	private String filterOrgUnit;
+	private volatile boolean sweepPage;
 
 	/**
-	 * Configurable property for historical properties, comma separated values kept as set locally
+	 * Whether a full sweep fetched its last page, the sweep is completed once the devices of the page are published,
+	 * no sweep with {@link #adaptiveCollection} enabled starts before
 	 */
-	private Set<String> historicalProperties = new HashSet<>();
+	private volatile boolean lastSweepPage;
 
 	/**
-	 * Retrieves {@link #historicalProperties}
-	 *
-	 * @return value of {@link #historicalProperties}
+	 * Whether devices are refreshed at the interval of their refresh tier
 	 */
-	public String getHistoricalProperties() {
-		return String.join(GoogleWorkspaceConstant.COMMA, this.historicalProperties);
-	}
+	private boolean tieredRefresh;
+
+	/**
+	 * Minutes between refreshes of devices not synced within the last hour, also the interval between full sweeps
+	 * with {@link #tieredRefresh} enabled
+	 */
+	private int idleRefreshInterval = GoogleWorkspaceConstant.DEFAULT_IDLE_REFRESH_INTERVAL;
+
+	/**
+	 * Minutes between refreshes of devices not synced within the last day
+	 */
+	private int offlineRefreshInterval = GoogleWorkspaceConstant.DEFAULT_OFFLINE_REFRESH_INTERVAL;
+
+	/**
+	 * Minutes between refreshes of disabled and deprovisioned devices
+	 */
+	private int disabledRefreshInterval = GoogleWorkspaceConstant.DEFAULT_DISABLED_REFRESH_INTERVAL;
+
+	/**
+	 * Decides which listed devices are refreshed with {@link #tieredRefresh} enabled
+	 */
+	private final TieredRefreshScheduler tieredRefreshScheduler = new TieredRefreshScheduler();
+
+	/**
+	 * Time the next full sweep starts at with {@link #tieredRefresh} enabled
+	 */
+	private volatile long nextFullSweepTimestamp;
 
 	/**
-	 * Sets {@link #historicalProperties} value
+	 * Retrieves {@link #tieredRefresh}
 	 *
-	 * @param historicalProperties new value of {@link #historicalProperties}
+	 * @return value of {@link #tieredRefresh}
 	 */
-	public void setHistoricalProperties(String historicalProperties) {
-		this.historicalProperties.clear();
-		Arrays.asList(historicalProperties.split(GoogleWorkspaceConstant.COMMA)).forEach(propertyName -> {
-			this.historicalProperties.add(propertyName.trim());
-		});
+	public boolean isTieredRefresh() {
+		return tieredRefresh;
 	}
 
 	/**
-	 * Sets {@link #currentOrgUnitName} value
+	 * Sets {@link #tieredRefresh} value
 	 *
-	 * @param currentOrgUnitName new value of {@link #currentOrgUnitName}
+	 * @param tieredRefresh new value of {@link #tieredRefresh}
 	 */
-	public void setCurrentOrgUnitName(String currentOrgUnitName) {
-		this.currentOrgUnitName = currentOrgUnitName;
+	public void setTieredRefresh(boolean tieredRefresh) {
+		this.tieredRefresh = tieredRefresh;
 	}
 
 	/**
-	 * Retrieves {@link #filterSerialNumber}
+	 * Retrieves {@link #idleRefreshInterval}
 	 *
-	 * @return value of {@link #filterSerialNumber}
+	 * @return value of {@link #idleRefreshInterval}
 	 */
-	public String getFilterSerialNumber() {
-		return filterSerialNumber;
+	public int getIdleRefreshInterval() {
+		return idleRefreshInterval;
 	}
 
 	/**
-	 * Sets {@link #filterSerialNumber} value
+	 * Sets {@link #idleRefreshInterval} value
 	 *
-	 * @param filterSerialNumber new value of {@link #filterSerialNumber}
+	 * @param idleRefreshInterval new value of {@link #idleRefreshInterval}
 	 */
-	public void setFilterSerialNumber(String filterSerialNumber) {
-		this.filterSerialNumber = filterSerialNumber;
+	public void setIdleRefreshInterval(int idleRefreshInterval) {
+		this.idleRefreshInterval = Math.max(0, idleRefreshInterval);
 	}
 
 	/**
-	 * Retrieves {@link #filterOrgUnit}
+	 * Retrieves {@link #offlineRefreshInterval}
 	 *
-	 * @return value of {@link #filterOrgUnit}
+	 * @return value of {@link #offlineRefreshInterval}
 	 */
-	public String getFilterOrgUnit() {
-		return filterOrgUnit;
+	public int getOfflineRefreshInterval() {
+		return offlineRefreshInterval;
 	}
 
 	/**
-	 * Sets {@link #filterOrgUnit} value
+	 * Sets {@link #offlineRefreshInterval} value
 	 *
-	 * @param filterOrgUnit new value of {@link #filterOrgUnit}
+	 * @param offlineRefreshInterval new value of {@link #offlineRefreshInterval}
 	 */
-	public void setFilterOrgUnit(String filterOrgUnit) {
-		this.filterOrgUnit = filterOrgUnit;
+	public void setOfflineRefreshInterval(int offlineRefreshInterval) {
+		this.offlineRefreshInterval = Math.max(0, offlineRefreshInterval);
 	}
 
 	/**
-	 * Update the status of the device.
-	 * The device is considered as paused if did not receive any retrieveMultipleStatistics()
-	 * calls during {@link GoogleWorkspaceCommunicator}
+	 * Retrieves {@link #disabledRefreshInterval}
+	 *
+	 * @return value of {@link #disabledRefreshInterval}
 	 */
-	private synchronized void updateAggregatorStatus() {
-		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
+	public int getDisabledRefreshInterval() {
+		return disabledRefreshInterval;
 	}
 
 	/**
-	 * Uptime time stamp to valid one
+	 * Sets {@link #disabledRefreshInterval} value
+	 *
+	 * @param disabledRefreshInterval new value of {@link #disabledRefreshInterval}
 	 */
-	private synchronized void updateValidRetrieveStatisticsTimestamp() {
-		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
-		updateAggregatorStatus();
+	public void setDisabledRefreshInterval(int disabledRefreshInterval) {
+		this.disabledRefreshInterval = Math.max(0, disabledRefreshInterval);
 	}
 
 	/**
-	 * Constructs a new instance of the GoogleWorkspaceCommunicator class.
-	 * This constructor initializes the communicator with the necessary components and settings to interact with Google Workspace.
+	 * Retrieves {@link #adaptiveCollection}
 	 *
-	 * @throws IOException if an I/O error occurs during the initialization process.
+	 * @return value of {@link #adaptiveCollection}
 	 */
-	public GoogleWorkspaceCommunicator() throws IOException {
-		adapterProperties = new Properties();
-		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(GoogleWorkspaceConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
-		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
-		adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
-		this.setTrustAllCertificates(true);
+	public boolean isAdaptiveCollection() {
+		return adaptiveCollection;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Sets {@link #adaptiveCollection} value
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param adaptiveCollection new value of {@link #adaptiveCollection}
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (isInitialized()) {
-			long pingResultTotal = 0L;
-
-			for (int i = 0; i < this.getPingAttempts(); i++) {
-				long startTime = System.currentTimeMillis();
-
-				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-					puSocketConnection.setSoTimeout(this.getPingTimeout());
-					if (puSocketConnection.isConnected()) {
-						long pingResult = System.currentTimeMillis() - startTime;
-						pingResultTotal += pingResult;
-						if (this.logger.isTraceEnabled()) {
-							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-						}
-					} else {
-						if (this.logger.isDebugEnabled()) {
-							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-						}
-						return this.getPingTimeout();
-					}
-				} catch (SocketTimeoutException | ConnectException tex) {
-					throw new RuntimeException("Socket connection timed out", tex);
-				} catch (Exception e) {
-					if (this.logger.isWarnEnabled()) {
-						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-					}
-					return this.getPingTimeout();
-				}
-			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
-		}
+	public void setAdaptiveCollection(boolean adaptiveCollection) {
+		this.adaptiveCollection = adaptiveCollection;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves {@link #minCollectionInterval}
+	 *
+	 * @return value of {@link #minCollectionInterval}
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			if (!checkValidApiToken()) {
-				throw new ResourceNotReachableException("API Token cannot be null or empty, please enter valid API token in the password and username field.");
-			}
-			Map<String, String> statistics = new HashMap<>();
-			Map<String, String> dynamicStatistics = new HashMap<>();
-			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			retrieveMetadata(statistics, dynamicStatistics);
-			retrieveCustomerId();
-			if (StringUtils.isNotNullOrEmpty(customerId)) {
-				retrieveSystemInfo();
-				populateSystemData(statistics, advancedControllableProperties);
-			} else {
-				populateNoneData(statistics);
-			}
-			extendedStatistics.setStatistics(statistics);
-			extendedStatistics.setDynamicStatistics(dynamicStatistics);
-			extendedStatistics.setControllableProperties(advancedControllableProperties);
-			localExtendedStatistics = extendedStatistics;
-		} finally {
-			reentrantLock.unlock();
-		}
-		return Collections.singletonList(localExtendedStatistics);
+	public int getMinCollectionInterval() {
+		return minCollectionInterval;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #minCollectionInterval} value
+	 *
+	 * @param minCollectionInterval new value of {@link #minCollectionInterval}
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			String value = String.valueOf(controllableProperty.getValue());
-			String property = controllableProperty.getProperty();
-			switch (property) {
-				case "OrganizationalUnits#Name":
-					currentOrgUnitName = value;
-					break;
-				default:
-					logger.debug(String.format("Property name %s doesn't support", property));
-			}
-		} finally {
-			reentrantLock.unlock();
-		}
+	public void setMinCollectionInterval(int minCollectionInterval) {
+		this.minCollectionInterval = Math.max(0, minCollectionInterval);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves {@link #maxCollectionInterval}
+	 *
+	 * @return value of {@link #maxCollectionInterval}
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
-		}
-		for (ControllableProperty p : controllableProperties) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
-			}
-		}
+	public int getMaxCollectionInterval() {
+		return maxCollectionInterval;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #maxCollectionInterval} value
+	 *
+	 * @param maxCollectionInterval new value of {@link #maxCollectionInterval}
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (!orgUnitList.isEmpty()) {
-			if (checkValidApiToken()) {
-				if (executorService == null) {
-					executorService = Executors.newFixedThreadPool(1);
-					executorService.submit(deviceDataLoader = new GoogleWorkspaceDataLoader());
-				}
-				nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-				updateValidRetrieveStatisticsTimestamp();
-			}
-			if (aggregatedDeviceList.isEmpty()) {
-				return aggregatedDeviceList;
-			}
-			return cloneAndPopulateAggregatedDeviceList();
-		}
-		return Collections.emptyList();
+	public void setMaxCollectionInterval(int maxCollectionInterval) {
+		this.maxCollectionInterval = Math.max(0, maxCollectionInterval);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves {@link #cycleTimeBudget}
+	 *
+	 * @return value of {@link #cycleTimeBudget}
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	public int getCycleTimeBudget() {
+		return cycleTimeBudget;
 	}
 
-	@Override
-	protected void authenticate() throws Exception {
-		// Google Workspace only require API token for each request.
+	/**
+	 * Sets {@link #cycleTimeBudget} value
+	 *
+	 * @param cycleTimeBudget new value of {@link #cycleTimeBudget}
+	 */
+	public void setCycleTimeBudget(int cycleTimeBudget) {
+		this.cycleTimeBudget = Math.max(0, cycleTimeBudget);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves {@link #pagePrefetch}
+	 *
+	 * @return value of {@link #pagePrefetch}
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
-		}
-		adapterInitializationTimestamp = System.currentTimeMillis();
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new GoogleWorkspaceDataLoader());
-		super.internalInit();
+	public boolean isPagePrefetch() {
+		return pagePrefetch;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #pagePrefetch} value
+	 *
+	 * @param pagePrefetch new value of {@link #pagePrefetch}
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
-		}
-		if (deviceDataLoader != null) {
-			deviceDataLoader.stop();
-			deviceDataLoader = null;
-		}
-
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
-		}
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
-		}
-		orgUnitList.clear();
-		orgUnitNameList.clear();
-		nextDevicesCollectionIterationTimestamp = 0;
-		aggregatedDeviceList.clear();
-		super.internalDestroy();
+	public void setPagePrefetch(boolean pagePrefetch) {
+		this.pagePrefetch = pagePrefetch;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * set Bearer Token into Header of Request
+	 * A private field that represents an instance of the PolyLensDataLoader class, which is responsible for loading device data for PolyLens.
+	 */
+	private GoogleWorkspaceDataLoader deviceDataLoader;
+
+	/**
+	 * An instance of the AggregatedDeviceProcessor class used to process and aggregate device-related data.
+	 */
+	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+
+	/**
+	 * Google Workspace API Token
+	 */
+	private volatile String apiToken;
+
+	/**
+	 * Coalesces concurrent identical GET requests, keyed by request URI.
+	 * Waiting callers receive a deep copy of the response, since device responses are modified while being processed.
+	 */
+	private final SingleFlight<String, JsonNode> requestSingleFlight = new SingleFlight<>(JsonNode::deepCopy);
+
+	/**
+	 * Coalesces concurrent token refreshes, so only one OAuth2 request is issued when the token expires
+	 */
+	private final SingleFlight<String, String> tokenSingleFlight = new SingleFlight<>();
+
+	/**
+	 * Tracks utilization of the pooled HTTP client
+	 */
+	private final ConnectionPoolMonitor connectionPoolMonitor = new ConnectionPoolMonitor();
+
+	/**
+	 * Decodes compressed responses and counts bytes on wire against decoded bytes
+	 */
+	private final CompressionMonitor compressionMonitor = new CompressionMonitor();
+
+	/**
+	 * Pooled HTTP client used for JSON GET requests, obtained once from {@link RestCommunicator}
+	 */
+	private volatile HttpClient pooledHttpClient;
+
+	/**
+	 * Per-endpoint request metrics and per-stage cycle durations of the adapter
+	 */
+	private final AdapterMetrics adapterMetrics = new AdapterMetrics();
+
+	/**
+	 * Whether {@link #adapterMetrics} are registered as a JMX MBean
+	 */
+	private boolean jmxMetricsEnabled;
+
+	/**
+	 * Name of the registered {@link #adapterMetrics} MBean, null when not registered
+	 */
+	private ObjectName adapterMetricsObjectName;
+
+	/**
+	 * Resolves base URLs of Directory, Chrome Management and OAuth2 APIs from configuration
+	 */
+	private final EndpointRegistry endpointRegistry = new EndpointRegistry();
+
+	/**
+	 * Whether API responses are shared with other adapter instances monitoring the same tenant with the same credentials.
+	 * Device pages are then requested without filters, which are applied locally.
+	 */
+	private boolean sharedCache;
+
+	/**
+	 * Time-to-live in seconds of responses in the shared cache
+	 */
+	private int sharedCacheTtl = GoogleWorkspaceConstant.DEFAULT_SHARED_CACHE_TTL;
+
+	/**
+	 * Shared cache of the monitored tenant, null when {@link #sharedCache} is disabled
+	 */
+	private volatile SharedTenantCache tenantCache;
+
+	/**
+	 * customer ID used to perform commands related to orgUnit Chrome OS and telemetry.
+	 */
+	private String customerId;
+
+	/**
+	 * save time get token
+	 */
+	private Long tokenExpire;
+
+	/**
+	 * time the token expires
+	 */
+	private Long expiresIn = 3000L * 1000;
+
+	/**
+	 * save nextToken for next request
+	 */
+	private String nextTokenChromeOS = GoogleWorkspaceConstant.EMPTY;
+
+	/**
+	 * save nextToken for next request
+	 */
+	private String nextTokenTelemetry = GoogleWorkspaceConstant.EMPTY;
+
+	/**
+	 * save nextToken of the recently synced devices partition for next request
+	 */
+	private String nextTokenActiveTier = GoogleWorkspaceConstant.EMPTY;
+
+	/**
+	 * Generation of the current sweep over device pages, increased whenever the first page is requested
+	 */
+	private long sweepGeneration;
+
+	/**
+	 * Minutes a device missing from a completed sweep is kept before it is evicted
+	 */
+	private int evictionGracePeriod = GoogleWorkspaceConstant.DEFAULT_EVICTION_GRACE_PERIOD;
+
+	/**
+	 * Whether deprovisioned devices are evicted like deleted ones
+	 */
+	private boolean evictDeprovisioned = true;
+
+	/**
+	 * Marks devices listed in sweeps and finds devices to evict
+	 */
+	private final DeviceEvictionTracker deviceEvictionTracker = new DeviceEvictionTracker();
+
+	/**
+	 * Devices whose records failed to collect or publish, and mapping errors by field
+	 */
+	private final DeviceQuarantine deviceQuarantine = new DeviceQuarantine(GoogleWorkspaceConstant.QUARANTINE_CAPACITY);
+
+	/**
+	 * Retrieves {@link #evictionGracePeriod}
+	 *
+	 * @return value of {@link #evictionGracePeriod}
+	 */
+	public int getEvictionGracePeriod() {
+		return evictionGracePeriod;
+	}
+
+	/**
+	 * Sets {@link #evictionGracePeriod} value
+	 *
+	 * @param evictionGracePeriod new value of {@link #evictionGracePeriod}
+	 */
+	public void setEvictionGracePeriod(int evictionGracePeriod) {
+		this.evictionGracePeriod = Math.max(0, evictionGracePeriod);
+	}
+
+	/**
+	 * Retrieves {@link #evictDeprovisioned}
+	 *
+	 * @return value of {@link #evictDeprovisioned}
+	 */
+	public boolean isEvictDeprovisioned() {
+		return evictDeprovisioned;
+	}
+
+	/**
+	 * Sets {@link #evictDeprovisioned} value
+	 *
+	 * @param evictDeprovisioned new value of {@link #evictDeprovisioned}
+	 */
+	public void setEvictDeprovisioned(boolean evictDeprovisioned) {
+		this.evictDeprovisioned = evictDeprovisioned;
+	}
+
+	/**
+	 * List of aggregated device
+	 */
+	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * List of orgUnit Name
+	 */
+	private List<String> orgUnitNameList = Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * List of orgUnit
+	 */
+	private List<OrgUnit> orgUnitList = Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Parent OrgUnit
+	 */
+	private String parentOrgUnit;
+
+	/**
+	 * Id of the root organizational unit {@link #parentOrgUnitResponse} was retrieved for
+	 */
+	private String parentOrgUnitId;
+
+	/**
+	 * Root organizational unit, requested again only when the organizational units report another parent
+	 */
+	private JsonNode parentOrgUnitResponse;
+
+	/**
+	 * contains information of aggregated devices
+	 */
+	private JsonNode aggregatedDeviceResponse;
+
+	/**
+	 * current orgUnit Name
+	 */
+	private String currentOrgUnitName;
+
+	/**
+	 * filter by Serial Number
+	 */
+	private String filterSerialNumber;
+
+	/**
+	 * filter by Org Unit
+	 */
+	private String filterOrgUnit;
+
+	/**
+	 * filter by device model
+	 */
+	private String filterModel;
+
+	/**
+	 * filter by device status
+	 */
+	private String filterStatus;
+
+	/**
+	 * Filters compiled from {@link #filterOrgUnit}, {@link #filterSerialNumber}, {@link #filterModel} and {@link #filterStatus}
+	 */
+	private volatile DeviceFilter deviceFilter = DeviceFilter.EMPTY;
+
+	/**
+	 * Organizational unit list {@link #orgUnitPaths} was indexed from
+	 */
+	private volatile List<OrgUnit> indexedOrgUnitList;
+
+	/**
+	 * Paths of the organizational units by their lower case name, resolving names of nested units in {@link #filterOrgUnit}
+	 */
+	private volatile Map<String, List<String>> orgUnitPaths = Collections.emptyMap();
+
+	/**
+	 * Devices of the current Chrome OS page matching {@link #deviceFilter}
+	 */
+	private JsonNode filteredDeviceResponse;
+
+	/**
+	 * Configurable property for historical properties, comma separated values precompiled into a routing table
+	 */
+	private volatile HistoricalPropertyRouter historicalPropertyRouter = HistoricalPropertyRouter.EMPTY;
+
+	/**
+	 * Number of samples kept per device for each metric of {@link MetricHistoryEnum}, 0 disables the metric history
+	 */
+	private int metricHistorySize;
+
+	/**
+	 * Metric history of aggregated devices, keyed by device id
+	 */
+	private final Map<String, DeviceMetricHistory> deviceMetricHistories = new ConcurrentHashMap<>();
+
+	/**
+	 * Directory where the device and organizational unit inventory snapshot is persisted, empty disables the snapshot
+	 */
+	private String snapshotDirectory;
+
+	/**
+	 * Store used to persist and restore the inventory snapshot, null when {@link #snapshotDirectory} is not configured
+	 */
+	private InventorySnapshotStore inventorySnapshotStore;
+
+	/**
+	 * Timestamp of the last inventory snapshot write
+	 */
+	private long lastSnapshotWriteTimestamp;
+
+	/**
+	 * Creation timestamp of the restored inventory snapshot
+	 */
+	private long restoredSnapshotTimestamp;
+
+	/**
+	 * Store used to persist and restore pagination checkpoints, null when {@link #snapshotDirectory} is not configured
+	 */
+	private PaginationCheckpointStore paginationCheckpointStore;
+
+	/**
+	 * Generation of the current sweep over telemetry pages, increased whenever the first page is requested
+	 */
+	private long telemetrySweepGeneration;
+
+	/**
+	 * Generation of the device sweep resumed from a checkpoint, its earlier pages were listed by the previous adapter instance
+	 */
+	private long resumedSweepGeneration = -1;
+
+	/**
+	 * Number of times a failed page is requested again before the cycle gives up on it
+	 */
+	private int pageRetries = GoogleWorkspaceConstant.DEFAULT_PAGE_RETRIES;
+
+	/**
+	 * Number of page requests sent again after a transient failure
+	 */
+	private final AtomicLong paginationRetries = new AtomicLong();
+
+	/**
+	 * Number of sweeps started over because Google rejected the page token
+	 */
+	private final AtomicLong paginationRestartedSweeps = new AtomicLong();
+
+	/**
+	 * Consecutive failures of an endpoint opening its circuit, 0 disables circuit breaking
+	 */
+	private int circuitBreakerThreshold = GoogleWorkspaceConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+
+	/**
+	 * Seconds an open circuit rejects requests before a probe request is sent
+	 */
+	private int circuitBreakerCooldown = GoogleWorkspaceConstant.DEFAULT_CIRCUIT_BREAKER_COOLDOWN;
+
+	/**
+	 * Circuit breakers by endpoint
+	 */
+	private final Map<ApiEndpointEnum, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	/**
+	 * Timestamp of the last poll that refreshed organizational units and devices from Google API
+	 */
+	private volatile long lastSuccessfulRefreshTimestamp;
+
+	/**
+	 * Whether the last poll failed and cached organizational units and devices are served
+	 */
+	private volatile boolean servingStaleData;
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public int getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = Math.max(0, circuitBreakerThreshold);
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerCooldown}
+	 *
+	 * @return value of {@link #circuitBreakerCooldown}
+	 */
+	public int getCircuitBreakerCooldown() {
+		return circuitBreakerCooldown;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerCooldown} value
+	 *
+	 * @param circuitBreakerCooldown new value of {@link #circuitBreakerCooldown}
+	 */
+	public void setCircuitBreakerCooldown(int circuitBreakerCooldown) {
+		this.circuitBreakerCooldown = Math.max(0, circuitBreakerCooldown);
+	}
+
+	/**
+	 * Retrieves {@link #pageRetries}
+	 *
+	 * @return value of {@link #pageRetries}
+	 */
+	public int getPageRetries() {
+		return pageRetries;
+	}
+
+	/**
+	 * Sets {@link #pageRetries} value
+	 *
+	 * @param pageRetries new value of {@link #pageRetries}
+	 */
+	public void setPageRetries(int pageRetries) {
+		this.pageRetries = Math.max(0, pageRetries);
+	}
+
+	/**
+	 * Ids of devices restored from the inventory snapshot and not yet refreshed from Google Workspace API
+	 */
+	private final Set<String> snapshotDeviceIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Whether only devices and properties changed since the previous poll are published
+	 */
+	private boolean deltaPublication;
+
+	/**
+	 * Interval in minutes between full publications when {@link #deltaPublication} is enabled
+	 */
+	private int fullRefreshInterval = GoogleWorkspaceConstant.DEFAULT_FULL_REFRESH_INTERVAL;
+
+	/**
+	 * Tracks hashes of published devices for {@link #deltaPublication}
+	 */
+	private final DeltaPublicationTracker deltaPublicationTracker = new DeltaPublicationTracker(Collections.singleton(GoogleWorkspaceConstant.DATA_AGE));
+
+	/**
+	 * Maximum number of devices published per retrieveMultipleStatistics call, 0 publishes the whole fleet on every call
+	 */
+	private int publicationShardSize;
+
+	/**
+	 * How the fleet is partitioned into publication shards, DeviceId or OrgUnit
+	 */
+	private String publicationShardBy = ShardPartitionEnum.DEVICE_ID.getName();
+
+	/**
+	 * Hands out publication shards round robin when {@link #publicationShardSize} is set
+	 */
+	private final PublicationSharder publicationSharder = new PublicationSharder();
+
+	/**
+	 * Retrieves {@link #publicationShardSize}
+	 *
+	 * @return value of {@link #publicationShardSize}
+	 */
+	public int getPublicationShardSize() {
+		return publicationShardSize;
+	}
+
+	/**
+	 * Sets {@link #publicationShardSize} value
+	 *
+	 * @param publicationShardSize new value of {@link #publicationShardSize}
+	 */
+	public void setPublicationShardSize(int publicationShardSize) {
+		this.publicationShardSize = Math.max(0, publicationShardSize);
+		publicationSharder.reset();
+	}
+
+	/**
+	 * Retrieves {@link #publicationShardBy}
+	 *
+	 * @return value of {@link #publicationShardBy}
+	 */
+	public String getPublicationShardBy() {
+		return publicationShardBy;
+	}
+
+	/**
+	 * Sets {@link #publicationShardBy} value
+	 *
+	 * @param publicationShardBy new value of {@link #publicationShardBy}
+	 */
+	public void setPublicationShardBy(String publicationShardBy) {
+		this.publicationShardBy = ShardPartitionEnum.getByName(publicationShardBy).getName();
+		publicationSharder.reset();
+	}
+
+	/**
+	 * Retrieves {@link #deltaPublication}
+	 *
+	 * @return value of {@link #deltaPublication}
+	 */
+	public boolean isDeltaPublication() {
+		return deltaPublication;
+	}
+
+	/**
+	 * Sets {@link #deltaPublication} value
+	 *
+	 * @param deltaPublication new value of {@link #deltaPublication}
+	 */
+	public void setDeltaPublication(boolean deltaPublication) {
+		this.deltaPublication = deltaPublication;
+		deltaPublicationTracker.reset();
+	}
+
+	/**
+	 * Retrieves {@link #jmxMetricsEnabled}
+	 *
+	 * @return value of {@link #jmxMetricsEnabled}
+	 */
+	public boolean isJmxMetricsEnabled() {
+		return jmxMetricsEnabled;
+	}
+
+	/**
+	 * Sets {@link #jmxMetricsEnabled} value
+	 *
+	 * @param jmxMetricsEnabled new value of {@link #jmxMetricsEnabled}
+	 */
+	public void setJmxMetricsEnabled(boolean jmxMetricsEnabled) {
+		this.jmxMetricsEnabled = jmxMetricsEnabled;
+	}
+
+	/**
+	 * Whether Directory API lookups of single entities are sent as batch requests
+	 */
+	private boolean batchRequests;
+
+	/**
+	 * Coalesces Directory API lookups into batch requests when {@link #batchRequests} is enabled
+	 */
+	private final BatchRequestQueue directoryBatchQueue = new BatchRequestQueue(this::sendDirectoryBatch);
+
+	/**
+	 * Names of parent organizational units that are not part of {@link #orgUnitList}, keyed by organizational unit id
+	 */
+	private final Map<String, String> parentOrgUnitNames = new ConcurrentHashMap<>();
+
+	/**
+	 * Parent organizational unit ids by organizational unit id of the {@link #orgUnitList} the {@link #parentOrgUnitNames} were resolved for
+	 */
+	private volatile Map<String, String> resolvedOrgUnitParents;
+
+	/**
+	 * Retrieves {@link #batchRequests}
+	 *
+	 * @return value of {@link #batchRequests}
+	 */
+	public boolean isBatchRequests() {
+		return batchRequests;
+	}
+
+	/**
+	 * Sets {@link #batchRequests} value
+	 *
+	 * @param batchRequests new value of {@link #batchRequests}
+	 */
+	public void setBatchRequests(boolean batchRequests) {
+		this.batchRequests = batchRequests;
+	}
+
+	/**
+	 * Whether fleet level counts are collected from Chrome Management reports API
+	 */
+	private boolean fleetReports;
+
+	/**
+	 * Interval in minutes between collections of {@link #fleetReports}
+	 */
+	private int fleetReportsInterval = GoogleWorkspaceConstant.DEFAULT_FLEET_REPORTS_INTERVAL;
+
+	/**
+	 * Collects {@link #fleetReports}, failed reports are logged by the collector
+	 */
+	private final FleetReportCollector fleetReportCollector = new FleetReportCollector(uri -> doGet(uri, JsonNode.class));
+
+	private long lastFleetReportsTimestamp;
+
+	/**
+	 * Retrieves {@link #fleetReports}
+	 *
+	 * @return value of {@link #fleetReports}
+	 */
+	public boolean isFleetReports() {
+		return fleetReports;
+	}
+
+	/**
+	 * Sets {@link #fleetReports} value
+	 *
+	 * @param fleetReports new value of {@link #fleetReports}
+	 */
+	public void setFleetReports(boolean fleetReports) {
+		this.fleetReports = fleetReports;
+	}
+
+	/**
+	 * Retrieves {@link #fleetReportsInterval}
+	 *
+	 * @return value of {@link #fleetReportsInterval}
+	 */
+	public int getFleetReportsInterval() {
+		return fleetReportsInterval;
+	}
+
+	/**
+	 * Sets {@link #fleetReportsInterval} value
+	 *
+	 * @param fleetReportsInterval new value of {@link #fleetReportsInterval}
+	 */
+	public void setFleetReportsInterval(int fleetReportsInterval) {
+		this.fleetReportsInterval = Math.max(1, fleetReportsInterval);
+	}
+
+	/**
+	 * Retrieves {@link #fullRefreshInterval}
+	 *
+	 * @return value of {@link #fullRefreshInterval}
+	 */
+	public int getFullRefreshInterval() {
+		return fullRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #fullRefreshInterval} value
+	 *
+	 * @param fullRefreshInterval new value of {@link #fullRefreshInterval}
+	 */
+	public void setFullRefreshInterval(int fullRefreshInterval) {
+		this.fullRefreshInterval = Math.max(1, fullRefreshInterval);
+	}
+
+	/**
+	 * Retrieves base URL of Directory API, empty when the configured adapter host is used
+	 *
+	 * @return base URL of Directory API
+	 */
+	public String getDirectoryBaseUrl() {
+		return endpointRegistry.getBaseUrl(ApiServiceEnum.DIRECTORY);
+	}
+
+	/**
+	 * Sets base URL of Directory API, empty uses the configured adapter host
+	 *
+	 * @param directoryBaseUrl base URL of Directory API
+	 */
+	public void setDirectoryBaseUrl(String directoryBaseUrl) {
+		endpointRegistry.setBaseUrl(ApiServiceEnum.DIRECTORY, directoryBaseUrl);
+	}
+
+	/**
+	 * Retrieves base URL of Chrome Management API
+	 *
+	 * @return base URL of Chrome Management API
+	 */
+	public String getChromeManagementBaseUrl() {
+		return endpointRegistry.getBaseUrl(ApiServiceEnum.CHROME_MANAGEMENT);
+	}
+
+	/**
+	 * Sets base URL of Chrome Management API, empty restores https://chromemanagement.googleapis.com
+	 *
+	 * @param chromeManagementBaseUrl base URL of Chrome Management API
+	 */
+	public void setChromeManagementBaseUrl(String chromeManagementBaseUrl) {
+		endpointRegistry.setBaseUrl(ApiServiceEnum.CHROME_MANAGEMENT, chromeManagementBaseUrl);
+	}
+
+	/**
+	 * Retrieves base URL of OAuth2 API
+	 *
+	 * @return base URL of OAuth2 API
+	 */
+	public String getOauth2BaseUrl() {
+		return endpointRegistry.getBaseUrl(ApiServiceEnum.OAUTH2);
+	}
+
+	/**
+	 * Sets base URL of OAuth2 API, empty restores https://oauth2.googleapis.com
+	 *
+	 * @param oauth2BaseUrl base URL of OAuth2 API
+	 */
+	public void setOauth2BaseUrl(String oauth2BaseUrl) {
+		endpointRegistry.setBaseUrl(ApiServiceEnum.OAUTH2, oauth2BaseUrl);
+	}
+
+	/**
+	 * Retrieves {@link #sharedCache}
+	 *
+	 * @return value of {@link #sharedCache}
+	 */
+	public boolean isSharedCache() {
+		return sharedCache;
+	}
+
+	/**
+	 * Sets {@link #sharedCache} value
+	 *
+	 * @param sharedCache new value of {@link #sharedCache}
+	 */
+	public void setSharedCache(boolean sharedCache) {
+		this.sharedCache = sharedCache;
+	}
+
+	/**
+	 * Retrieves {@link #sharedCacheTtl}
+	 *
+	 * @return value of {@link #sharedCacheTtl}
+	 */
+	public int getSharedCacheTtl() {
+		return sharedCacheTtl;
+	}
+
+	/**
+	 * Sets {@link #sharedCacheTtl} value
+	 *
+	 * @param sharedCacheTtl new value of {@link #sharedCacheTtl}
+	 */
+	public void setSharedCacheTtl(int sharedCacheTtl) {
+		this.sharedCacheTtl = Math.max(1, sharedCacheTtl);
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #metricHistorySize}
+	 *
+	 * @return value of {@link #metricHistorySize}
+	 */
+	public int getMetricHistorySize() {
+		return metricHistorySize;
+	}
+
+	/**
+	 * Sets {@link #metricHistorySize} value
+	 * Existing history is dropped, since buffers of a different capacity cannot be reused.
+	 *
+	 * @param metricHistorySize new value of {@link #metricHistorySize}
+	 */
+	public void setMetricHistorySize(int metricHistorySize) {
+		this.metricHistorySize = Math.max(0, metricHistorySize);
+		deviceMetricHistories.clear();
+	}
+
+	/**
+	 * Retrieves historical properties of {@link #historicalPropertyRouter}
+	 *
+	 * @return comma separated historical properties
+	 */
+	public String getHistoricalProperties() {
+		return String.join(GoogleWorkspaceConstant.COMMA, this.historicalPropertyRouter.getProperties());
+	}
+
+	/**
+	 * Sets historical properties, compiling them into {@link #historicalPropertyRouter}
+	 *
+	 * @param historicalProperties comma separated property names
+	 */
+	public void setHistoricalProperties(String historicalProperties) {
+		this.historicalPropertyRouter = HistoricalPropertyRouter.compile(historicalProperties);
+	}
+
+	/**
+	 * Sets {@link #currentOrgUnitName} value
+	 *
+	 * @param currentOrgUnitName new value of {@link #currentOrgUnitName}
+	 */
+	public void setCurrentOrgUnitName(String currentOrgUnitName) {
+		this.currentOrgUnitName = currentOrgUnitName;
+	}
+
+	/**
+	 * Retrieves {@link #filterSerialNumber}
+	 *
+	 * @return value of {@link #filterSerialNumber}
+	 */
+	public String getFilterSerialNumber() {
+		return filterSerialNumber;
+	}
+
+	/**
+	 * Sets {@link #filterSerialNumber} value
+	 *
+	 * @param filterSerialNumber new value of {@link #filterSerialNumber}
+	 */
+	public void setFilterSerialNumber(String filterSerialNumber) {
+		this.filterSerialNumber = filterSerialNumber;
+	}
+
+	/**
+	 * Retrieves {@link #filterOrgUnit}
+	 *
+	 * @return value of {@link #filterOrgUnit}
+	 */
+	public String getFilterOrgUnit() {
+		return filterOrgUnit;
+	}
+
+	/**
+	 * Sets {@link #filterOrgUnit} value
+	 *
+	 * @param filterOrgUnit new value of {@link #filterOrgUnit}
+	 */
+	public void setFilterOrgUnit(String filterOrgUnit) {
+		this.filterOrgUnit = filterOrgUnit;
+	}
+
+	/**
+	 * Retrieves {@link #filterModel}
+	 *
+	 * @return value of {@link #filterModel}
+	 */
+	public String getFilterModel() {
+		return filterModel;
+	}
+
+	/**
+	 * Sets {@link #filterModel} value
+	 *
+	 * @param filterModel new value of {@link #filterModel}
+	 */
+	public void setFilterModel(String filterModel) {
+		this.filterModel = filterModel;
+	}
+
+	/**
+	 * Retrieves {@link #filterStatus}
+	 *
+	 * @return value of {@link #filterStatus}
+	 */
+	public String getFilterStatus() {
+		return filterStatus;
+	}
+
+	/**
+	 * Sets {@link #filterStatus} value
+	 *
+	 * @param filterStatus new value of {@link #filterStatus}
+	 */
+	public void setFilterStatus(String filterStatus) {
+		this.filterStatus = filterStatus;
+	}
+
+	/**
+	 * Update the status of the device.
+	 * The device is considered as paused if did not receive any retrieveMultipleStatistics()
+	 * calls during {@link GoogleWorkspaceCommunicator}
+	 */
+	private synchronized void updateAggregatorStatus() {
+		devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
+	}
+
+	/**
+	 * Uptime time stamp to valid one
+	 */
+	private synchronized void updateValidRetrieveStatisticsTimestamp() {
+		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
+		updateAggregatorStatus();
+	}
+
+	/**
+	 * Constructs a new instance of the GoogleWorkspaceCommunicator class.
+	 * This constructor initializes the communicator with the necessary components and settings to interact with Google Workspace.
+	 *
+	 * @throws IOException if an I/O error occurs during the initialization process.
+	 */
+	public GoogleWorkspaceCommunicator() throws IOException {
+		adapterProperties = new Properties();
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(GoogleWorkspaceConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
+		this.setTrustAllCertificates(true);
+		// Directory, Chrome Management and OAuth2 hosts share one pool, connections are kept alive between polls
+		this.setMaxConnectionsPerRoute(GoogleWorkspaceConstant.DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+		this.setMaxConnectionsTotal(GoogleWorkspaceConstant.DEFAULT_MAX_CONNECTIONS_TOTAL);
+		this.setEvictExpiredConnections(true);
+		this.setEvictIdleConnections(true);
+		this.setConnectionsMaxIdleTime(GoogleWorkspaceConstant.DEFAULT_CONNECTIONS_MAX_IDLE_TIME);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (isInitialized()) {
+			long pingResultTotal = 0L;
+
+			for (int i = 0; i < this.getPingAttempts(); i++) {
+				long startTime = System.currentTimeMillis();
+
+				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
+					puSocketConnection.setSoTimeout(this.getPingTimeout());
+					if (puSocketConnection.isConnected()) {
+						long pingResult = System.currentTimeMillis() - startTime;
+						pingResultTotal += pingResult;
+						if (this.logger.isTraceEnabled()) {
+							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
+						}
+					} else {
+						if (this.logger.isDebugEnabled()) {
+							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+						}
+						return this.getPingTimeout();
+					}
+				} catch (SocketTimeoutException | ConnectException tex) {
+					throw new RuntimeException("Socket connection timed out", tex);
+				} catch (Exception e) {
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+					}
+					return this.getPingTimeout();
+				}
+			}
+			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+		} else {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		reentrantLock.lock();
+		try {
+			if (!checkValidApiToken()) {
+				throw new ResourceNotReachableException("API Token cannot be null or empty, please enter valid API token in the password and username field.");
+			}
+			Map<String, String> statistics = new HashMap<>();
+			Map<String, String> dynamicStatistics = new HashMap<>();
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			retrieveMetadata(statistics, dynamicStatistics);
+			cycleDeadline = getCycleDeadline();
+			retrieveCustomerId();
+			if (StringUtils.isNotNullOrEmpty(customerId)) {
+				long fetchStart = System.currentTimeMillis();
+				retrieveSystemInfo();
+				collectFleetReports();
+				adapterMetrics.recordStage(CycleStageEnum.FETCH, System.currentTimeMillis() - fetchStart);
+				populateSystemData(statistics, advancedControllableProperties);
+				populateFleetReports(statistics);
+			} else {
+				populateNoneData(statistics);
+			}
+			populateStaleData(statistics, dynamicStatistics);
+			extendedStatistics.setStatistics(statistics);
+			extendedStatistics.setDynamicStatistics(dynamicStatistics);
+			extendedStatistics.setControllableProperties(advancedControllableProperties);
+			localExtendedStatistics = extendedStatistics;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		reentrantLock.lock();
+		try {
+			String value = String.valueOf(controllableProperty.getValue());
+			String property = controllableProperty.getProperty();
+			switch (property) {
+				case "OrganizationalUnits#Name":
+					currentOrgUnitName = value;
+					break;
+				default:
+					logger.debug(String.format("Property name %s doesn't support", property));
+			}
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		for (ControllableProperty p : controllableProperties) {
+			try {
+				controlProperty(p);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		long publishStart = System.currentTimeMillis();
+		try {
+			List<AggregatedDevice> cachedDevices = retrieveCachedDevices();
+			if (publicationShardSize <= 0 || cachedDevices.isEmpty()) {
+				List<AggregatedDevice> aggregatedDevices = cachedDevices.isEmpty() ? cachedDevices : cloneAndPopulateAggregatedDeviceList(cachedDevices);
+				if (deltaPublication && !aggregatedDevices.isEmpty()) {
+					return deltaPublicationTracker.filterChanged(aggregatedDevices, fullRefreshInterval * 60000L);
+				}
+				return aggregatedDevices;
+			}
+			Set<String> knownDeviceIds = new HashSet<>();
+			cachedDevices.forEach(aggregatedDevice -> knownDeviceIds.add(aggregatedDevice.getDeviceId()));
+			List<AggregatedDevice> shard = publicationSharder.nextShard(cachedDevices, publicationShardSize, ShardPartitionEnum.getByName(publicationShardBy));
+			List<AggregatedDevice> aggregatedDevices = cloneAndPopulateAggregatedDeviceList(shard);
+			if (deltaPublication) {
+				return deltaPublicationTracker.filterChanged(aggregatedDevices, fullRefreshInterval * 60000L, knownDeviceIds);
+			}
+			return aggregatedDevices;
+		} finally {
+			adapterMetrics.recordStage(CycleStageEnum.PUBLISH, System.currentTimeMillis() - publishStart);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+		Set<String> deviceIds = new HashSet<>(list);
+		List<AggregatedDevice> cachedDevices = retrieveCachedDevices().stream().filter(aggregatedDevice -> deviceIds.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+		return cachedDevices.isEmpty() ? cachedDevices : cloneAndPopulateAggregatedDeviceList(cachedDevices);
+	}
+
+	/**
+	 * Triggers devices collection and retrieves cached devices matching the configured filters, without mapping their properties.
+	 *
+	 * @return list of cached aggregated devices
+	 */
+	private List<AggregatedDevice> retrieveCachedDevices() {
+		if (!orgUnitList.isEmpty()) {
+			if (checkValidApiToken()) {
+				if (executorService == null) {
+					executorService = Executors.newFixedThreadPool(1);
+					executorService.submit(deviceDataLoader = new GoogleWorkspaceDataLoader());
+				}
+				nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
+				updateValidRetrieveStatisticsTimestamp();
+			}
+			return selectFilteredDevices();
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected void authenticate() throws Exception {
+		// Google Workspace only require API token for each request.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		adapterInitializationTimestamp = System.currentTimeMillis();
+		restoreInventorySnapshot();
+		restorePaginationCheckpoints();
+		registerAdapterMetrics();
+		if (sharedCache) {
+			tenantCache = SharedTenantCache.acquire(buildTenantKey());
+		}
+		executorService = Executors.newFixedThreadPool(1);
+		executorService.submit(deviceDataLoader = new GoogleWorkspaceDataLoader());
+		super.internalInit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (deviceDataLoader != null) {
+			deviceDataLoader.stop();
+			deviceDataLoader = null;
+		}
+
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		devicePagePrefetcher.clear();
+		telemetryPagePrefetcher.clear();
+		directoryRequestPrefetchers.values().forEach(PagePrefetcher::clear);
+		directoryRequestPrefetchers.clear();
+		parentOrgUnitId = null;
+		parentOrgUnitResponse = null;
+		synchronized (this) {
+			if (pipelineExecutorService != null) {
+				pipelineExecutorService.shutdownNow();
+				pipelineExecutorService = null;
+			}
+		}
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
+			localExtendedStatistics.getStatistics().clear();
+			localExtendedStatistics.getControllableProperties().clear();
+		}
+		orgUnitList.clear();
+		orgUnitNameList.clear();
+		nextDevicesCollectionIterationTimestamp = 0;
+		aggregatedDeviceList.clear();
+		deviceMetricHistories.clear();
+		snapshotDeviceIds.clear();
+		deviceEvictionTracker.clear();
+		deviceQuarantine.clear();
+		circuitBreakers.clear();
+		collectionScheduler.reset();
+		sweepDeferred = false;
+		sweepPage = false;
+		lastSweepPage = false;
+		tieredRefreshScheduler.reset();
+		nextFullSweepTimestamp = 0;
+		nextTokenActiveTier = GoogleWorkspaceConstant.EMPTY;
+		servingStaleData = false;
+		lastSuccessfulRefreshTimestamp = 0;
+		parentOrgUnitNames.clear();
+		resolvedOrgUnitParents = null;
+		inventorySnapshotStore = null;
+		paginationCheckpointStore = null;
+		pooledHttpClient = null;
+		connectionPoolMonitor.attach(null);
+		deltaPublicationTracker.reset();
+		publicationSharder.reset();
+		lastFleetReportsTimestamp = 0;
+		unregisterAdapterMetrics();
+		if (tenantCache != null) {
+			SharedTenantCache.release(tenantCache);
+			tenantCache = null;
+		}
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * JSON GET requests are coalesced by URI, so concurrent callers of the same endpoint share one HTTP request.
+	 * With {@link #sharedCache} enabled they are answered from the cache shared with other instances monitoring the same tenant.
+	 */
+	@Override
+	protected <Response> Response doGet(String uri, Class<Response> responseClass) throws Exception {
+		if (!JsonNode.class.equals(responseClass)) {
+			return executePooled(uri, () -> super.doGet(uri, responseClass));
+		}
+		SharedTenantCache cache = tenantCache;
+		if (cache != null) {
+			return responseClass.cast(cache.get(uri, sharedCacheTtl * 1000L, () -> executePooled(uri, () -> doGetCompressed(uri))));
+		}
+		return responseClass.cast(requestSingleFlight.execute(uri, () -> executePooled(uri, () -> doGetCompressed(uri))));
+	}
+
+	/**
+	 * Performs a JSON GET request negotiating gzip/deflate response compression.
+	 * Transparent decompression of the HTTP client is disabled for this request, so the body is decoded by
+	 * {@link #compressionMonitor} as a stream fed directly into the JSON parser while both byte counts are recorded.
+	 * The time the parser spends blocked on the network is subtracted, so the parse stage covers decoding and parsing only.
+	 *
+	 * @param uri request URI, relative to the configured host or absolute
+	 * @return response body
+	 * @throws Exception if the request fails or the response status is not successful
+	 */
+	private JsonNode doGetCompressed(String uri) throws Exception {
+		HttpGet request = new HttpGet(buildRequestUrl(uri));
+		request.setConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(getTimeout()))
+				.setResponseTimeout(Timeout.ofMilliseconds(getTimeout()))
+				.setContentCompressionEnabled(false)
+				.build());
+		request.setHeader(HttpHeaders.AUTHORIZATION, GoogleWorkspaceConstant.BEARER + apiToken);
+		request.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+		request.setHeader(HttpHeaders.ACCEPT_ENCODING, GoogleWorkspaceConstant.ACCEPT_ENCODING_GZIP_DEFLATE);
+		return obtainPooledHttpClient().execute(request, response -> {
+			HttpEntity entity = response.getEntity();
+			if (response.getCode() >= 400) {
+				EntityUtils.consume(entity);
+				throw new HttpStatusException(uri, response.getCode());
+			}
+			if (entity == null) {
+				return objectMapper.createObjectNode();
+			}
+			EndpointMetrics endpointMetrics = adapterMetrics.getEndpointMetrics(ApiEndpointEnum.fromUri(uri));
+			ReadTimingInputStream rawContent = new ReadTimingInputStream(new CountingInputStream(entity.getContent(), endpointMetrics.getBytes()));
+			try (InputStream content = compressionMonitor.decode(rawContent, entity.getContentEncoding())) {
+				long parseStart = System.nanoTime();
+				long readNanos = rawContent.getReadNanos();
+				JsonNode body = objectMapper.readTree(content);
+				long parseNanos = System.nanoTime() - parseStart - (rawContent.getReadNanos() - readNanos);
+				adapterMetrics.recordStage(CycleStageEnum.PARSE, TimeUnit.NANOSECONDS.toMillis(Math.max(0, parseNanos)));
+				return body;
+			}
+		});
+	}
+
+	/**
+	 * Exchanges the refresh token for an access token through the pooled HTTP client, so the bytes of the
+	 * response are recorded for the OAuth endpoint the same way as for other endpoints.
+	 *
+	 * @param uri token endpoint URI
+	 * @param params token request parameters, sent as JSON body
+	 * @return token response
+	 * @throws Exception if the request fails or the response status is not successful
+	 */
+	private JsonNode doPostToken(String uri, Map<String, String> params) throws Exception {
+		return executePooled(uri, () -> {
+			HttpPost request = new HttpPost(buildRequestUrl(uri));
+			request.setConfig(RequestConfig.custom()
+					.setConnectionRequestTimeout(Timeout.ofMilliseconds(getTimeout()))
+					.setResponseTimeout(Timeout.ofMilliseconds(getTimeout()))
+					.build());
+			request.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+			request.setEntity(new ByteArrayEntity(objectMapper.writeValueAsBytes(params), ContentType.APPLICATION_JSON));
+			return obtainPooledHttpClient().execute(request, response -> {
+				HttpEntity entity = response.getEntity();
+				byte[] content = entity != null ? EntityUtils.toByteArray(entity) : new byte[0];
+				adapterMetrics.getEndpointMetrics(ApiEndpointEnum.OAUTH).getBytes().addAndGet(content.length);
+				if (response.getCode() >= 400) {
+					logger.error(String.format("Token request failed with status code %s: %s", response.getCode(), new String(content, StandardCharsets.UTF_8)));
+					throw new HttpStatusException(uri, response.getCode());
+				}
+				return content.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(content);
+			});
+		});
+	}
+
+	/**
+	 * Retrieves the pooled HTTP client of {@link RestCommunicator}, obtaining it once.
+	 *
+	 * @return pooled HTTP client
+	 * @throws Exception if the client cannot be created
+	 */
+	private HttpClient obtainPooledHttpClient() throws Exception {
+		HttpClient httpClient = pooledHttpClient;
+		if (httpClient == null) {
+			httpClient = obtainHttpClient(false);
+			pooledHttpClient = httpClient;
+			if (!connectionPoolMonitor.attach(httpClient)) {
+				logger.warn("Connection pool statistics are not available, requests in flight are reported as leased connections");
+			}
+		}
+		return httpClient;
+	}
+
+	/**
+	 * Builds request URL the same way {@link RestCommunicator} does: absolute URLs are used as they are,
+	 * relative ones are resolved against protocol, host, port and base URI.
+	 *
+	 * @param uri request URI
+	 * @return request URL
+	 */
+	private String buildRequestUrl(String uri) {
+		if (uri.startsWith(GoogleWorkspaceConstant.HTTP_SCHEME_PREFIX) || uri.startsWith(GoogleWorkspaceConstant.HTTPS_SCHEME_PREFIX)) {
+			return uri;
+		}
+		StringBuilder url = new StringBuilder().append(getProtocol()).append("://").append(getHost()).append(GoogleWorkspaceConstant.COLON).append(getPort());
+		String baseUri = getBaseUri();
+		if (StringUtils.isNotNullOrEmpty(baseUri)) {
+			if (!baseUri.startsWith(GoogleWorkspaceConstant.SLASH)) {
+				url.append(GoogleWorkspaceConstant.SLASH);
+			}
+			url.append(baseUri);
+		}
+		return url.append(uri).toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void disconnect() throws Exception {
+		pooledHttpClient = null;
+		connectionPoolMonitor.attach(null);
+		super.disconnect();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected <Request, Response> Response doPost(String uri, Request data, Class<Response> responseClass) throws Exception {
+		return executePooled(uri, () -> super.doPost(uri, data, responseClass));
+	}
+
+	/**
+	 * Executes a request through the pooled HTTP client, tracking pool utilization and metrics of the requested endpoint.
+	 *
+	 * @param uri request URI, used to find the endpoint the request belongs to
+	 * @param request request to execute
+	 * @param <Response> type of the response
+	 * @return response of the request
+	 * @throws Exception if the request fails
+	 */
+	private <Response> Response executePooled(String uri, Callable<Response> request) throws Exception {
+		ApiEndpointEnum endpoint = ApiEndpointEnum.fromUri(uri);
+		CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(endpoint, key -> new CircuitBreaker());
+		if (!circuitBreaker.allowRequest(circuitBreakerThreshold, circuitBreakerCooldown * 1000L, System.currentTimeMillis())) {
+			throw new CircuitOpenException(endpoint.getName());
+		}
+		EndpointMetrics endpointMetrics = adapterMetrics.getEndpointMetrics(endpoint);
+		boolean failed = true;
+		long requestStart = System.currentTimeMillis();
+		connectionPoolMonitor.lease();
+		try {
+			Response response = request.call();
+			failed = false;
+			circuitBreaker.recordSuccess();
+			return response;
+		} catch (Exception e) {
+			HttpStatusException statusException = findHttpStatusException(e);
+			if (statusException != null && !statusException.isRetryable()) {
+				// the endpoint answered, the request itself was rejected
+				circuitBreaker.recordSuccess();
+			} else {
+				circuitBreaker.recordFailure(circuitBreakerThreshold, System.currentTimeMillis());
+			}
+			throw e;
+		} finally {
+			connectionPoolMonitor.release();
+			endpointMetrics.record(System.currentTimeMillis() - requestStart, failed);
+		}
+	}
+
+	/**
+	 * Builds key of the monitored tenant for the shared cache. Credentials are part of the key, so instances using
+	 * different credentials never see each other's responses.
+	 *
+	 * @return SHA-256 hex digest of API locations and credentials
+	 * @throws NoSuchAlgorithmException if SHA-256 is not available
+	 */
+	private String buildTenantKey() throws NoSuchAlgorithmException {
+		String identity = String.join(GoogleWorkspaceConstant.COMMA, getProtocol(), getHost(), String.valueOf(getPort()), String.valueOf(getBaseUri()),
+				getDirectoryBaseUrl(), getChromeManagementBaseUrl(), getOauth2BaseUrl(), getLogin(), getPassword());
+		byte[] digest = MessageDigest.getInstance(GoogleWorkspaceConstant.SHA_256).digest(identity.getBytes(StandardCharsets.UTF_8));
+		StringBuilder tenantKey = new StringBuilder();
+		for (byte value : digest) {
+			tenantKey.append(String.format("%02x", value));
+		}
+		return tenantKey.toString();
+	}
+
+	/**
+	 * Registers {@link #adapterMetrics} as a JMX MBean when {@link #jmxMetricsEnabled} is set.
+	 * Registration failures are logged only, the adapter keeps working without the MBean.
+	 */
+	private void registerAdapterMetrics() {
+		if (!jmxMetricsEnabled) {
+			return;
+		}
+		try {
+			ObjectName objectName = new ObjectName(String.format(GoogleWorkspaceConstant.ADAPTER_METRICS_OBJECT_NAME, ObjectName.quote(getHost()),
+					Integer.toHexString(System.identityHashCode(this))));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(adapterMetrics, objectName);
+			adapterMetricsObjectName = objectName;
+		} catch (Exception e) {
+			logger.warn("Unable to register adapter metrics MBean", e);
+		}
+	}
+
+	/**
+	 * Unregisters {@link #adapterMetrics} MBean if it was registered.
+	 */
+	private void unregisterAdapterMetrics() {
+		if (adapterMetricsObjectName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(adapterMetricsObjectName);
+		} catch (Exception e) {
+			logger.warn("Unable to unregister adapter metrics MBean", e);
+		}
+		adapterMetricsObjectName = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * set Bearer Token into Header of Request
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
+		headers.setBearerAuth(apiToken);
+		headers.set(HttpHeaders.ACCEPT_ENCODING, GoogleWorkspaceConstant.ACCEPT_ENCODING_GZIP_DEFLATE);
+		return headers;
+	}
+
+	/**
+	 * Retrieves metadata information and updates the provided statistics and dynamic map.
+	 *
+	 * @param stats the map where statistics will be stored
+	 * @param dynamicStatistics the map where dynamic statistics will be stored
+	 */
+	private void retrieveMetadata(Map<String, String> stats, Map<String, String> dynamicStatistics) {
+		try {
+			dynamicStatistics.put(GoogleWorkspaceConstant.MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
+			stats.put(GoogleWorkspaceConstant.ADAPTER_VERSION,
+					getDefaultValueForNullData(adapterProperties.getProperty("aggregator.version")));
+			stats.put(GoogleWorkspaceConstant.ADAPTER_BUILD_DATE,
+					getDefaultValueForNullData(adapterProperties.getProperty("aggregator.build.date")));
+			long adapterUptime = System.currentTimeMillis() - adapterInitializationTimestamp;
+
+			stats.put(GoogleWorkspaceConstant.ADAPTER_UPTIME_MIN, String.valueOf(adapterUptime / (1000 * 60)));
+			stats.put(GoogleWorkspaceConstant.ADAPTER_UPTIME, normalizeUptime(adapterUptime / 1000));
+			try{
+				stats.put(GoogleWorkspaceConstant.SYSTEM_MONITORING_CYCLE, String.valueOf(getMonitoringRate()));
+			}catch (NoSuchMethodError error){
+				logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", error);
+			}
+			dynamicStatistics.put(GoogleWorkspaceConstant.MONITORED_DEVICES_TOTAL, String.valueOf(aggregatedDeviceList.size()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.DEVICE_STORE_EVICTED, String.valueOf(deviceEvictionTracker.getEvicted()));
+			populateDataAge(dynamicStatistics);
+			dynamicStatistics.put(GoogleWorkspaceConstant.DEVICE_STORE_COMPLETED_SWEEPS, String.valueOf(deviceEvictionTracker.getCompletedSweeps()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.COALESCED_REQUESTS_HITS, String.valueOf(requestSingleFlight.getHits() + tokenSingleFlight.getHits()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.COALESCED_REQUESTS_MISSES, String.valueOf(requestSingleFlight.getMisses() + tokenSingleFlight.getMisses()));
+			long wireBytes = compressionMonitor.getWireBytes();
+			long decodedBytes = compressionMonitor.getDecodedBytes();
+			dynamicStatistics.put(GoogleWorkspaceConstant.RESPONSE_WIRE_BYTES, String.valueOf(wireBytes));
+			dynamicStatistics.put(GoogleWorkspaceConstant.RESPONSE_DECODED_BYTES, String.valueOf(decodedBytes));
+			dynamicStatistics.put(GoogleWorkspaceConstant.RESPONSE_COMPRESSION_RATIO, String.valueOf(decodedBytes == 0 ? 100 : wireBytes * 100 / decodedBytes));
+			dynamicStatistics.put(GoogleWorkspaceConstant.CONNECTION_POOL_LEASED, String.valueOf(connectionPoolMonitor.getLeased()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.CONNECTION_POOL_PEAK_LEASED, String.valueOf(connectionPoolMonitor.getAndResetPeakLeased()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.CONNECTION_POOL_PENDING, String.valueOf(connectionPoolMonitor.getPending()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.CONNECTION_POOL_UTILIZATION,
+					String.valueOf(connectionPoolMonitor.getLeased() * 100 / Math.max(1, connectionPoolMonitor.getMax(getMaxConnectionsTotal()))));
+			adapterMetrics.populateStatistics(dynamicStatistics);
+			SharedTenantCache cache = tenantCache;
+			if (cache != null) {
+				dynamicStatistics.put(GoogleWorkspaceConstant.SHARED_CACHE_HITS, String.valueOf(cache.getHits()));
+				dynamicStatistics.put(GoogleWorkspaceConstant.SHARED_CACHE_MISSES, String.valueOf(cache.getMisses()));
+			}
+			if (directoryBatchQueue.getBatches() > 0) {
+				dynamicStatistics.put(GoogleWorkspaceConstant.DIRECTORY_BATCH_BATCHES, String.valueOf(directoryBatchQueue.getBatches()));
+				dynamicStatistics.put(GoogleWorkspaceConstant.DIRECTORY_BATCH_REQUESTS, String.valueOf(directoryBatchQueue.getRequests()));
+				dynamicStatistics.put(GoogleWorkspaceConstant.DIRECTORY_BATCH_FILL_RATIO, String.valueOf(directoryBatchQueue.getFillRatio()));
+			}
+			if (publicationShardSize > 0) {
+				dynamicStatistics.put(GoogleWorkspaceConstant.PUBLICATION_SHARD_CURRENT, String.valueOf(publicationSharder.getCurrentShard() + 1));
+				dynamicStatistics.put(GoogleWorkspaceConstant.PUBLICATION_SHARD_TOTAL, String.valueOf(publicationSharder.getShardCount()));
+			}
+			dynamicStatistics.put(GoogleWorkspaceConstant.PIPELINE_MAP_QUEUE_PEAK_DEPTH, String.valueOf(mapQueuePeakDepth));
+			dynamicStatistics.put(GoogleWorkspaceConstant.PIPELINE_PUBLISH_QUEUE_PEAK_DEPTH, String.valueOf(publishQueuePeakDepth));
+			if (pagePrefetch) {
+				dynamicStatistics.put(GoogleWorkspaceConstant.PIPELINE_PREFETCH_HITS, String.valueOf(devicePagePrefetcher.getHits() + telemetryPagePrefetcher.getHits()));
+				dynamicStatistics.put(GoogleWorkspaceConstant.PIPELINE_PREFETCH_MISSES, String.valueOf(devicePagePrefetcher.getMisses() + telemetryPagePrefetcher.getMisses()));
+			}
+			if (cycleTimeBudget > 0) {
+				dynamicStatistics.put(GoogleWorkspaceConstant.CYCLE_BUDGET_EXCEEDED, String.valueOf(cycleBudgetExceeded.get()));
+			}
+			dynamicStatistics.put(GoogleWorkspaceConstant.PAGINATION_RETRIES, String.valueOf(paginationRetries.get()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.PAGINATION_RESTARTED_SWEEPS, String.valueOf(paginationRestartedSweeps.get()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.QUARANTINE_DEVICES, String.valueOf(deviceQuarantine.size()));
+			dynamicStatistics.put(GoogleWorkspaceConstant.QUARANTINE_TOTAL, String.valueOf(deviceQuarantine.getQuarantined()));
+			if (deviceQuarantine.size() > 0) {
+				stats.put(GoogleWorkspaceConstant.QUARANTINE_DEVICE_IDS,
+						String.join(GoogleWorkspaceConstant.COMMA, deviceQuarantine.getDeviceIds(GoogleWorkspaceConstant.QUARANTINE_REPORTED_DEVICE_IDS)));
+			}
+			deviceQuarantine.getFieldErrors().forEach((field, count) -> dynamicStatistics.put(GoogleWorkspaceConstant.MAPPING_ERRORS_GROUP + field, String.valueOf(count)));
+			if (tieredRefresh) {
+				for (RefreshTierEnum tier : RefreshTierEnum.values()) {
+					dynamicStatistics.put(GoogleWorkspaceConstant.REFRESH_TIER_GROUP + tier.getName() + GoogleWorkspaceConstant.REFRESH_TIER_REFRESHED,
+							String.valueOf(tieredRefreshScheduler.getRefreshed(tier)));
+				}
+				dynamicStatistics.put(GoogleWorkspaceConstant.REFRESH_TIER_SKIPPED, String.valueOf(tieredRefreshScheduler.getSkipped()));
+			}
+			if (adaptiveCollection) {
+				dynamicStatistics.put(GoogleWorkspaceConstant.ADAPTIVE_COLLECTION_INTERVAL, String.valueOf(collectionScheduler.getInterval() / 1000));
+				dynamicStatistics.put(GoogleWorkspaceConstant.ADAPTIVE_COLLECTION_CHURN, String.valueOf(collectionScheduler.getLastChurnPercent()));
+			}
+			if (circuitBreakerThreshold > 0) {
+				long rejectedRequests = 0;
+				for (Map.Entry<ApiEndpointEnum, CircuitBreaker> entry : circuitBreakers.entrySet()) {
+					stats.put(GoogleWorkspaceConstant.CIRCUIT_BREAKER_GROUP + entry.getKey().getName(), entry.getValue().getState().getName());
+					rejectedRequests += entry.getValue().getRejected();
+				}
+				dynamicStatistics.put(GoogleWorkspaceConstant.CIRCUIT_BREAKER_REJECTED, String.valueOf(rejectedRequests));
+			}
+		} catch (Exception e) {
+			logger.error("Failed to populate metadata information", e);
+		}
+	}
+
+	/**
+	 * Populates whether cached organizational units and devices are served because the last poll failed,
+	 * together with the time since they were last refreshed from Google API.
+	 *
+	 * @param statistics the map where statistics will be stored
+	 * @param dynamicStatistics the map where dynamic statistics will be stored
+	 */
+	private void populateStaleData(Map<String, String> statistics, Map<String, String> dynamicStatistics) {
+		statistics.put(GoogleWorkspaceConstant.SERVING_STALE_DATA, String.valueOf(servingStaleData));
+		if (servingStaleData && lastSuccessfulRefreshTimestamp > 0) {
+			dynamicStatistics.put(GoogleWorkspaceConstant.STALE_DATA_AGE, String.valueOf(Math.max(0, System.currentTimeMillis() - lastSuccessfulRefreshTimestamp) / 1000));
+		}
+	}
+
+	/**
+	 * Populates the age of the cached device data, measured from the last time each device was collected.
+	 *
+	 * @param dynamicStatistics the map where dynamic statistics will be stored
+	 */
+	private void populateDataAge(Map<String, String> dynamicStatistics) {
+		long now = System.currentTimeMillis();
+		long maxAge = 0;
+		long totalAge = 0;
+		int count = 0;
+		synchronized (aggregatedDeviceList) {
+			for (AggregatedDevice aggregatedDevice : aggregatedDeviceList) {
+				if (aggregatedDevice.getTimestamp() != null) {
+					long age = Math.max(0, now - aggregatedDevice.getTimestamp());
+					maxAge = Math.max(maxAge, age);
+					totalAge += age;
+					count++;
+				}
+			}
+		}
+		if (count > 0) {
+			dynamicStatistics.put(GoogleWorkspaceConstant.DATA_AGE_MAX, String.valueOf(maxAge / 1000));
+			dynamicStatistics.put(GoogleWorkspaceConstant.DATA_AGE_AVG, String.valueOf(totalAge / count / 1000));
+		}
+	}
+
+	/**
+	 * Get customer id from command
+	 */
+	private void retrieveCustomerId() {
+		try {
+			JsonNode usersResponse = fetchWithinBudget(endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.USER_COMMAND), cycleDeadline);
+			if (usersResponse.has(GoogleWorkspaceConstant.USERS) && usersResponse.get(GoogleWorkspaceConstant.USERS).size() > 0) {
+				customerId = usersResponse.get(GoogleWorkspaceConstant.USERS).get(0).get(GoogleWorkspaceConstant.CUSTOMER_ID).asText();
+			} else {
+				customerId = GoogleWorkspaceConstant.EMPTY;
+			}
+		} catch (TimeoutException e) {
+			cycleBudgetExceeded.incrementAndGet();
+			logger.warn(String.format("Customer id was not retrieved within the cycle time budget of %s seconds", cycleTimeBudget));
+		} catch (Exception e) {
+			// the customer id of a tenant does not change, the previous one keeps the cached data served until Google API recovers
+			servingStaleData = StringUtils.isNotNullOrEmpty(customerId);
+			logger.error(String.format("Error when get customer id, %s", e));
+		}
+	}
+
+	/**
+	 * Get system information of GoogleWorkspace
+	 */
+	private void retrieveSystemInfo() {
+		long deadline = cycleDeadline;
+		JsonNode previousFilteredDeviceResponse = filteredDeviceResponse;
+		sweepPage = false;
+		// between sweeps the cached organizational units and devices are served, with tiered refresh only recently synced devices are requested
+		long now = System.currentTimeMillis();
+		boolean fullSweepDue = StringUtils.isNotNullOrEmpty(nextTokenChromeOS) || orgUnitList.isEmpty()
+				|| (!adaptiveCollection || !lastSweepPage && collectionScheduler.isSweepDue(now)) && (!tieredRefresh || now >= nextFullSweepTimestamp);
+		sweepDeferred = !fullSweepDue && !tieredRefresh;
+		if (!fullSweepDue) {
+			aggregatedDeviceResponse = objectMapper.createArrayNode();
+			filteredDeviceResponse = previousFilteredDeviceResponse != null ? previousFilteredDeviceResponse : aggregatedDeviceResponse;
+			if (tieredRefresh) {
+				retrieveActiveTierPage(deadline);
+			}
+			return;
+		}
+		try {
+			JsonNode orgUnitsResponse = fetchWithinBudget(
+					endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.ORG_UNIT_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId)), deadline);
+			// the new list replaces the cached one only once complete, so a failure keeps serving the previous organizational units
+			List<OrgUnit> orgUnits = objectMapper.readValue(orgUnitsResponse.get(GoogleWorkspaceConstant.ORGANIZATION_UNIT).toString(), new TypeReference<List<OrgUnit>>() {
+			});
+			orgUnits.sort(Comparator.comparing(OrgUnit::getName));
+
+			String rootOrgUnitId = orgUnits.get(0).getParentOrgUnitId();
+			if (parentOrgUnitResponse == null || !Objects.equals(parentOrgUnitId, rootOrgUnitId)) {
+				parentOrgUnitResponse = fetchWithinBudget(
+						endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.PARENT_ORG_UNIT_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId))
+								+ rootOrgUnitId, deadline);
+				parentOrgUnitId = rootOrgUnitId;
+			}
+			if (parentOrgUnitResponse != null && parentOrgUnitResponse.has(GoogleWorkspaceConstant.NAME)) {
+				parentOrgUnit = parentOrgUnitResponse.get(GoogleWorkspaceConstant.NAME).asText();
+				orgUnits.add(0, new OrgUnit(parentOrgUnitResponse.get(GoogleWorkspaceConstant.KIND).asText(), parentOrgUnitResponse.get(GoogleWorkspaceConstant.E_TAG).asText(),
+						parentOrgUnitResponse.get(GoogleWorkspaceConstant.NAME).asText(),
+						parentOrgUnitResponse.get(GoogleWorkspaceConstant.DESCRIPTION).asText(), parentOrgUnitResponse.get(GoogleWorkspaceConstant.ORG_UNIT_PATH).asText(),
+						parentOrgUnitResponse.get(GoogleWorkspaceConstant.ORG_UNIT_ID).asText(), GoogleWorkspaceConstant.NONE, GoogleWorkspaceConstant.NONE));
+			}
+			orgUnitList = Collections.synchronizedList(orgUnits);
+			resolveParentOrgUnitNames();
+			if (StringUtils.isNotNullOrEmpty(filterOrgUnit)) {
+				filterOrgUnit = filterOrgUnit.trim();
+			}
+			if (StringUtils.isNotNullOrEmpty(filterSerialNumber)) {
+				filterSerialNumber = filterSerialNumber.trim();
+			}
+			aggregatedDeviceResponse = objectMapper.createObjectNode();
+			filteredDeviceResponse = aggregatedDeviceResponse;
+			// pages are always requested without filters, the whole inventory is cached and filtered locally,
+			// so changing a filter takes effect without a new sweep and instances sharing a tenant walk the same pages
+			String chromeOSCommand = endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.CHROME_OS_COMMAND).replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId)
+					.replace(GoogleWorkspaceConstant.PATH_VARIABLE_ORG_UNIT, GoogleWorkspaceConstant.EMPTY)
+					.replace(GoogleWorkspaceConstant.PATH_VARIABLE_SERIAL_NUMBER, GoogleWorkspaceConstant.EMPTY);
+
+			String chromeOSPageCommand = chromeOSCommand;
+			boolean firstPage = StringUtils.isNullOrEmpty(nextTokenChromeOS);
+			if (!firstPage) {
+				chromeOSPageCommand = chromeOSCommand + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + nextTokenChromeOS;
+			}
+			JsonNode chromeOSResponse;
+			try {
+				chromeOSResponse = fetchPage(devicePagePrefetcher, chromeOSPageCommand, deadline);
+			} catch (TimeoutException e) {
+				// the page token is kept and the request stays in flight, so the next cycle resumes the sweep where it stopped
+				cycleBudgetExceeded.incrementAndGet();
+				aggregatedDeviceResponse = objectMapper.createArrayNode();
+				filteredDeviceResponse = previousFilteredDeviceResponse != null ? previousFilteredDeviceResponse : aggregatedDeviceResponse;
+				logger.warn(String.format("Device page was not retrieved within the cycle time budget of %s seconds, publishing cached devices", cycleTimeBudget));
+				return;
+			}
+			// a page without devices still moves the sweep on, otherwise a fleet that became empty is never swept
+			if (chromeOSResponse.has(GoogleWorkspaceConstant.CHROME_OS_DEVICE) || !chromeOSResponse.has(GoogleWorkspaceConstant.NEXT_TOKEN)) {
+				aggregatedDeviceResponse = chromeOSResponse.has(GoogleWorkspaceConstant.CHROME_OS_DEVICE) ? chromeOSResponse.get(GoogleWorkspaceConstant.CHROME_OS_DEVICE)
+						: objectMapper.createArrayNode();
+				filteredDeviceResponse = filterDevicePage(aggregatedDeviceResponse);
+				sweepPage = true;
+
+				nextTokenChromeOS = GoogleWorkspaceConstant.EMPTY;
+				if (chromeOSResponse.has(GoogleWorkspaceConstant.NEXT_TOKEN)) {
+					nextTokenChromeOS = chromeOSResponse.get(GoogleWorkspaceConstant.NEXT_TOKEN).asText();
+				}
+				markDevicePage(aggregatedDeviceResponse, firstPage, StringUtils.isNullOrEmpty(nextTokenChromeOS));
+				persistPaginationCheckpoints();
+				if (StringUtils.isNullOrEmpty(nextTokenChromeOS)) {
+					lastSweepPage = true;
+					nextFullSweepTimestamp = System.currentTimeMillis() + idleRefreshInterval * 60000L;
+				}
+			}
+			prefetchNextPage(devicePagePrefetcher, chromeOSCommand, nextTokenChromeOS);
+			lastSuccessfulRefreshTimestamp = System.currentTimeMillis();
+			servingStaleData = false;
+		} catch (TimeoutException e) {
+			// organizational units arrive in a later cycle, the cached ones and devices are served meanwhile
+			cycleBudgetExceeded.incrementAndGet();
+			aggregatedDeviceResponse = objectMapper.createArrayNode();
+			filteredDeviceResponse = previousFilteredDeviceResponse != null ? previousFilteredDeviceResponse : aggregatedDeviceResponse;
+			logger.warn(String.format("Organizational units were not retrieved within the cycle time budget of %s seconds, publishing cached devices", cycleTimeBudget));
+		} catch (Exception e) {
+			if (isRejectedPageToken(e, nextTokenChromeOS)) {
+				nextTokenChromeOS = GoogleWorkspaceConstant.EMPTY;
+				persistPaginationCheckpoints();
+			}
+			// cached organizational units and devices keep being served until Google API recovers
+			aggregatedDeviceResponse = objectMapper.createArrayNode();
+			filteredDeviceResponse = previousFilteredDeviceResponse != null ? previousFilteredDeviceResponse : aggregatedDeviceResponse;
+			servingStaleData = !orgUnitList.isEmpty();
+			if (e instanceof CircuitOpenException) {
+				logger.warn(String.format("Serving cached data, %s", e.getMessage()));
+			} else {
+				logger.error(String.format("Error when get system information, %s", e));
+			}
+		}
+	}
+
+	/**
+	 * Retrieves a page of the devices synced since the start of the UTC day of {@link GoogleWorkspaceConstant#ACTIVE_TIER_WINDOW} ago,
+	 * which between full sweeps keeps refreshing the devices whose metrics move. The query only takes a date, so the page also
+	 * lists devices of the idle tier, which are refreshed once their own interval elapsed. The partition is not a sweep,
+	 * so its devices are neither marked for eviction nor counted towards the churn of a sweep.
+	 *
+	 * @param deadline time in milliseconds to stop waiting at, 0 waits without limit
+	 */
+	private void retrieveActiveTierPage(long deadline) {
+		try {
+			String syncDate = DateTimeFormatter.ISO_LOCAL_DATE.withZone(ZoneOffset.UTC)
+					.format(Instant.ofEpochMilli(System.currentTimeMillis() - GoogleWorkspaceConstant.ACTIVE_TIER_WINDOW));
+			String activeTierCommand = endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.CHROME_OS_COMMAND)
+					.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId)
+					.replace(GoogleWorkspaceConstant.PATH_VARIABLE_ORG_UNIT, GoogleWorkspaceConstant.EMPTY)
+					.replace(GoogleWorkspaceConstant.PATH_VARIABLE_SERIAL_NUMBER,
+							URLEncoder.encode(String.format(GoogleWorkspaceConstant.ACTIVE_TIER_QUERY, syncDate), StandardCharsets.UTF_8.name()));
+			String activeTierPageCommand = activeTierCommand;
+			if (StringUtils.isNotNullOrEmpty(nextTokenActiveTier)) {
+				activeTierPageCommand = activeTierCommand + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + nextTokenActiveTier;
+			}
+			JsonNode activeTierResponse = fetchPage(devicePagePrefetcher, activeTierPageCommand, deadline);
+			aggregatedDeviceResponse = activeTierResponse.has(GoogleWorkspaceConstant.CHROME_OS_DEVICE) ? activeTierResponse.get(GoogleWorkspaceConstant.CHROME_OS_DEVICE)
+					: objectMapper.createArrayNode();
+			filteredDeviceResponse = filterDevicePage(aggregatedDeviceResponse);
+			nextTokenActiveTier = activeTierResponse.path(GoogleWorkspaceConstant.NEXT_TOKEN).asText(GoogleWorkspaceConstant.EMPTY);
+		} catch (TimeoutException e) {
+			cycleBudgetExceeded.incrementAndGet();
+			logger.warn(String.format("Recently synced devices were not retrieved within the cycle time budget of %s seconds", cycleTimeBudget));
+		} catch (Exception e) {
+			if (isRejectedPageToken(e, nextTokenActiveTier)) {
+				nextTokenActiveTier = GoogleWorkspaceConstant.EMPTY;
+			}
+			logger.warn(String.format("Unable to retrieve recently synced devices, serving cached devices: %s", e.getMessage()));
+		}
+	}
+
+	/**
+	 * Applies the configured filters to a device page
+	 *
+	 * @param devicePage devices of a page
+	 * @return devices of the page matching the filters
+	 */
+	private JsonNode filterDevicePage(JsonNode devicePage) {
+		DeviceFilter filter = getDeviceFilter();
+		if (filter.isEmpty()) {
+			return devicePage;
+		}
+		ArrayNode filteredDevices = objectMapper.createArrayNode();
+		for (JsonNode device : devicePage) {
+			if (filter.matches(device.path(GoogleWorkspaceConstant.ORG_UNIT_PATH).asText(), device.path(GoogleWorkspaceConstant.SERIAL_NUMBER).asText(),
+					device.path(GoogleWorkspaceConstant.MODEL).asText(), device.path(GoogleWorkspaceConstant.STATUS).asText())) {
+				filteredDevices.add(device);
+			}
+		}
+		return filteredDevices;
+	}
+
+	/**
+	 * Retrieves the refresh interval of a tier
+	 *
+	 * @param tier refresh tier
+	 * @return interval in milliseconds, 0 for devices refreshed whenever they are listed
+	 */
+	private long getTierRefreshInterval(RefreshTierEnum tier) {
+		switch (tier) {
+			case IDLE:
+				return idleRefreshInterval * 60000L;
+			case OFFLINE:
+				return offlineRefreshInterval * 60000L;
+			case DISABLED:
+				return disabledRefreshInterval * 60000L;
+			default:
+				return 0;
+		}
+	}
+
+	/**
+	 * Collects the last known volume level of every cached device that reported one
+	 *
+	 * @return volume level by device id
+	 */
+	private Map<String, String> getCachedVolumeLevels() {
+		Map<String, String> volumeLevels = new HashMap<>();
+		synchronized (aggregatedDeviceList) {
+			for (AggregatedDevice aggregatedDevice : aggregatedDeviceList) {
+				String volumeLevel = aggregatedDevice.getProperties() == null ? null : aggregatedDevice.getProperties().get(GoogleWorkspaceConstant.VOLUME_LEVEL);
+				if (StringUtils.isNotNullOrEmpty(volumeLevel)) {
+					volumeLevels.put(aggregatedDevice.getDeviceId(), volumeLevel);
+				}
+			}
+		}
+		return volumeLevels;
+	}
+
+	/**
+	 * Collects the time every cached device was last collected, for tiered refresh decisions of a cycle
+	 *
+	 * @return collection time by device id
+	 */
+	private Map<String, Long> getLastCollectedTimestamps() {
+		Map<String, Long> lastCollected = new HashMap<>();
+		synchronized (aggregatedDeviceList) {
+			for (AggregatedDevice aggregatedDevice : aggregatedDeviceList) {
+				if (aggregatedDevice.getTimestamp() != null) {
+					lastCollected.put(aggregatedDevice.getDeviceId(), aggregatedDevice.getTimestamp());
+				}
+			}
+		}
+		return lastCollected;
+	}
+
+	/**
+	 * Marks devices of a fetched page with the current sweep generation and, on the last page of a sweep,
+	 * evicts cached devices that were not listed during the sweep and were last seen longer than {@link #evictionGracePeriod} ago.
+	 * With {@link #evictDeprovisioned} enabled deprovisioned devices are not marked, so they age out like deleted ones.
+	 *
+	 * @param devicePage devices of the fetched page
+	 * @param firstPage whether the page starts a new sweep
+	 * @param lastPage whether the page completes the sweep
+	 */
+	private void markDevicePage(JsonNode devicePage, boolean firstPage, boolean lastPage) {
+		if (firstPage) {
+			sweepGeneration++;
+		}
+		long now = System.currentTimeMillis();
+		for (JsonNode device : devicePage) {
+			if (evictDeprovisioned && GoogleWorkspaceConstant.DEPROVISIONED.equals(device.path(GoogleWorkspaceConstant.STATUS).asText())) {
+				continue;
+			}
+			deviceEvictionTracker.mark(device.path(GoogleWorkspaceConstant.DEVICE_ID).asText(), sweepGeneration, now);
+		}
+		// devices listed before a restart were not marked by this instance, so a resumed sweep evicts nothing
+		if (!lastPage || sweepGeneration == resumedSweepGeneration) {
+			return;
+		}
+		Set<String> evictedDeviceIds = deviceEvictionTracker.sweep(sweepGeneration, evictionGracePeriod * 60000L, now);
+		if (evictedDeviceIds.isEmpty()) {
+			return;
+		}
+		aggregatedDeviceList.removeIf(aggregatedDevice -> evictedDeviceIds.contains(aggregatedDevice.getDeviceId()));
+		deviceMetricHistories.keySet().removeAll(evictedDeviceIds);
+		snapshotDeviceIds.removeAll(evictedDeviceIds);
+		deltaPublicationTracker.forget(evictedDeviceIds);
+		deviceQuarantine.forget(evictedDeviceIds);
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Evicted %s devices missing from sweep %s", evictedDeviceIds.size(), sweepGeneration));
+		}
+	}
+
+	/**
+	 * Populates the given statistics map with "none" values for specific keys.
+	 *
+	 * @param statistics the map to be populated with "none" values
+	 */
+	private void populateNoneData(Map<String, String> statistics) {
+		statistics.put(GoogleWorkspaceConstant.CHROME_OS_DEVICES_COUNT, GoogleWorkspaceConstant.NONE);
+		statistics.put(GoogleWorkspaceConstant.ORGANIZATIONAL_UNIT_COUNT, GoogleWorkspaceConstant.NONE);
+	}
+
+	/**
+	 * Populates the given statistics map with system-related data.
+	 *
+	 * @param statistics the map to be populated with system data
+	 * @param advancedControllableProperties the list of advanced controllable properties
+	 */
+	private void populateSystemData(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+		long orgUnitCount = checkFilterOrgUnit();
+		statistics.put(GoogleWorkspaceConstant.CHROME_OS_DEVICES_COUNT, String.valueOf(filteredDeviceResponse.size()));
+		statistics.put(GoogleWorkspaceConstant.ORGANIZATIONAL_UNIT_COUNT, String.valueOf(orgUnitCount));
+		if (orgUnitNameList.size() > 1) {
+			statistics.put(GoogleWorkspaceConstant.ORGANIZATIONAL_UNIT_COUNT, String.valueOf(orgUnitNameList.size()));
+		}
+		if (orgUnitCount != 0) {
+			OrgUnit orgUnit = getDefaultOrgUnit();
+			String orgUnitGroup = GoogleWorkspaceConstant.ORGANIZATIONAL_UNITS_GROUP;
+			for (OrgUnitEnum orgUnitMetric : OrgUnitEnum.values()) {
+				String name = orgUnitMetric.getName();
+				String value = OrgUnitEnum.getValueByProperty(orgUnit, orgUnitMetric);
+				String propertyName = orgUnitGroup + name;
+				switch (orgUnitMetric) {
+					case NAME:
+						if (StringUtils.isNotNullOrEmpty(value) && orgUnitCount > 1) {
+							DeviceFilter filter = getDeviceFilter();
+							String[] orgUnitValues = orgUnitList.stream().filter(item -> filter.matchesOrgUnit(item.getOrgUnitPath())).map(OrgUnit::getName).toArray(String[]::new);
+							if (orgUnitNameList.size() > 1) {
+								orgUnitValues = orgUnitNameList.toArray(new String[0]);
+							}
+							addAdvanceControlProperties(advancedControllableProperties, statistics, createDropdown(propertyName, orgUnitValues, value));
+						} else {
+							advancedControllableProperties.removeIf(item -> item.getName().equalsIgnoreCase(propertyName));
+							statistics.put(propertyName + GoogleWorkspaceConstant.SPACE, getDefaultValueForNullData(value));
+						}
+						break;
+					case PARENT_ORG_UNIT:
+						statistics.put(propertyName, getParentOrgUnitNameById(orgUnit.getParentOrgUnitId()));
+						break;
+					case CHROME_OS_DEVICES_COUNT:
+						long count = 0;
+						if (filteredDeviceResponse.isArray()) {
+							count = IntStream.range(0, filteredDeviceResponse.size())
+									.filter(i -> filteredDeviceResponse.get(i).has(GoogleWorkspaceConstant.ORG_UNIT_PATH) && filteredDeviceResponse.get(i).get(GoogleWorkspaceConstant.ORG_UNIT_PATH).asText()
+											.equals(orgUnit.getOrgUnitPath()))
+									.count();
+						}
+						statistics.put(propertyName, String.valueOf(count));
+						break;
+					default:
+						statistics.put(propertyName, getDefaultValueForNullData(value));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Collects fleet level counts from Chrome Management reports API, at most once per {@link #fleetReportsInterval}.
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		headers.setBearerAuth(apiToken);
-		return headers;
+	private void collectFleetReports() {
+		long now = System.currentTimeMillis();
+		if (!fleetReports || now - lastFleetReportsTimestamp < fleetReportsInterval * 60000L) {
+			return;
+		}
+		lastFleetReportsTimestamp = now;
+		fleetReportCollector.collect(
+				endpointRegistry.resolve(ApiServiceEnum.CHROME_MANAGEMENT, GoogleWorkspaceCommand.COUNT_CHROME_VERSIONS_COMMAND).replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId),
+				endpointRegistry.resolve(ApiServiceEnum.CHROME_MANAGEMENT, GoogleWorkspaceCommand.COUNT_AUTO_UPDATE_EXPIRATION_COMMAND).replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId),
+				endpointRegistry.resolve(ApiServiceEnum.CHROME_MANAGEMENT, GoogleWorkspaceCommand.COUNT_HARDWARE_FLEET_COMMAND).replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId));
 	}
 
 	/**
-	 * Retrieves metadata information and updates the provided statistics and dynamic map.
+	 * Populates fleet level counts of the last collected fleet report
 	 *
-	 * @param stats the map where statistics will be stored
-	 * @param dynamicStatistics the map where dynamic statistics will be stored
+	 * @param statistics aggregator statistics
 	 */
-	private void retrieveMetadata(Map<String, String> stats, Map<String, String> dynamicStatistics) {
+	private void populateFleetReports(Map<String, String> statistics) {
+		FleetReport fleetReport = fleetReports ? fleetReportCollector.getLastReport() : null;
+		if (fleetReport == null) {
+			return;
+		}
+		fleetReport.populateStatistics(statistics);
+		if (fleetReport.getDevicesCount() >= 0) {
+			statistics.put(GoogleWorkspaceConstant.FLEET_DEVICES_COUNT, String.valueOf(fleetReport.getDevicesCount()));
+		}
+		statistics.put(GoogleWorkspaceConstant.FLEET_REPORTS_LAST_COLLECTED, convertMillisecondsToDateTime(fleetReport.getCollectedAt()));
+	}
+
+	/**
+	 * populate detail aggregated device
+	 * add aggregated device into aggregated device list
+	 * The device page runs through a staged pipeline: the telemetry page is fetched (prefetched during the previous cycle
+	 * when possible) and indexed by device id, devices are joined with their telemetry in chunks on the calling thread,
+	 * then mapped and published by their own stages connected through bounded queues, so joining, mapping and publishing
+	 * of successive chunks overlap while a slow stage holds back the ones feeding it.
+	 */
+	private void populateDeviceDetails() {
+		boolean sweepCompleted = lastSweepPage;
 		try {
-			dynamicStatistics.put(GoogleWorkspaceConstant.MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
-			stats.put(GoogleWorkspaceConstant.ADAPTER_VERSION,
-					getDefaultValueForNullData(adapterProperties.getProperty("aggregator.version")));
-			stats.put(GoogleWorkspaceConstant.ADAPTER_BUILD_DATE,
-					getDefaultValueForNullData(adapterProperties.getProperty("aggregator.build.date")));
-			long adapterUptime = System.currentTimeMillis() - adapterInitializationTimestamp;
+			if (sweepDeferred) {
+				return;
+			}
+			String telemetryCommand = endpointRegistry.resolve(ApiServiceEnum.CHROME_MANAGEMENT, GoogleWorkspaceCommand.TELEMETRY_COMMAND).replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId);
+			String telemetryPageCommand = telemetryCommand;
+			if (StringUtils.isNotNullOrEmpty(nextTokenTelemetry)) {
+				telemetryPageCommand = telemetryCommand + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + nextTokenTelemetry;
+			} else {
+				telemetrySweepGeneration++;
+			}
+			long fetchStart = System.currentTimeMillis();
+			JsonNode telemetryResponse;
+			boolean telemetryUnavailable = true;
+			try {
+				telemetryResponse = fetchPage(telemetryPagePrefetcher, telemetryPageCommand, cycleDeadline);
+				nextTokenTelemetry = GoogleWorkspaceConstant.EMPTY;
+				if (telemetryResponse.has(GoogleWorkspaceConstant.NEXT_TOKEN)) {
+					nextTokenTelemetry = telemetryResponse.get(GoogleWorkspaceConstant.NEXT_TOKEN).asText();
+				}
+				prefetchNextPage(telemetryPagePrefetcher, telemetryCommand, nextTokenTelemetry);
+				persistPaginationCheckpoints();
+				telemetryUnavailable = false;
+			} catch (TimeoutException e) {
+				// devices of the current page are still published, the telemetry page is resumed next cycle
+				cycleBudgetExceeded.incrementAndGet();
+				telemetryResponse = objectMapper.createObjectNode();
+				logger.warn(String.format("Telemetry page was not retrieved within the cycle time budget of %s seconds", cycleTimeBudget));
+			} catch (Exception e) {
+				// devices are still refreshed from Directory API while Chrome Management API is unavailable
+				if (isRejectedPageToken(e, nextTokenTelemetry)) {
+					nextTokenTelemetry = GoogleWorkspaceConstant.EMPTY;
+					persistPaginationCheckpoints();
+				}
+				telemetryResponse = objectMapper.createObjectNode();
+				logger.warn(String.format("Telemetry page was not retrieved, publishing devices with their last known telemetry: %s", e.getMessage()));
+			}
+			adapterMetrics.recordStage(CycleStageEnum.FETCH, System.currentTimeMillis() - fetchStart);
+			Map<String, JsonNode> audioStatusReports = indexAudioStatusReports(telemetryResponse);
+			// without telemetry the cached volume level is carried over, so devices are not published as offline
+			Map<String, String> lastKnownVolumeLevels = telemetryUnavailable ? getCachedVolumeLevels() : Collections.emptyMap();
+
+			long mapStart = System.currentTimeMillis();
+			ExecutorService pipelineExecutor = getPipelineExecutorService();
+			// recently synced devices would always count as changed and pin the interval between sweeps to its lower bound
+			boolean churnRecorded = adaptiveCollection && sweepPage;
+			BoundedStage<List<AggregatedDevice>> publishStage = new BoundedStage<>(GoogleWorkspaceConstant.PIPELINE_QUEUE_CAPACITY,
+					mappedDevices -> publishDevices(mappedDevices, churnRecorded), pipelineExecutor);
+			BoundedStage<ArrayNode> mapStage = new BoundedStage<>(GoogleWorkspaceConstant.PIPELINE_QUEUE_CAPACITY, chunk -> {
+				List<AggregatedDevice> mappedDevices = extractDevices(chunk);
+				try {
+					publishStage.submit(mappedDevices);
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IllegalStateException("Unable to publish mapped devices", e);
+				}
+			}, pipelineExecutor);
+			Map<String, Long> lastCollected = tieredRefresh ? getLastCollectedTimestamps() : Collections.emptyMap();
+			long now = System.currentTimeMillis();
+			try {
+				ArrayNode chunk = objectMapper.createArrayNode();
+				for (JsonNode jsonNode : aggregatedDeviceResponse) {
+					String id = jsonNode.path(GoogleWorkspaceConstant.DEVICE_ID).asText();
+					if (id.isEmpty()) {
+						deviceQuarantine.recordFieldError(GoogleWorkspaceConstant.DEVICE_ID);
+						continue;
+					}
+					if (evictDeprovisioned && GoogleWorkspaceConstant.DEPROVISIONED.equals(jsonNode.path(GoogleWorkspaceConstant.STATUS).asText()) && !deviceEvictionTracker.contains(id)) {
+						// deprovisioned before it was ever cached, or already evicted
+						continue;
+					}
+					if (tieredRefresh) {
+						RefreshTierEnum tier = RefreshTierEnum.classify(jsonNode.path(GoogleWorkspaceConstant.STATUS).asText(), jsonNode.path(GoogleWorkspaceConstant.LAST_SYNC_FIELD).asText(null),
+								now, GoogleWorkspaceConstant.ACTIVE_TIER_WINDOW, GoogleWorkspaceConstant.IDLE_TIER_WINDOW);
+						if (!tieredRefreshScheduler.shouldRefresh(tier, getTierRefreshInterval(tier), lastCollected.get(id), now)) {
+							continue;
+						}
+					}
+					ObjectNode objectNode = (ObjectNode) jsonNode;
+					JsonNode audioStatus = audioStatusReports.get(id);
+					if (audioStatus != null) {
+						String value;
+						if (audioStatus.has(GoogleWorkspaceConstant.OUTPUT_VOLUME)) {
+							value = audioStatus.get(GoogleWorkspaceConstant.OUTPUT_VOLUME).asText();
+						} else {
+							value = String.valueOf(GoogleWorkspaceConstant.MIN_VOLUME_LEVEL);
+						}
+						objectNode.put(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT, value);
+					} else if (lastKnownVolumeLevels.containsKey(id)) {
+						objectNode.put(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT, lastKnownVolumeLevels.get(id));
+					}
+					try {
+						recordMetricHistory(id, objectNode, audioStatus);
+					} catch (Exception e) {
+						// the history misses one sample, the device itself is still collected
+						deviceQuarantine.recordFieldError(GoogleWorkspaceConstant.METRIC_HISTORY_FIELD);
+					}
+					chunk.add(objectNode);
+					if (chunk.size() >= GoogleWorkspaceConstant.PIPELINE_CHUNK_SIZE) {
+						mapStage.submit(chunk);
+						chunk = objectMapper.createArrayNode();
+					}
+				}
+				if (chunk.size() > 0) {
+					mapStage.submit(chunk);
+				}
+			} finally {
+				try {
+					mapStage.finish();
+				} finally {
+					publishStage.finish();
+					mapQueuePeakDepth = mapStage.getPeakDepth();
+					publishQueuePeakDepth = publishStage.getPeakDepth();
+				}
+			}
+			adapterMetrics.recordStage(CycleStageEnum.MAP, System.currentTimeMillis() - mapStart);
+		} catch (Exception e) {
+			if (isRejectedPageToken(e, nextTokenTelemetry)) {
+				nextTokenTelemetry = GoogleWorkspaceConstant.EMPTY;
+				persistPaginationCheckpoints();
+			}
+			logger.error("Error while populate aggregated device", e);
+		} finally {
+			// the churn of the sweep is only known once the devices of its last page are recorded
+			if (sweepCompleted) {
+				lastSweepPage = false;
+			}
+			if (sweepCompleted && adaptiveCollection) {
+				collectionScheduler.completeSweep(Math.min(minCollectionInterval, maxCollectionInterval) * 60000L, maxCollectionInterval * 60000L,
+						System.currentTimeMillis());
+			}
+		}
+	}
 
-			stats.put(GoogleWorkspaceConstant.ADAPTER_UPTIME_MIN, String.valueOf(adapterUptime / (1000 * 60)));
-			stats.put(GoogleWorkspaceConstant.ADAPTER_UPTIME, normalizeUptime(adapterUptime / 1000));
-			try{
-				stats.put(GoogleWorkspaceConstant.SYSTEM_MONITORING_CYCLE, String.valueOf(getMonitoringRate()));
-			}catch (NoSuchMethodError error){
-				logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", error);
+	/**
+	 * Extracts and compacts aggregated devices of a chunk. When the chunk fails as a whole, devices are extracted
+	 * one by one and those that still fail are quarantined, keeping their previously cached state.
+	 *
+	 * @param chunk raw devices joined with telemetry
+	 * @return extracted devices
+	 */
+	private List<AggregatedDevice> extractDevices(ArrayNode chunk) {
+		List<AggregatedDevice> mappedDevices = new ArrayList<>(chunk.size());
+		try {
+			for (AggregatedDevice aggregatedDevice : aggregatedDeviceProcessor.extractDevices(chunk)) {
+				mappedDevices.add(compactAggregatedDevice(aggregatedDevice));
 			}
-			dynamicStatistics.put(GoogleWorkspaceConstant.MONITORED_DEVICES_TOTAL, String.valueOf(aggregatedDeviceList.size()));
+			return mappedDevices;
 		} catch (Exception e) {
-			logger.error("Failed to populate metadata information", e);
+			mappedDevices.clear();
+		}
+		for (JsonNode device : chunk) {
+			String deviceId = device.path(GoogleWorkspaceConstant.DEVICE_ID).asText();
+			try {
+				for (AggregatedDevice aggregatedDevice : aggregatedDeviceProcessor.extractDevices(objectMapper.createArrayNode().add(device))) {
+					mappedDevices.add(compactAggregatedDevice(aggregatedDevice));
+				}
+			} catch (Exception e) {
+				deviceQuarantine.quarantine(deviceId, GoogleWorkspaceConstant.QUARANTINE_STAGE_COLLECT, e, System.currentTimeMillis());
+				logger.warn(String.format("Unable to collect device %s, keeping its previous state: %s", deviceId, e));
+			}
+		}
+		return mappedDevices;
+	}
+
+	/**
+	 * Indexes the latest audio status report of every device in a telemetry page by device id,
+	 * so devices of the device page are joined with a lookup instead of scanning the page for each of them.
+	 *
+	 * @param telemetryResponse telemetry page
+	 * @return latest audio status report by device id
+	 */
+	private Map<String, JsonNode> indexAudioStatusReports(JsonNode telemetryResponse) {
+		Map<String, JsonNode> audioStatusReports = new HashMap<>();
+		for (JsonNode telemetryItem : telemetryResponse.path(GoogleWorkspaceConstant.DEVICES)) {
+			JsonNode reports = telemetryItem.path(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT);
+			if (telemetryItem.has(GoogleWorkspaceConstant.DEVICE_ID) && reports.size() > 0) {
+				audioStatusReports.putIfAbsent(telemetryItem.get(GoogleWorkspaceConstant.DEVICE_ID).asText(), reports.get(0));
+			}
+		}
+		return audioStatusReports;
+	}
+
+	/**
+	 * Publishes a chunk of mapped devices into {@link #aggregatedDeviceList}, replacing cached devices with the same id
+	 * in a single pass over the list.
+	 *
+	 * @param mappedDevices mapped devices
+	 * @param churnRecorded whether the devices are recorded with the collection scheduler
+	 */
+	private void publishDevices(List<AggregatedDevice> mappedDevices, boolean churnRecorded) {
+		Set<String> deviceIds = new HashSet<>();
+		long collectedAt = System.currentTimeMillis();
+		for (AggregatedDevice aggregatedDevice : mappedDevices) {
+			aggregatedDevice.setTimestamp(collectedAt);
+			deviceIds.add(aggregatedDevice.getDeviceId());
+			deviceQuarantine.release(aggregatedDevice.getDeviceId(), GoogleWorkspaceConstant.QUARANTINE_STAGE_COLLECT);
+		}
+		synchronized (aggregatedDeviceList) {
+			if (churnRecorded) {
+				recordChurn(mappedDevices, deviceIds);
+			}
+			aggregatedDeviceList.removeIf(item -> deviceIds.contains(item.getDeviceId()));
+			aggregatedDeviceList.addAll(mappedDevices);
+		}
+		snapshotDeviceIds.removeAll(deviceIds);
+	}
+
+	/**
+	 * Records collected devices with the collection scheduler, a device counts as changed when it is new,
+	 * synced since it was collected before or reported a different volume level.
+	 * Has to be called holding the lock of {@link #aggregatedDeviceList}.
+	 *
+	 * @param mappedDevices collected devices
+	 * @param deviceIds ids of the collected devices
+	 */
+	private void recordChurn(List<AggregatedDevice> mappedDevices, Set<String> deviceIds) {
+		Map<String, Map<String, String>> previousProperties = new HashMap<>();
+		for (AggregatedDevice aggregatedDevice : aggregatedDeviceList) {
+			if (deviceIds.contains(aggregatedDevice.getDeviceId())) {
+				previousProperties.put(aggregatedDevice.getDeviceId(), aggregatedDevice.getProperties());
+			}
+		}
+		for (AggregatedDevice aggregatedDevice : mappedDevices) {
+			Map<String, String> previous = previousProperties.get(aggregatedDevice.getDeviceId());
+			Map<String, String> current = aggregatedDevice.getProperties();
+			String volumeLevel = current.get(GoogleWorkspaceConstant.VOLUME_LEVEL);
+			collectionScheduler.record(previous == null || !Objects.equals(previous.get(GoogleWorkspaceConstant.LAST_SYNC), current.get(GoogleWorkspaceConstant.LAST_SYNC))
+					|| volumeLevel != null && !volumeLevel.equals(previous.get(GoogleWorkspaceConstant.VOLUME_LEVEL)));
+		}
+	}
+
+	/**
+	 * Retrieves a page, taking it from the prefetcher when it was requested ahead.
+	 * With {@link #cycleTimeBudget} set the page is awaited until the deadline only, a page still in flight
+	 * is kept by the prefetcher and picked up when the next cycle asks for it again.
+	 *
+	 * @param prefetcher prefetcher of the paginated endpoint
+	 * @param uri URI of the page
+	 * @param deadline time in milliseconds to stop waiting at, 0 waits without limit
+	 * @return page
+	 * @throws TimeoutException if the page is not retrieved before the deadline
+	 * @throws Exception if the page cannot be retrieved
+	 */
+	private JsonNode fetchPage(PagePrefetcher prefetcher, String uri, long deadline) throws Exception {
+		if (deadline == 0 && !pagePrefetch) {
+			return doGetPage(uri);
+		}
+		// with the budget already spent the page is still requested, so it is ready when the next cycle asks for it
+		long timeout = deadline == 0 ? Long.MAX_VALUE : Math.max(0, deadline - System.currentTimeMillis());
+		return prefetcher.fetch(uri, () -> doGetPage(uri), getPipelineExecutorService(), timeout);
+	}
+
+	/**
+	 * Requests a Directory API resource within the cycle time budget. A request still in flight at the deadline
+	 * is kept and picked up when a later cycle asks for the same resource.
+	 *
+	 * @param uri URI of the resource
+	 * @param deadline time in milliseconds to stop waiting at, 0 waits without limit
+	 * @return response
+	 * @throws TimeoutException if the response is not retrieved before the deadline
+	 * @throws Exception if the resource cannot be retrieved
+	 */
+	private JsonNode fetchWithinBudget(String uri, long deadline) throws Exception {
+		if (deadline == 0) {
+			return this.doGet(uri, JsonNode.class);
+		}
+		return directoryRequestPrefetchers.computeIfAbsent(uri, key -> new PagePrefetcher()).fetch(uri, () -> this.doGet(uri, JsonNode.class), getPipelineExecutorService(),
+				Math.max(0, deadline - System.currentTimeMillis()));
+	}
+
+	/**
+	 * Requests a page, sending the request again up to {@link #pageRetries} times with growing delay when it fails
+	 * with a transient error, so a single failed page does not cost the cycle.
+	 *
+	 * @param uri URI of the page
+	 * @return page
+	 * @throws Exception if the page cannot be retrieved
+	 */
+	private JsonNode doGetPage(String uri) throws Exception {
+		for (int attempt = 0; ; attempt++) {
+			try {
+				return this.doGet(uri, JsonNode.class);
+			} catch (Exception e) {
+				HttpStatusException statusException = findHttpStatusException(e);
+				if (attempt >= pageRetries || statusException != null && !statusException.isRetryable() || e instanceof CircuitOpenException) {
+					throw e;
+				}
+				paginationRetries.incrementAndGet();
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Retrying page %s after failure: %s", uri, e.getMessage()));
+				}
+				TimeUnit.MILLISECONDS.sleep(GoogleWorkspaceConstant.PAGE_RETRY_BACKOFF << attempt);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a page request failed because Google rejected its page token, e.g. because it expired,
+	 * in which case the sweep has to start over from the first page.
+	 *
+	 * @param e failure of the page request
+	 * @param pageToken token the page was requested with
+	 * @return true if the token was rejected
+	 */
+	private boolean isRejectedPageToken(Exception e, String pageToken) {
+		HttpStatusException statusException = findHttpStatusException(e);
+		if (StringUtils.isNullOrEmpty(pageToken) || statusException == null || statusException.getStatusCode() != GoogleWorkspaceConstant.BAD_REQUEST) {
+			return false;
+		}
+		paginationRestartedSweeps.incrementAndGet();
+		logger.warn(String.format("Page token was rejected, starting the sweep over: %s", statusException.getMessage()));
+		return true;
+	}
+
+	/**
+	 * Finds the {@link HttpStatusException} a failure was caused by
+	 *
+	 * @param e failure
+	 * @return status exception, or null if the failure was not caused by an unsuccessful response
+	 */
+	private HttpStatusException findHttpStatusException(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof HttpStatusException) {
+				return (HttpStatusException) cause;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves the deadline of a cycle starting now, computed once per cycle into {@link #cycleDeadline}
+	 *
+	 * @return time in milliseconds the cycle has to finish fetching at, 0 when {@link #cycleTimeBudget} is not set
+	 */
+	private long getCycleDeadline() {
+		return cycleTimeBudget > 0 ? System.currentTimeMillis() + cycleTimeBudget * 1000L : 0;
+	}
+
+	/**
+	 * Starts requesting the next page of a paginated endpoint in the background when {@link #pagePrefetch} is enabled.
+	 *
+	 * @param prefetcher prefetcher of the paginated endpoint
+	 * @param uri URI of the first page
+	 * @param nextToken token of the next page, empty on the last page
+	 */
+	private void prefetchNextPage(PagePrefetcher prefetcher, String uri, String nextToken) {
+		if (!pagePrefetch || StringUtils.isNullOrEmpty(nextToken)) {
+			return;
+		}
+		String nextPageUri = uri + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + nextToken;
+		prefetcher.prefetch(nextPageUri, () -> this.doGet(nextPageUri, JsonNode.class), getPipelineExecutorService());
+	}
+
+	/**
+	 * Retrieves {@link #pipelineExecutorService}, creating it on first use
+	 *
+	 * @return executor running pipeline stages and page prefetches
+	 */
+	private synchronized ExecutorService getPipelineExecutorService() {
+		if (pipelineExecutorService == null) {
+			pipelineExecutorService = Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "GoogleWorkspacePipeline");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return pipelineExecutorService;
+	}
+
+	/**
+	 * Retrieves filters compiled from the filter properties, compiling them again only when a property or the
+	 * organizational units changed.
+	 *
+	 * @return compiled device filter
+	 */
+	private DeviceFilter getDeviceFilter() {
+		Map<String, List<String>> paths = getOrgUnitPaths();
+		DeviceFilter filter = deviceFilter;
+		if (!filter.isCompiledFrom(filterOrgUnit, filterSerialNumber, filterModel, filterStatus, parentOrgUnit, paths)) {
+			filter = DeviceFilter.compile(filterOrgUnit, filterSerialNumber, filterModel, filterStatus, parentOrgUnit, paths);
+			deviceFilter = filter;
+		}
+		return filter;
+	}
+
+	/**
+	 * Retrieves paths of the organizational units by their lower case name, indexing them again only when the organizational unit list changed
+	 *
+	 * @return organizational unit paths by name
+	 */
+	private Map<String, List<String>> getOrgUnitPaths() {
+		List<OrgUnit> orgUnits = orgUnitList;
+		if (orgUnits == indexedOrgUnitList) {
+			return orgUnitPaths;
+		}
+		Map<String, List<String>> paths = new HashMap<>();
+		synchronized (orgUnits) {
+			for (OrgUnit orgUnit : orgUnits) {
+				DeviceFilter.indexOrgUnitPath(paths, orgUnit.getName(), orgUnit.getOrgUnitPath());
+			}
+		}
+		orgUnitPaths = paths;
+		indexedOrgUnitList = orgUnits;
+		return paths;
+	}
+
+	/**
+	 * Checks whether a cached aggregated device matches the configured filters.
+	 * Cached devices keep raw property values, so organizational unit path and status are compared as Google reports them.
+	 *
+	 * @param aggregatedDevice cached aggregated device
+	 * @param filter compiled device filter
+	 * @return true if the device matches
+	 */
+	private boolean matchesDeviceFilter(AggregatedDevice aggregatedDevice, DeviceFilter filter) {
+		if (filter.isEmpty()) {
+			return true;
+		}
+		Map<String, String> properties = aggregatedDevice.getProperties();
+		return filter.matches(properties.get(AggregatedDeviceEnum.ORG_UNIT.getName()), properties.get(AggregatedDeviceEnum.SERIAL_NUMBER.getName()),
+				aggregatedDevice.getDeviceModel(), properties.get(AggregatedDeviceEnum.STATUS.getName()));
+	}
+
+	/**
+	 * Records CPU, RAM, temperature and volume samples of a device into its metric history.
+	 * All report series Google sends with the device are recorded oldest first, samples that were already seen
+	 * and samples without a valid report time are skipped.
+	 *
+	 * @param deviceId id of the device
+	 * @param device raw device information from Directory API
+	 * @param audioStatus latest audio status report from telemetry API, may be null
+	 */
+	private void recordMetricHistory(String deviceId, JsonNode device, JsonNode audioStatus) {
+		if (metricHistorySize <= 0) {
+			return;
+		}
+		DeviceMetricHistory history = deviceMetricHistories.computeIfAbsent(deviceId, key -> new DeviceMetricHistory(metricHistorySize));
+		for (Map.Entry<Long, JsonNode> entry : ReportSeries.byReportTime(device.get(GoogleWorkspaceConstant.CPU_STATUS_REPORTS)).entrySet()) {
+			long reportTime = entry.getKey();
+			JsonNode report = entry.getValue();
+			JsonNode utilization = report.get(GoogleWorkspaceConstant.CPU_UTILIZATION_PERCENTAGE_INFO);
+			if (utilization != null && utilization.size() > 0) {
+				history.record(MetricHistoryEnum.CPU_UTILIZATION, reportTime, (float) utilization.get(0).asDouble(Double.NaN));
+			}
+			JsonNode temperatures = report.get(GoogleWorkspaceConstant.CPU_TEMPERATURE_INFO);
+			if (temperatures != null && temperatures.isArray()) {
+				float maxTemperature = Float.NaN;
+				for (JsonNode temperature : temperatures) {
+					if (temperature.has(GoogleWorkspaceConstant.TEMPERATURE)) {
+						float value = (float) temperature.get(GoogleWorkspaceConstant.TEMPERATURE).asDouble();
+						maxTemperature = Float.isNaN(maxTemperature) ? value : Math.max(maxTemperature, value);
+					}
+				}
+				history.record(MetricHistoryEnum.CPU_TEMPERATURE, reportTime, maxTemperature);
+			}
+		}
+		for (Map.Entry<Long, JsonNode> entry : ReportSeries.byReportTime(device.get(GoogleWorkspaceConstant.SYSTEM_RAM_FREE_REPORTS)).entrySet()) {
+			JsonNode ramFree = entry.getValue().get(GoogleWorkspaceConstant.SYSTEM_RAM_FREE_INFO);
+			if (ramFree != null && ramFree.size() > 0) {
+				double bytes = ramFree.get(0).asDouble(Double.NaN);
+				history.record(MetricHistoryEnum.MEMORY_FREE, entry.getKey(), (float) (bytes / (1024 * 1024 * 1024)));
+			}
+		}
+		Long audioReportTime = ReportSeries.getReportTime(audioStatus);
+		if (audioReportTime != null && audioStatus.has(GoogleWorkspaceConstant.OUTPUT_VOLUME)) {
+			history.record(MetricHistoryEnum.VOLUME_LEVEL, audioReportTime, (float) audioStatus.get(GoogleWorkspaceConstant.OUTPUT_VOLUME).asDouble(Double.NaN));
+		}
+	}
+
+	/**
+	 * Populates min/max/avg/p95 dynamic statistics of a device from its metric history.
+	 *
+	 * @param deviceId id of the device
+	 * @param dynamic the dynamic map to populate with the historical statistics
+	 */
+	private void populateMetricHistory(String deviceId, Map<String, String> dynamic) {
+		if (metricHistorySize <= 0) {
+			return;
+		}
+		DeviceMetricHistory history = deviceMetricHistories.get(deviceId);
+		if (history == null) {
+			return;
+		}
+		DecimalFormat decimalFormat = new DecimalFormat("#.##", DecimalFormatSymbols.getInstance(Locale.US));
+		for (MetricHistoryEnum metric : MetricHistoryEnum.values()) {
+			MetricRingBuffer buffer = history.getBuffer(metric);
+			if (buffer.size() == 0) {
+				continue;
+			}
+			String group = metric.getGroup();
+			String unit = metric.getUnit();
+			dynamic.put(group + GoogleWorkspaceConstant.HISTORY_MIN + unit, decimalFormat.format(buffer.min()));
+			dynamic.put(group + GoogleWorkspaceConstant.HISTORY_MAX + unit, decimalFormat.format(buffer.max()));
+			dynamic.put(group + GoogleWorkspaceConstant.HISTORY_AVG + unit, decimalFormat.format(buffer.average()));
+			dynamic.put(group + GoogleWorkspaceConstant.HISTORY_P95 + unit, decimalFormat.format(buffer.percentile(GoogleWorkspaceConstant.HISTORY_PERCENTILE)));
+		}
+	}
+
+	/**
+	 * Retrieves the name of a parent organizational unit based on the provided ID.
+	 *
+	 * @param id the ID of the parent organizational unit
+	 * @return the name of the parent organizational unit, or "none" if an error occurs or the name is not found
+	 */
+	private String getParentOrgUnitNameById(String id) {
+		if (GoogleWorkspaceConstant.NONE.equals(id)) {
+			return GoogleWorkspaceConstant.NONE;
+		}
+		String name = findOrgUnitName(id);
+		if (name != null) {
+			return name;
+		}
+		try {
+			JsonNode parentOrgUnitResponse = fetchWithinBudget(buildOrgUnitCommand(id), cycleDeadline);
+			if (parentOrgUnitResponse.has(GoogleWorkspaceConstant.NAME)) {
+				name = parentOrgUnitResponse.get(GoogleWorkspaceConstant.NAME).asText();
+				parentOrgUnitNames.put(id, name);
+				return name;
+			}
+		} catch (TimeoutException e) {
+			cycleBudgetExceeded.incrementAndGet();
+			return GoogleWorkspaceConstant.NONE;
+		} catch (Exception e) {
+			logger.error("Error while retrieve Parent Org Unit", e);
+			return GoogleWorkspaceConstant.NONE;
+		}
+		return GoogleWorkspaceConstant.NONE;
+	}
+
+	/**
+	 * Finds the name of an organizational unit in {@link #orgUnitList} or among already resolved parent organizational units.
+	 *
+	 * @param id the ID of the organizational unit
+	 * @return name of the organizational unit, or null if it is not known yet
+	 */
+	private String findOrgUnitName(String id) {
+		synchronized (orgUnitList) {
+			for (OrgUnit orgUnit : orgUnitList) {
+				if (id.equals(orgUnit.getOrgUnitId())) {
+					return orgUnit.getName();
+				}
+			}
+		}
+		return parentOrgUnitNames.get(id);
+	}
+
+	/**
+	 * Resolves names of parent organizational units that are not part of {@link #orgUnitList}.
+	 * With {@link #batchRequests} enabled all of them are requested in Directory API batches,
+	 * otherwise they are requested one by one when the parent name is displayed.
+	 * Resolved names are kept until the organizational units or their parents change, so an unchanged list costs no requests.
+	 */
+	private void resolveParentOrgUnitNames() {
+		List<OrgUnit> orgUnits = new ArrayList<>(orgUnitList);
+		Map<String, String> orgUnitParents = new HashMap<>();
+		for (OrgUnit orgUnit : orgUnits) {
+			orgUnitParents.put(orgUnit.getOrgUnitId(), orgUnit.getParentOrgUnitId());
+		}
+		if (!orgUnitParents.equals(resolvedOrgUnitParents)) {
+			parentOrgUnitNames.clear();
+			resolvedOrgUnitParents = orgUnitParents;
+		}
+		if (!batchRequests) {
+			return;
 		}
+		Map<String, CompletableFuture<JsonNode>> lookups = new HashMap<>();
+		for (OrgUnit orgUnit : orgUnits) {
+			String parentId = orgUnit.getParentOrgUnitId();
+			if (StringUtils.isNullOrEmpty(parentId) || GoogleWorkspaceConstant.NONE.equals(parentId) || lookups.containsKey(parentId) || findOrgUnitName(parentId) != null) {
+				continue;
+			}
+			lookups.put(parentId, directoryBatchQueue.enqueue(toBatchPath(buildOrgUnitCommand(parentId))));
+		}
+		directoryBatchQueue.flush();
+		lookups.forEach((id, lookup) -> {
+			try {
+				JsonNode response = lookup.get();
+				if (response.has(GoogleWorkspaceConstant.NAME)) {
+					parentOrgUnitNames.put(id, response.get(GoogleWorkspaceConstant.NAME).asText());
+				}
+			} catch (Exception e) {
+				logger.warn(String.format("Unable to resolve parent organizational unit %s in batch", id), e);
+			}
+		});
+	}
+
+	/**
+	 * Builds the Directory API command of a single organizational unit
+	 *
+	 * @param id the ID of the organizational unit
+	 * @return request URI
+	 */
+	private String buildOrgUnitCommand(String id) {
+		return endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.PARENT_ORG_UNIT_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId)) + id;
 	}
 
 	/**
-	 * Get customer id from command
+	 * Converts a request URI into the path and query used inside a batch request
+	 *
+	 * @param uri request URI, relative to the configured host or absolute
+	 * @return path and query of the request
 	 */
-	private void retrieveCustomerId() {
-		try {
-			customerId = GoogleWorkspaceConstant.EMPTY;
-			JsonNode usersResponse = this.doGet(GoogleWorkspaceCommand.USER_COMMAND, JsonNode.class);
-			if (usersResponse.has(GoogleWorkspaceConstant.USERS) && usersResponse.get(GoogleWorkspaceConstant.USERS).size() > 0) {
-				customerId = usersResponse.get(GoogleWorkspaceConstant.USERS).get(0).get(GoogleWorkspaceConstant.CUSTOMER_ID).asText();
-			}
-		} catch (Exception e) {
-			customerId = GoogleWorkspaceConstant.EMPTY;
-			logger.error(String.format("Error when get customer id, %s", e));
-		}
+	private String toBatchPath(String uri) {
+		URI requestUri = URI.create(buildRequestUrl(uri));
+		return requestUri.getRawQuery() == null ? requestUri.getRawPath() : requestUri.getRawPath() + "?" + requestUri.getRawQuery();
 	}
 
 	/**
-	 * Get system information of GoogleWorkspace
-	 */
-	private void retrieveSystemInfo() {
-		try {
-			JsonNode orgUnitsResponse = this.doGet(GoogleWorkspaceCommand.ORG_UNIT_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId), JsonNode.class);
-			orgUnitList.clear();
-			orgUnitList = objectMapper.readValue(orgUnitsResponse.get(GoogleWorkspaceConstant.ORGANIZATION_UNIT).toString(), new TypeReference<List<OrgUnit>>() {
+	 * Sends a multipart batch request to the Directory API batch endpoint through the pooled HTTP client
+	 *
+	 * @param contentType content type of the request, including the boundary
+	 * @param body multipart request body
+	 * @return raw batch response
+	 * @throws Exception if the batch request fails
+	 */
+	private BatchRequestQueue.RawResponse sendDirectoryBatch(String contentType, byte[] body) throws Exception {
+		String uri = endpointRegistry.resolve(ApiServiceEnum.DIRECTORY, GoogleWorkspaceCommand.DIRECTORY_BATCH_COMMAND);
+		return executePooled(uri, () -> {
+			HttpPost request = new HttpPost(buildRequestUrl(uri));
+			request.setConfig(RequestConfig.custom()
+					.setConnectionRequestTimeout(Timeout.ofMilliseconds(getTimeout()))
+					.setResponseTimeout(Timeout.ofMilliseconds(getTimeout()))
+					.build());
+			request.setHeader(HttpHeaders.AUTHORIZATION, GoogleWorkspaceConstant.BEARER + apiToken);
+			request.setEntity(new ByteArrayEntity(body, ContentType.parse(contentType)));
+			return obtainPooledHttpClient().execute(request, response -> {
+				HttpEntity entity = response.getEntity();
+				if (response.getCode() >= 400) {
+					EntityUtils.consume(entity);
+					throw new HttpStatusException(uri, response.getCode());
+				}
+				byte[] content = entity != null ? EntityUtils.toByteArray(entity) : new byte[0];
+				adapterMetrics.getEndpointMetrics(ApiEndpointEnum.BATCH).getBytes().addAndGet(content.length);
+				return new BatchRequestQueue.RawResponse(entity != null ? entity.getContentType() : null, content);
 			});
-			Collections.sort(orgUnitList, Comparator.comparing(OrgUnit::getName));
+		});
+	}
 
-			JsonNode parentOrgUnitResponse = this.doGet(
-					GoogleWorkspaceCommand.PARENT_ORG_UNIT_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId) + orgUnitList.get(0).getParentOrgUnitId(), JsonNode.class);
-			if (parentOrgUnitResponse != null && parentOrgUnitResponse.has(GoogleWorkspaceConstant.NAME)) {
-				parentOrgUnit = parentOrgUnitResponse.get(GoogleWorkspaceConstant.NAME).asText();
-				orgUnitList.add(0, new OrgUnit(parentOrgUnitResponse.get(GoogleWorkspaceConstant.KIND).asText(), parentOrgUnitResponse.get(GoogleWorkspaceConstant.E_TAG).asText(),
-						parentOrgUnitResponse.get(GoogleWorkspaceConstant.NAME).asText(),
-						parentOrgUnitResponse.get(GoogleWorkspaceConstant.DESCRIPTION).asText(), parentOrgUnitResponse.get(GoogleWorkspaceConstant.ORG_UNIT_PATH).asText(),
-						parentOrgUnitResponse.get(GoogleWorkspaceConstant.ORG_UNIT_ID).asText(), GoogleWorkspaceConstant.NONE, GoogleWorkspaceConstant.NONE));
-			}
-			if (StringUtils.isNotNullOrEmpty(filterOrgUnit)) {
-				filterOrgUnit = filterOrgUnit.trim();
-			}
-			if (StringUtils.isNotNullOrEmpty(filterSerialNumber)) {
-				filterSerialNumber = filterSerialNumber.trim();
-			}
-			aggregatedDeviceResponse = objectMapper.createObjectNode();
-			if (checkSerialNumberFormat(filterSerialNumber)) {
-				String chromeOSCommand = GoogleWorkspaceCommand.CHROME_OS_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId)
-						.replace(GoogleWorkspaceConstant.PATH_VARIABLE_ORG_UNIT,
-								StringUtils.isNotNullOrEmpty(filterOrgUnit) && filterOrgUnit.equals(parentOrgUnit) ? GoogleWorkspaceConstant.SLASH : getDefaultFilterValueForNullData(filterOrgUnit))
-						.replace(GoogleWorkspaceConstant.PATH_VARIABLE_SERIAL_NUMBER, getDefaultFilterValueForNullData(filterSerialNumber));
-
-				if (StringUtils.isNotNullOrEmpty(nextTokenChromeOS)) {
-					chromeOSCommand = chromeOSCommand + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + nextTokenChromeOS;
+	/**
+	 * Retrieves cached devices matching the configured filters.
+	 * Cached devices are replaced rather than modified by the loader, so they can be mapped outside of the lock.
+	 *
+	 * @return list of cached aggregated devices
+	 */
+	private List<AggregatedDevice> selectFilteredDevices() {
+		List<AggregatedDevice> cachedDevices = new ArrayList<>();
+		DeviceFilter filter = getDeviceFilter();
+		synchronized (aggregatedDeviceList) {
+			for (AggregatedDevice cachedAggregatedDevice : aggregatedDeviceList) {
+				if (matchesDeviceFilter(cachedAggregatedDevice, filter)) {
+					cachedDevices.add(cachedAggregatedDevice);
 				}
-				JsonNode chromeOSResponse = this.doGet(chromeOSCommand, JsonNode.class);
-				if (chromeOSResponse.has(GoogleWorkspaceConstant.CHROME_OS_DEVICE)) {
-					aggregatedDeviceResponse = chromeOSResponse.get(GoogleWorkspaceConstant.CHROME_OS_DEVICE);
+			}
+		}
+		return cachedDevices;
+	}
 
-					nextTokenChromeOS = GoogleWorkspaceConstant.EMPTY;
-					if (chromeOSResponse.has(GoogleWorkspaceConstant.NEXT_TOKEN)) {
-						nextTokenChromeOS = chromeOSResponse.get(GoogleWorkspaceConstant.NEXT_TOKEN).asText();
-					}
-				}
+	/**
+	 * Clone the given cached devices and populate monitoring and controlling for aggregated device
+	 *
+	 * @param cachedDevices cached aggregated devices to publish
+	 * @return List<AggregatedDevice> aggregated device list
+	 */
+	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList(List<AggregatedDevice> cachedDevices) {
+		List<AggregatedDevice> resultAggregatedDeviceList = new ArrayList<>(cachedDevices.size());
+		for (AggregatedDevice cachedAggregatedDevice : cachedDevices) {
+			try {
+				resultAggregatedDeviceList.add(populateAggregatedDevice(cachedAggregatedDevice));
+				deviceQuarantine.release(cachedAggregatedDevice.getDeviceId(), GoogleWorkspaceConstant.QUARANTINE_STAGE_PUBLISH);
+			} catch (Exception e) {
+				deviceQuarantine.quarantine(cachedAggregatedDevice.getDeviceId(), GoogleWorkspaceConstant.QUARANTINE_STAGE_PUBLISH, e, System.currentTimeMillis());
+				logger.warn(String.format("Unable to publish device %s: %s", cachedAggregatedDevice.getDeviceId(), e));
 			}
-		} catch (Exception e) {
-			aggregatedDeviceResponse = objectMapper.createObjectNode();
-			orgUnitList.clear();
-			logger.error(String.format("Error when get system information, %s", e));
 		}
+		return resultAggregatedDeviceList;
 	}
 
 	/**
-	 * Populates the given statistics map with "none" values for specific keys.
+	 * Clones a cached device and populates its monitoring properties and dynamic statistics for publication.
 	 *
-	 * @param statistics the map to be populated with "none" values
+	 * @param cachedAggregatedDevice cached aggregated device
+	 * @return mapped aggregated device
+	 */
+	private AggregatedDevice populateAggregatedDevice(AggregatedDevice cachedAggregatedDevice) {
+		AggregatedDevice aggregatedDevice = copyAggregatedDevice(cachedAggregatedDevice);
+		Map<String, String> mappingStatistic = aggregatedDevice.getProperties();
+		Map<String, String> dynamics = new HashMap<>();
+		Map<String, String> stats = new HashMap<>();
+		aggregatedDevice.setDeviceName(aggregatedDevice.getDeviceModel() + " (" + aggregatedDevice.getDeviceName() + ")");
+		if (aggregatedDevice.getDeviceModel().contains(GoogleWorkspaceConstant.CHROMEBOOK)) {
+			aggregatedDevice.setDeviceModel(GoogleWorkspaceConstant.CHROMEBOOK);
+		}
+		if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline()) && StringUtils.isNullOrEmpty(aggregatedDevice.getProperties().get(GoogleWorkspaceConstant.VOLUME_LEVEL))) {
+			aggregatedDevice.setDeviceOnline(false);
+		}
+		mapMonitoringProperty(mappingStatistic, stats);
+		mapDynamicStatistic(mappingStatistic, stats, dynamics);
+		routeHistoricalProperties(stats, dynamics);
+		populateMetricHistory(aggregatedDevice.getDeviceId(), dynamics);
+		if (snapshotDeviceIds.contains(aggregatedDevice.getDeviceId())) {
+			stats.put(GoogleWorkspaceConstant.SNAPSHOT_TIME, convertMillisecondsToDateTime(restoredSnapshotTimestamp));
+		}
+		if (aggregatedDevice.getTimestamp() != null) {
+			stats.put(GoogleWorkspaceConstant.LAST_COLLECTED, convertMillisecondsToDateTime(aggregatedDevice.getTimestamp()));
+			dynamics.put(GoogleWorkspaceConstant.DATA_AGE, String.valueOf(Math.max(0, System.currentTimeMillis() - aggregatedDevice.getTimestamp()) / 1000));
+		}
+
+		aggregatedDevice.setProperties(stats);
+		aggregatedDevice.setDynamicStatistics(dynamics);
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Moves the raw properties of a device about to be cached into {@link CompactProperties} and interns its model,
+	 * so the cached inventory shares property names and repeated values across devices.
+	 *
+	 * @param aggregatedDevice device extracted from Google Workspace API or restored from the inventory snapshot
+	 * @return the same device
 	 */
-	private void populateNoneData(Map<String, String> statistics) {
-		statistics.put(GoogleWorkspaceConstant.CHROME_OS_DEVICES_COUNT, GoogleWorkspaceConstant.NONE);
-		statistics.put(GoogleWorkspaceConstant.ORGANIZATIONAL_UNIT_COUNT, GoogleWorkspaceConstant.NONE);
+	private AggregatedDevice compactAggregatedDevice(AggregatedDevice aggregatedDevice) {
+		aggregatedDevice.setDeviceModel(CompactProperties.intern(aggregatedDevice.getDeviceModel()));
+		aggregatedDevice.setProperties(new CompactProperties(aggregatedDevice.getProperties() != null ? aggregatedDevice.getProperties() : new HashMap<>()));
+		return aggregatedDevice;
 	}
 
 	/**
-	 * Populates the given statistics map with system-related data.
+	 * Creates a copy of a cached aggregated device, so the cached raw properties are not replaced by the mapped ones.
 	 *
-	 * @param statistics the map to be populated with system data
-	 * @param advancedControllableProperties the list of advanced controllable properties
+	 * @param aggregatedDevice cached aggregated device
+	 * @return copy of the aggregated device
+	 */
+	private AggregatedDevice copyAggregatedDevice(AggregatedDevice aggregatedDevice) {
+		AggregatedDevice copy = new AggregatedDevice();
+		copy.setDeviceId(aggregatedDevice.getDeviceId());
+		copy.setDeviceName(aggregatedDevice.getDeviceName());
+		copy.setDeviceModel(aggregatedDevice.getDeviceModel());
+		copy.setDeviceMake(aggregatedDevice.getDeviceMake());
+		copy.setCategory(aggregatedDevice.getCategory());
+		copy.setType(aggregatedDevice.getType());
+		copy.setSerialNumber(aggregatedDevice.getSerialNumber());
+		copy.setDeviceOnline(aggregatedDevice.getDeviceOnline());
+		copy.setTimestamp(aggregatedDevice.getTimestamp());
+		copy.setProperties(aggregatedDevice.getProperties() != null ? new HashMap<>(aggregatedDevice.getProperties()) : new HashMap<>());
+		return copy;
+	}
+
+	/**
+	 * Restores device and organizational unit inventory from the snapshot persisted by the previous adapter instance.
+	 * Restored devices are served and marked with {@link GoogleWorkspaceConstant#SNAPSHOT_TIME} until the first live sweep refreshes them.
 	 */
-	private void populateSystemData(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
-		long orgUnitCount = checkFilterOrgUnit();
-		statistics.put(GoogleWorkspaceConstant.CHROME_OS_DEVICES_COUNT, String.valueOf(aggregatedDeviceResponse.size()));
-		statistics.put(GoogleWorkspaceConstant.ORGANIZATIONAL_UNIT_COUNT, String.valueOf(orgUnitCount));
-		if (orgUnitNameList.size() > 1) {
-			statistics.put(GoogleWorkspaceConstant.ORGANIZATIONAL_UNIT_COUNT, String.valueOf(orgUnitNameList.size()));
+	private void restoreInventorySnapshot() {
+		if (StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			return;
 		}
-		if (orgUnitCount != 0) {
-			OrgUnit orgUnit = getDefaultOrgUnit();
-			String orgUnitGroup = GoogleWorkspaceConstant.ORGANIZATIONAL_UNITS_GROUP;
-			for (OrgUnitEnum orgUnitMetric : OrgUnitEnum.values()) {
-				String name = orgUnitMetric.getName();
-				String value = OrgUnitEnum.getValueByProperty(orgUnit, orgUnitMetric);
-				String propertyName = orgUnitGroup + name;
-				switch (orgUnitMetric) {
-					case NAME:
-						if (StringUtils.isNotNullOrEmpty(value) && orgUnitCount > 1) {
-							String[] orgUnitValues = orgUnitList.stream().map(OrgUnit::getName).toArray(String[]::new);
-							if (orgUnitNameList.size() > 1) {
-								orgUnitValues = orgUnitNameList.toArray(new String[0]);
-							}
-							addAdvanceControlProperties(advancedControllableProperties, statistics, createDropdown(propertyName, orgUnitValues, value));
-						} else {
-							advancedControllableProperties.removeIf(item -> item.getName().equalsIgnoreCase(propertyName));
-							statistics.put(propertyName + GoogleWorkspaceConstant.SPACE, getDefaultValueForNullData(value));
-						}
-						break;
-					case PARENT_ORG_UNIT:
-						statistics.put(propertyName, getParentOrgUnitNameById(orgUnit.getParentOrgUnitId()));
-						break;
-					case CHROME_OS_DEVICES_COUNT:
-						long count = 0;
-						if (aggregatedDeviceResponse.isArray()) {
-							count = IntStream.range(0, aggregatedDeviceResponse.size())
-									.filter(i -> aggregatedDeviceResponse.get(i).has(GoogleWorkspaceConstant.ORG_UNIT_PATH) && aggregatedDeviceResponse.get(i).get(GoogleWorkspaceConstant.ORG_UNIT_PATH).asText()
-											.equals(orgUnit.getOrgUnitPath()))
-									.count();
-						}
-						statistics.put(propertyName, String.valueOf(count));
-						break;
-					default:
-						statistics.put(propertyName, getDefaultValueForNullData(value));
-				}
+		String fileName = String.format(GoogleWorkspaceConstant.SNAPSHOT_FILE_NAME,
+				Integer.toHexString(Objects.hash(getHost(), getLogin(), filterOrgUnit, filterSerialNumber)));
+		inventorySnapshotStore = new InventorySnapshotStore(Paths.get(snapshotDirectory.trim(), fileName));
+		try {
+			InventorySnapshot snapshot = inventorySnapshotStore.read();
+			if (snapshot == null || snapshot.getOrgUnits().isEmpty()) {
+				return;
+			}
+			List<AggregatedDevice> restoredDevices = new ArrayList<>();
+			for (DeviceSnapshot deviceSnapshot : snapshot.getDevices()) {
+				AggregatedDevice aggregatedDevice = new AggregatedDevice();
+				aggregatedDevice.setDeviceId(deviceSnapshot.getDeviceId());
+				aggregatedDevice.setDeviceName(deviceSnapshot.getDeviceName());
+				aggregatedDevice.setDeviceModel(deviceSnapshot.getDeviceModel());
+				aggregatedDevice.setDeviceOnline(deviceSnapshot.getDeviceOnline());
+				aggregatedDevice.setProperties(deviceSnapshot.getProperties() != null ? deviceSnapshot.getProperties() : new HashMap<>());
+				aggregatedDevice.setTimestamp(deviceSnapshot.getCollectedAt() != null ? deviceSnapshot.getCollectedAt() : snapshot.getCreatedAt());
+				restoredDevices.add(compactAggregatedDevice(aggregatedDevice));
+				snapshotDeviceIds.add(deviceSnapshot.getDeviceId());
+				deviceEvictionTracker.register(deviceSnapshot.getDeviceId(), snapshot.getCreatedAt());
 			}
+			parentOrgUnit = snapshot.getParentOrgUnit();
+			orgUnitList = Collections.synchronizedList(new ArrayList<>(snapshot.getOrgUnits()));
+			aggregatedDeviceList.addAll(restoredDevices);
+			restoredSnapshotTimestamp = snapshot.getCreatedAt();
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Restored %s devices from inventory snapshot %s", restoredDevices.size(), inventorySnapshotStore.getSnapshotFile()));
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to restore inventory snapshot, starting with empty inventory", e);
 		}
 	}
 
 	/**
-	 * populate detail aggregated device
-	 * add aggregated device into aggregated device list
+	 * Restores positions of the device and telemetry sweeps persisted by the previous adapter instance, so a restart
+	 * resumes both sweeps instead of paging from the start. Checkpoints older than {@link GoogleWorkspaceConstant#CHECKPOINT_MAX_AGE}
+	 * are ignored, since their page tokens are likely expired.
 	 */
-	private void populateDeviceDetails() {
+	private void restorePaginationCheckpoints() {
+		if (StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			return;
+		}
+		String fileName = String.format(GoogleWorkspaceConstant.CHECKPOINT_FILE_NAME, Integer.toHexString(Objects.hash(getHost(), getLogin())));
+		paginationCheckpointStore = new PaginationCheckpointStore(Paths.get(snapshotDirectory.trim(), fileName));
 		try {
-			String telemetryCommand = GoogleWorkspaceCommand.TELEMETRY_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId);
-			if (StringUtils.isNotNullOrEmpty(nextTokenTelemetry)) {
-				telemetryCommand = telemetryCommand + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + nextTokenTelemetry;
-			}
-			JsonNode telemetryResponse = doGet(telemetryCommand, JsonNode.class);
-			nextTokenTelemetry = GoogleWorkspaceConstant.EMPTY;
-			if (telemetryResponse.has(GoogleWorkspaceConstant.NEXT_TOKEN)) {
-				nextTokenTelemetry = telemetryResponse.get(GoogleWorkspaceConstant.NEXT_TOKEN).asText();
+			PaginationCheckpoints checkpoints = paginationCheckpointStore.read();
+			if (checkpoints == null) {
+				return;
 			}
-
-			if (StringUtils.isNotNullOrEmpty(filterOrgUnit) || StringUtils.isNotNullOrEmpty(filterSerialNumber)) {
-				aggregatedDeviceList.clear();
+			long oldest = System.currentTimeMillis() - GoogleWorkspaceConstant.CHECKPOINT_MAX_AGE;
+			PaginationCheckpoint directory = checkpoints.getDirectory();
+			if (directory != null && directory.getUpdatedAt() > oldest && StringUtils.isNotNullOrEmpty(directory.getPageToken())) {
+				nextTokenChromeOS = directory.getPageToken();
+				sweepGeneration = directory.getSweepGeneration();
+				resumedSweepGeneration = sweepGeneration;
 			}
-			for (JsonNode jsonNode : aggregatedDeviceResponse) {
-				String id = jsonNode.get(GoogleWorkspaceConstant.DEVICE_ID).asText();
-				ObjectNode objectNode = (ObjectNode) jsonNode;
-				if (!telemetryResponse.isEmpty()) {
-					JsonNode telemetryItem = getJsonNodeByDeviceId(telemetryResponse.get(GoogleWorkspaceConstant.DEVICES), id);
-					if (telemetryItem != null && telemetryItem.has(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT) && telemetryItem.get(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT).size() > 0) {
-						JsonNode audioStatus = telemetryItem.get(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT).get(0);
-						String value;
-						if (audioStatus.has(GoogleWorkspaceConstant.OUTPUT_VOLUME)) {
-							value = audioStatus.get(GoogleWorkspaceConstant.OUTPUT_VOLUME).asText();
-						} else {
-							value = String.valueOf(GoogleWorkspaceConstant.MIN_VOLUME_LEVEL);
-						}
-						objectNode.put(GoogleWorkspaceConstant.AUDIO_STATUS_REPORT, value);
-					}
-				}
-
-				JsonNode node = objectMapper.createArrayNode().add(objectNode);
-				aggregatedDeviceList.removeIf(item -> item.getDeviceId().equals(id));
-				aggregatedDeviceList.addAll(aggregatedDeviceProcessor.extractDevices(node));
+			PaginationCheckpoint telemetry = checkpoints.getTelemetry();
+			if (telemetry != null && telemetry.getUpdatedAt() > oldest && StringUtils.isNotNullOrEmpty(telemetry.getPageToken())) {
+				nextTokenTelemetry = telemetry.getPageToken();
+				telemetrySweepGeneration = telemetry.getSweepGeneration();
 			}
 		} catch (Exception e) {
-			logger.error("Error while populate aggregated device", e);
+			logger.warn("Unable to restore pagination checkpoints, starting sweeps from the first page", e);
 		}
 	}
 
 	/**
-	 * Retrieves the name of a parent organizational unit based on the provided ID.
-	 *
-	 * @param id the ID of the parent organizational unit
-	 * @return the name of the parent organizational unit, or "none" if an error occurs or the name is not found
+	 * Persists positions of the device and telemetry sweeps
 	 */
-	private String getParentOrgUnitNameById(String id) {
-		if (GoogleWorkspaceConstant.NONE.equals(id)) {
-			return GoogleWorkspaceConstant.NONE;
+	private void persistPaginationCheckpoints() {
+		PaginationCheckpointStore store = paginationCheckpointStore;
+		if (store == null) {
+			return;
 		}
+		long now = System.currentTimeMillis();
+		PaginationCheckpoints checkpoints = new PaginationCheckpoints();
+		checkpoints.setDirectory(new PaginationCheckpoint(nextTokenChromeOS, sweepGeneration, now));
+		checkpoints.setTelemetry(new PaginationCheckpoint(nextTokenTelemetry, telemetrySweepGeneration, now));
 		try {
-			JsonNode parentOrgUnitResponse = this.doGet(GoogleWorkspaceCommand.PARENT_ORG_UNIT_COMMAND.replace(GoogleWorkspaceConstant.PATH_VARIABLE_CUSTOMER_ID, customerId) + id, JsonNode.class);
-			if (parentOrgUnitResponse.has(GoogleWorkspaceConstant.NAME)) {
-				return parentOrgUnitResponse.get(GoogleWorkspaceConstant.NAME).asText();
-			}
+			store.write(checkpoints);
 		} catch (Exception e) {
-			logger.error("Error while retrieve Parent Org Unit", e);
-			return GoogleWorkspaceConstant.NONE;
+			logger.warn("Unable to persist pagination checkpoints", e);
 		}
-		return GoogleWorkspaceConstant.NONE;
 	}
 
 	/**
-	 * Clone an aggregated device list that based on aggregatedDeviceList variable
-	 * populate monitoring and controlling for aggregated device
-	 *
-	 * @return List<AggregatedDevice> aggregated device list
+	 * Persists current device and organizational unit inventory, at most once per {@link GoogleWorkspaceConstant#SNAPSHOT_WRITE_INTERVAL}.
 	 */
-	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
-		List<AggregatedDevice> resultAggregatedDeviceList = new ArrayList<>();
+	private void persistInventorySnapshot() {
+		if (inventorySnapshotStore == null || orgUnitList.isEmpty() || aggregatedDeviceList.isEmpty()
+				|| System.currentTimeMillis() - lastSnapshotWriteTimestamp < GoogleWorkspaceConstant.SNAPSHOT_WRITE_INTERVAL) {
+			return;
+		}
+		InventorySnapshot snapshot = new InventorySnapshot();
+		snapshot.setCreatedAt(System.currentTimeMillis());
+		snapshot.setParentOrgUnit(parentOrgUnit);
+		snapshot.setOrgUnits(new ArrayList<>(orgUnitList));
 		synchronized (aggregatedDeviceList) {
 			for (AggregatedDevice aggregatedDevice : aggregatedDeviceList) {
-				Map<String, String> mappingStatistic = aggregatedDevice.getProperties();
-				Map<String, String> dynamics = new HashMap<>();
-				Map<String, String> stats = new HashMap<>();
-				aggregatedDevice.setDeviceName(aggregatedDevice.getDeviceModel() + " (" + aggregatedDevice.getDeviceName() + ")");
-				if (aggregatedDevice.getDeviceModel().contains(GoogleWorkspaceConstant.CHROMEBOOK)) {
-					aggregatedDevice.setDeviceModel(GoogleWorkspaceConstant.CHROMEBOOK);
-				}
-				if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline()) && StringUtils.isNullOrEmpty(aggregatedDevice.getProperties().get(GoogleWorkspaceConstant.VOLUME_LEVEL))) {
-					aggregatedDevice.setDeviceOnline(false);
-				}
-				mapMonitoringProperty(mappingStatistic, stats);
-				mapDynamicStatistic(mappingStatistic, stats, dynamics);
-
-				aggregatedDevice.setProperties(stats);
-				aggregatedDevice.setDynamicStatistics(dynamics);
-				resultAggregatedDeviceList.add(aggregatedDevice);
+				DeviceSnapshot deviceSnapshot = new DeviceSnapshot();
+				deviceSnapshot.setDeviceId(aggregatedDevice.getDeviceId());
+				deviceSnapshot.setDeviceName(aggregatedDevice.getDeviceName());
+				deviceSnapshot.setDeviceModel(aggregatedDevice.getDeviceModel());
+				deviceSnapshot.setDeviceOnline(aggregatedDevice.getDeviceOnline());
+				deviceSnapshot.setProperties(aggregatedDevice.getProperties());
+				deviceSnapshot.setCollectedAt(aggregatedDevice.getTimestamp());
+				snapshot.getDevices().add(deviceSnapshot);
 			}
 		}
-		return resultAggregatedDeviceList;
+		try {
+			inventorySnapshotStore.write(snapshot);
+			lastSnapshotWriteTimestamp = snapshot.getCreatedAt();
+		} catch (Exception e) {
+			logger.warn("Unable to persist inventory snapshot", e);
+		}
+	}
+
+	/**
+	 * Converts a value from milliseconds to a formatted date time string.
+	 *
+	 * @param milliseconds the value in milliseconds
+	 * @return the formatted date time string in {@link GoogleWorkspaceConstant#NEW_FORMAT_DATETIME} format
+	 */
+	private String convertMillisecondsToDateTime(long milliseconds) {
+		SimpleDateFormat outputFormatter = new SimpleDateFormat(GoogleWorkspaceConstant.NEW_FORMAT_DATETIME, Locale.US);
+		outputFormatter.setTimeZone(TimeZone.getTimeZone(GoogleWorkspaceConstant.UTC));
+		return outputFormatter.format(new Date(milliseconds));
 	}
 
 	/**
@@ -920,111 +3438,130 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 	private void mapMonitoringProperty(Map<String, String> mappingStatistic, Map<String, String> stats) {
 		String value;
 		String name;
-		NetworkDTO networkDTO;
-		JsonNode jsonNodeValue;
 		for (AggregatedDeviceEnum aggregatedDeviceMetric : AggregatedDeviceEnum.values()) {
 			name = aggregatedDeviceMetric.getName();
 			value = getDefaultValueForNullData(mappingStatistic.get(name));
-			switch (aggregatedDeviceMetric) {
-				case PLATFORM_VERSION:
-					value = value.split(GoogleWorkspaceConstant.SPACE_REGEX)[0];
+			try {
+				mapMonitoringProperty(aggregatedDeviceMetric, name, value, stats);
+			} catch (Exception e) {
+				// a malformed field falls back to None instead of failing the whole device
+				stats.put(name, GoogleWorkspaceConstant.NONE);
+				deviceQuarantine.recordFieldError(name);
+			}
+		}
+	}
+
+	/**
+	 * Maps and transforms a single monitoring property.
+	 *
+	 * @param aggregatedDeviceMetric property to map
+	 * @param name name of the property
+	 * @param value raw value of the property
+	 * @param stats the map to put the mapped property into
+	 */
+	private void mapMonitoringProperty(AggregatedDeviceEnum aggregatedDeviceMetric, String name, String value, Map<String, String> stats) {
+		NetworkDTO networkDTO;
+		JsonNode jsonNodeValue;
+		switch (aggregatedDeviceMetric) {
+			case PLATFORM_VERSION:
+				value = value.split(GoogleWorkspaceConstant.SPACE_REGEX)[0];
+				stats.put(name, value);
+				break;
+			case AUTO_UPDATE_EXPIRATION:
+				stats.put(name, convertMillisecondsToDate(value));
+				break;
+			case LAST_SYNC:
+			case ENROLLMENT_TIME:
+				stats.put(name, convertFormatDateTime(value));
+				break;
+			case MAC_ADDRESS:
+				stats.put(name, formatMacAddress(value));
+				break;
+			case MEMORY_TOTAL:
+				stats.put(name, convertByteToGB(value));
+				break;
+			case ORG_UNIT:
+				if (GoogleWorkspaceConstant.NONE.equals(value)) {
 					stats.put(name, value);
-					break;
-				case AUTO_UPDATE_EXPIRATION:
-					stats.put(name, convertMillisecondsToDate(value));
-					break;
-				case LAST_SYNC:
-				case ENROLLMENT_TIME:
-					stats.put(name, convertFormatDateTime(value));
-					break;
-				case MAC_ADDRESS:
-					stats.put(name, formatMacAddress(value));
-					break;
-				case MEMORY_TOTAL:
-					stats.put(name, convertByteToGB(value));
-					break;
-				case ORG_UNIT:
-					if (GoogleWorkspaceConstant.NONE.equals(value)) {
-						stats.put(name, value);
-					} else if (GoogleWorkspaceConstant.SLASH.equals(value)) {
-						stats.put(name, parentOrgUnit);
-					} else {
-						stats.put(name, value.substring(1));
-					}
-					break;
-				case IP_ADDRESS:
-					networkDTO = getKnowNetworkValue(value);
-					if (networkDTO != null) {
-						stats.put(name, networkDTO.getIpAddress());
-					} else {
-						stats.put(name, GoogleWorkspaceConstant.NONE);
-					}
-					break;
-				case WAN_IP_ADDRESS:
-					networkDTO = getKnowNetworkValue(value);
-					if (networkDTO != null) {
-						stats.put(name, networkDTO.getWanIpAddress());
-					} else {
-						stats.put(name, GoogleWorkspaceConstant.NONE);
-					}
-					break;
-				case RECENT_USERS:
-					jsonNodeValue = getJsonNodeValue(value);
-					if (jsonNodeValue != null) {
-						JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1);
-						stats.put(name, lastObject.get(GoogleWorkspaceConstant.EMAIL).asText());
-					} else {
-						stats.put(name, GoogleWorkspaceConstant.NONE);
-					}
-					break;
-				case RECENT_ACTIVITY:
-					jsonNodeValue = getJsonNodeValue(value);
-					if (jsonNodeValue != null) {
-						JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1);
-						String date = convertDateFormat(getDefaultValueForNullData(lastObject.get(GoogleWorkspaceConstant.DATE).asText()));
-						String activeTime = convertMilliseconds(getDefaultValueForNullData(lastObject.get(GoogleWorkspaceConstant.ACTIVE_TIME).toString()));
-						if (!GoogleWorkspaceConstant.NONE.equals(date) && !GoogleWorkspaceConstant.NONE.equals(activeTime)) {
-							stats.put(name, activeTime + GoogleWorkspaceConstant.ON + date);
-						} else {
-							stats.put(name, GoogleWorkspaceConstant.NONE);
-						}
+				} else if (GoogleWorkspaceConstant.SLASH.equals(value)) {
+					stats.put(name, parentOrgUnit);
+				} else {
+					stats.put(name, value.substring(1));
+				}
+				break;
+			case IP_ADDRESS:
+				networkDTO = getKnowNetworkValue(value);
+				if (networkDTO != null) {
+					stats.put(name, networkDTO.getIpAddress());
+				} else {
+					stats.put(name, GoogleWorkspaceConstant.NONE);
+				}
+				break;
+			case WAN_IP_ADDRESS:
+				networkDTO = getKnowNetworkValue(value);
+				if (networkDTO != null) {
+					stats.put(name, networkDTO.getWanIpAddress());
+				} else {
+					stats.put(name, GoogleWorkspaceConstant.NONE);
+				}
+				break;
+			case RECENT_USERS:
+				jsonNodeValue = getJsonNodeValue(value);
+				if (jsonNodeValue != null) {
+					JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1);
+					stats.put(name, lastObject.get(GoogleWorkspaceConstant.EMAIL).asText());
+				} else {
+					stats.put(name, GoogleWorkspaceConstant.NONE);
+				}
+				break;
+			case RECENT_ACTIVITY:
+				jsonNodeValue = getJsonNodeValue(value);
+				if (jsonNodeValue != null) {
+					JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1);
+					String date = convertDateFormat(getDefaultValueForNullData(lastObject.get(GoogleWorkspaceConstant.DATE).asText()));
+					String activeTime = convertMilliseconds(getDefaultValueForNullData(lastObject.get(GoogleWorkspaceConstant.ACTIVE_TIME).toString()));
+					if (!GoogleWorkspaceConstant.NONE.equals(date) && !GoogleWorkspaceConstant.NONE.equals(activeTime)) {
+						stats.put(name, activeTime + GoogleWorkspaceConstant.ON + date);
 					} else {
 						stats.put(name, GoogleWorkspaceConstant.NONE);
 					}
-					break;
-				case MEMORY_FREE:
-					jsonNodeValue = getJsonNodeValue(value);
-					if (jsonNodeValue != null) {
-						JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1).get(GoogleWorkspaceConstant.SYSTEM_RAM_FREE_INFO);
-						List<String> memoryFrees = convertJsonNodeToList(lastObject, new TypeReference<List<String>>() {
-						});
-						if (!memoryFrees.isEmpty()) {
-							stats.put(name, convertByteToGB(memoryFrees.get(0)));
-						} else {
-							stats.put(name, GoogleWorkspaceConstant.NONE);
-						}
+				} else {
+					stats.put(name, GoogleWorkspaceConstant.NONE);
+				}
+				break;
+			case MEMORY_FREE:
+				jsonNodeValue = getJsonNodeValue(value);
+				if (jsonNodeValue != null) {
+					JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1).get(GoogleWorkspaceConstant.SYSTEM_RAM_FREE_INFO);
+					List<String> memoryFrees = convertJsonNodeToList(lastObject, new TypeReference<List<String>>() {
+					});
+					if (!memoryFrees.isEmpty()) {
+						stats.put(name, convertByteToGB(memoryFrees.get(0)));
 					} else {
 						stats.put(name, GoogleWorkspaceConstant.NONE);
 					}
-					break;
-				case CPU_UTILIZATION:
-					jsonNodeValue = getJsonNodeValue(value);
-					if (jsonNodeValue != null) {
-						JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 2).get(GoogleWorkspaceConstant.CPU_UTILIZATION_PERCENTAGE_INFO);
-						List<Integer> cpuUtilizationValues = convertJsonNodeToList(lastObject, new TypeReference<List<Integer>>() {
-						});
-						if (!cpuUtilizationValues.isEmpty()) {
-							stats.put(name, String.valueOf(cpuUtilizationValues.get(0)));
-						} else {
-							stats.put(name, GoogleWorkspaceConstant.NONE);
-						}
+				} else {
+					stats.put(name, GoogleWorkspaceConstant.NONE);
+				}
+				break;
+			case CPU_UTILIZATION:
+				jsonNodeValue = getJsonNodeValue(value);
+				if (jsonNodeValue != null) {
+					// the report before the last one is used when there is one, a device may report a single sample
+					JsonNode lastObject = jsonNodeValue.get(Math.max(0, jsonNodeValue.size() - 2)).get(GoogleWorkspaceConstant.CPU_UTILIZATION_PERCENTAGE_INFO);
+					List<Integer> cpuUtilizationValues = convertJsonNodeToList(lastObject, new TypeReference<List<Integer>>() {
+					});
+					if (!cpuUtilizationValues.isEmpty()) {
+						stats.put(name, String.valueOf(cpuUtilizationValues.get(0)));
 					} else {
 						stats.put(name, GoogleWorkspaceConstant.NONE);
 					}
-					break;
-				default:
-					stats.put(name, value);
-			}
+				} else {
+					stats.put(name, GoogleWorkspaceConstant.NONE);
+				}
+				break;
+			default:
+				stats.put(name, value);
 		}
 	}
 
@@ -1039,38 +3576,55 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 		String value = getDefaultValueForNullData(mappingStatistic.get(GoogleWorkspaceConstant.CPU_TEMPERATURE));
 		String name;
 		String propertyName;
-		JsonNode jsonNodeValue = getJsonNodeValue(value);
-
-		if (jsonNodeValue != null && jsonNodeValue.isArray() && jsonNodeValue.size() > 0) {
-			JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1).get(GoogleWorkspaceConstant.CPU_TEMPERATURE_INFO);
-			List<CPUTemperature> cpuTemperatures = convertJsonNodeToList(lastObject, new TypeReference<List<CPUTemperature>>() {
-			});
-			if (!cpuTemperatures.isEmpty()) {
-				for (CPUTemperature cpuTemperature : cpuTemperatures) {
-					name = CPUTemperatureEnum.findNameByValue(cpuTemperature.getLabel());
-					if (StringUtils.isNotNullOrEmpty(name)) {
+		try {
+			JsonNode jsonNodeValue = getJsonNodeValue(value);
+
+			if (jsonNodeValue != null && jsonNodeValue.isArray() && jsonNodeValue.size() > 0) {
+				JsonNode lastObject = jsonNodeValue.get(jsonNodeValue.size() - 1).get(GoogleWorkspaceConstant.CPU_TEMPERATURE_INFO);
+				List<CPUTemperature> cpuTemperatures = convertJsonNodeToList(lastObject, new TypeReference<List<CPUTemperature>>() {
+				});
+				if (!cpuTemperatures.isEmpty()) {
+					HistoricalPropertyRouter router = historicalPropertyRouter;
+					for (CPUTemperature cpuTemperature : cpuTemperatures) {
+						name = CPUTemperatureEnum.findNameByValue(cpuTemperature.getLabel());
+						if (StringUtils.isNullOrEmpty(name)) {
+							name = formatTemperatureName(cpuTemperature.getLabel());
+						}
 						propertyName = GoogleWorkspaceConstant.CPU_TEMPERATURE_GROUP + name;
-					} else {
-						propertyName = GoogleWorkspaceConstant.CPU_TEMPERATURE_GROUP + formatTemperatureName(cpuTemperature.getLabel());
-					}
-					boolean propertyListed = false;
-					if (!historicalProperties.isEmpty()) {
-						if (propertyName.contains(GoogleWorkspaceConstant.HASH)) {
-							propertyListed = historicalProperties.contains(propertyName.split(GoogleWorkspaceConstant.HASH)[1]);
+						if (router.isHistorical(propertyName, name)) {
+							dynamic.put(propertyName, String.valueOf(cpuTemperature.getTemperature()));
 						} else {
-							propertyListed = historicalProperties.contains(propertyName);
+							stats.put(propertyName, String.valueOf(cpuTemperature.getTemperature()));
 						}
 					}
-					if (propertyListed) {
-						dynamic.put(propertyName, String.valueOf(cpuTemperature.getTemperature()));
-					} else {
-						stats.put(propertyName, String.valueOf(cpuTemperature.getTemperature()));
-					}
 				}
+			} else {
+				Arrays.stream(DynamicStatisticsDefinition.values())
+						.forEach(definition -> stats.put(GoogleWorkspaceConstant.CPU_TEMPERATURE_GROUP + definition.getName(), GoogleWorkspaceConstant.NONE));
 			}
-		} else {
+		} catch (Exception e) {
+			// malformed temperature reports fall back to None instead of failing the whole device
 			Arrays.stream(DynamicStatisticsDefinition.values())
 					.forEach(definition -> stats.put(GoogleWorkspaceConstant.CPU_TEMPERATURE_GROUP + definition.getName(), GoogleWorkspaceConstant.NONE));
+			deviceQuarantine.recordFieldError(GoogleWorkspaceConstant.CPU_TEMPERATURE);
+		}
+	}
+
+	/**
+	 * Moves numeric properties listed in {@link #historicalPropertyRouter} from the stats map to the dynamic map.
+	 * Properties without value are kept in the stats map, since dynamic statistics must be numeric.
+	 *
+	 * @param stats The stats map containing the mapped properties.
+	 * @param dynamic The dynamic map to populate with the routed properties.
+	 */
+	private void routeHistoricalProperties(Map<String, String> stats, Map<String, String> dynamic) {
+		for (AggregatedDeviceEnum metric : historicalPropertyRouter.getRoutedMetrics()) {
+			String name = metric.getName();
+			String value = stats.get(name);
+			if (StringUtils.isNotNullOrEmpty(value) && !GoogleWorkspaceConstant.NONE.equals(value)) {
+				stats.remove(name);
+				dynamic.put(name, value);
+			}
 		}
 	}
 
@@ -1146,20 +3700,6 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 		}
 	}
 
-	/**
-	 * Retrieves a JsonNode object from a collection based on the matching device ID.
-	 *
-	 * @param jsonNode the collection of JsonNode objects
-	 * @param id the device ID to match
-	 * @return the JsonNode object with the matching device ID, or null if not found
-	 */
-	private JsonNode getJsonNodeByDeviceId(JsonNode jsonNode, String id) {
-		return StreamSupport.stream(jsonNode.spliterator(), false)
-				.filter(item -> item.has(GoogleWorkspaceConstant.DEVICE_ID) && id.equals(item.get(GoogleWorkspaceConstant.DEVICE_ID).asText()))
-				.findFirst()
-				.orElse(null);
-	}
-
 	/**
 	 * Retrieves the current organization unit name.
 	 *
@@ -1170,11 +3710,16 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 	 */
 	private String getCurrentOrgUnitName() {
 		orgUnitNameList.clear();
-		if (StringUtils.isNotNullOrEmpty(filterOrgUnit)) {
-			return filterOrgUnit;
+		DeviceFilter filter = getDeviceFilter();
+		if (filter.hasOrgUnitFilter()) {
+			if (StringUtils.isNotNullOrEmpty(currentOrgUnitName) && orgUnitList.stream()
+					.anyMatch(orgUnit -> currentOrgUnitName.equals(orgUnit.getName()) && filter.matchesOrgUnit(orgUnit.getOrgUnitPath()))) {
+				return currentOrgUnitName;
+			}
+			return orgUnitList.stream().filter(orgUnit -> filter.matchesOrgUnit(orgUnit.getOrgUnitPath())).map(OrgUnit::getName).findFirst().orElse(filterOrgUnit);
 		}
-		if (StringUtils.isNotNullOrEmpty(filterSerialNumber) && aggregatedDeviceResponse.size() > 0) {
-			for (JsonNode item : aggregatedDeviceResponse) {
+		if (StringUtils.isNotNullOrEmpty(filterSerialNumber) && filteredDeviceResponse.size() > 0) {
+			for (JsonNode item : filteredDeviceResponse) {
 				if (item.get(GoogleWorkspaceConstant.ORG_UNIT_PATH).asText().length() == 1) {
 					orgUnitNameList.add(parentOrgUnit);
 				} else {
@@ -1210,17 +3755,16 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 	 * @return the count of matching organizational units
 	 */
 	private long checkFilterOrgUnit() {
-		long orgUnitCount = orgUnitList.stream()
-				.filter(orgUnit -> orgUnit.getName().equals(filterOrgUnit))
-				.count();
-		long deviceCount = aggregatedDeviceResponse.size();
-		if (StringUtils.isNullOrEmpty(filterOrgUnit) && StringUtils.isNullOrEmpty(filterSerialNumber)) {
+		DeviceFilter filter = getDeviceFilter();
+		if (!filter.hasOrgUnitFilter() && StringUtils.isNullOrEmpty(filterSerialNumber)) {
 			return orgUnitList.size();
 		}
-		if (StringUtils.isNotNullOrEmpty(filterOrgUnit) && StringUtils.isNullOrEmpty(filterSerialNumber)) {
-			return orgUnitCount;
+		if (filter.hasOrgUnitFilter() && StringUtils.isNullOrEmpty(filterSerialNumber)) {
+			return orgUnitList.stream()
+					.filter(orgUnit -> filter.matchesOrgUnit(orgUnit.getOrgUnitPath()))
+					.count();
 		}
-		return deviceCount;
+		return filteredDeviceResponse.size();
 	}
 
 	/**
@@ -1245,7 +3789,7 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 			params.put(GoogleWorkspaceConstant.REFRESH_TOKEN, refreshToken);
 			params.put(GoogleWorkspaceConstant.GRANT_TYPE, GoogleWorkspaceConstant.REFRESH_TOKEN);
 			try {
-				JsonNode response = doPost(GoogleWorkspaceConstant.OAUTH2_URL, params, JsonNode.class);
+				JsonNode response = doPostToken(endpointRegistry.resolve(ApiServiceEnum.OAUTH2, GoogleWorkspaceCommand.OAUTH2_COMMAND), params);
 				if (response != null && response.has(GoogleWorkspaceConstant.ACCESS_TOKEN)) {
 					token = response.get(GoogleWorkspaceConstant.ACCESS_TOKEN).asText();
 				}
@@ -1267,7 +3811,13 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 			return false;
 		}
 		if (StringUtils.isNullOrEmpty(apiToken) || System.currentTimeMillis() - tokenExpire >= expiresIn) {
-			apiToken = getToken();
+			try {
+				apiToken = tokenSingleFlight.execute(GoogleWorkspaceCommand.OAUTH2_COMMAND, this::getToken);
+			} catch (ResourceNotReachableException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new ResourceNotReachableException("Can't get token from client id and client secret", e);
+			}
 		}
 		return StringUtils.isNotNullOrEmpty(apiToken);
 	}
@@ -1360,25 +3910,6 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 		return GoogleWorkspaceConstant.NONE;
 	}
 
-	/**
-	 * Checks whether the input string conforms to a specified serial number format.
-	 *
-	 * @param input The input string to be checked.
-	 * @return {@code true} if the input string is valid and conforms to the serial number format, {@code false} otherwise.
-	 */
-	private boolean checkSerialNumberFormat(String input) {
-		if (StringUtils.isNullOrEmpty(input)) {
-			return true;
-		}
-		if (input.length() < 3) {
-			return false;
-		}
-		String pattern = GoogleWorkspaceConstant.REGEX_SERIAL_NUMBER;
-		Pattern regex = Pattern.compile(pattern);
-		Matcher matcher = regex.matcher(input);
-		return matcher.matches();
-	}
-
 	/**
 	 * Converts a value from milliseconds to a formatted time representation.
 	 *
@@ -1433,16 +3964,6 @@ public class GoogleWorkspaceCommunicator extends RestCommunicator implements Agg
 		return GoogleWorkspaceConstant.NONE;
 	}
 
-	/**
-	 * Returns a default filter value for null data.
-	 *
-	 * @param value the input value to check
-	 * @return the original value if it is not null or empty, or an empty value constant if it is null or empty
-	 */
-	private String getDefaultFilterValueForNullData(String value) {
-		return StringUtils.isNotNullOrEmpty(value) ? value : GoogleWorkspaceConstant.EMPTY;
-	}
-
 	/**
 	 * check value is null or empty
 	 *
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.communicator.aggregator.http.SingleFlight;
+
+/**
+ * SharedTenantCache is a JVM-wide cache of API responses shared by all adapter instances monitoring the same tenant.
+ * Responses are keyed by request URI and kept for a time-to-live, concurrent misses of the same URI across instances
+ * are coalesced into one request. Every caller receives its own copy of the response, since responses are modified while
+ * being processed.
+ * Instances obtain the cache of their tenant with {@link #acquire(String)} and give it back with {@link #release(SharedTenantCache)},
+ * the cache is dropped when the last instance releases it.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class SharedTenantCache {
+	private static final Map<String, SharedTenantCache> TENANTS = new ConcurrentHashMap<>();
+
+	private final String tenantKey;
+	private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+	private final SingleFlight<String, JsonNode> singleFlight = new SingleFlight<>();
+	private final AtomicLong hits = new AtomicLong();
+	private int references;
+
+	/**
+	 * Cached response with its load timestamp
+	 */
+	private static class CacheEntry {
+		private final JsonNode value;
+		private final long loadedAt;
+
+		CacheEntry(JsonNode value, long loadedAt) {
+			this.value = value;
+			this.loadedAt = loadedAt;
+		}
+	}
+
+	/**
+	 * Constructs a SharedTenantCache
+	 *
+	 * @param tenantKey key of the tenant
+	 */
+	private SharedTenantCache(String tenantKey) {
+		this.tenantKey = tenantKey;
+	}
+
+	/**
+	 * Obtains the cache of a tenant, creating it for the first instance.
+	 *
+	 * @param tenantKey key identifying the tenant and the credentials used to access it
+	 * @return cache of the tenant
+	 */
+	public static SharedTenantCache acquire(String tenantKey) {
+		return TENANTS.compute(tenantKey, (key, cache) -> {
+			SharedTenantCache tenantCache = cache != null ? cache : new SharedTenantCache(key);
+			tenantCache.references++;
+			return tenantCache;
+		});
+	}
+
+	/**
+	 * Gives back the cache of a tenant, dropping it when no instance uses it anymore.
+	 *
+	 * @param cache cache obtained with {@link #acquire(String)}
+	 */
+	public static void release(SharedTenantCache cache) {
+		TENANTS.computeIfPresent(cache.tenantKey, (key, tenantCache) -> --tenantCache.references > 0 ? tenantCache : null);
+	}
+
+	/**
+	 * Retrieves a response from the cache, loading it when missing or older than the time-to-live.
+	 * Failed loads are not cached.
+	 *
+	 * @param uri request URI
+	 * @param ttlMillis time-to-live of the response in milliseconds
+	 * @param loader loads the response from the API
+	 * @return copy of the response
+	 * @throws Exception if the response cannot be loaded
+	 */
+	public JsonNode get(String uri, long ttlMillis, Callable<JsonNode> loader) throws Exception {
+		long now = System.currentTimeMillis();
+		CacheEntry entry = entries.get(uri);
+		if (entry != null && now - entry.loadedAt < ttlMillis) {
+			hits.incrementAndGet();
+			return entry.value.deepCopy();
+		}
+		JsonNode value = singleFlight.execute(uri, () -> {
+			JsonNode loaded = loader.call();
+			long loadedAt = System.currentTimeMillis();
+			entries.put(uri, new CacheEntry(loaded, loadedAt));
+			entries.values().removeIf(cacheEntry -> loadedAt - cacheEntry.loadedAt >= ttlMillis);
+			return loaded;
+		});
+		return value.deepCopy();
+	}
+
+	/**
+	 * Retrieves number of requests answered from the cache or by a request of another instance
+	 *
+	 * @return number of hits
+	 */
+	public long getHits() {
+		return hits.get() + singleFlight.getHits();
+	}
+
+	/**
+	 * Retrieves number of requests sent to the API
+	 *
+	 * @return number of misses
+	 */
+	public long getMisses() {
+		return singleFlight.getMisses();
+	}
+}
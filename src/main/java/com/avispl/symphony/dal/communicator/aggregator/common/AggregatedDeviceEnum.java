@@ -12,39 +12,42 @@ package com.avispl.symphony.dal.communicator.aggregator.common;
  * @since 1.0.0
  */
 public enum AggregatedDeviceEnum {
-	STATUS("Status"),
-	SERIAL_NUMBER("SerialNumber"),
-	CPU_MODEL("CPUModel"),
-	MAC_ADDRESS("MACAddress"),
-	CHROME_OS_VERSION("ChromeOSVersion"),
-	PLATFORM_VERSION("PlatformVersion"),
-	FIRMWARE_VERSION("FirmwareVersion"),
-	TPM_FIRMWARE_VERSION("TPMFirmwareVersion"),
-	BOOT_MODE("BootMode"),
-	ENROLLMENT_TIME("EnrollmentTime"),
-	AUTO_UPDATE_EXPIRATION("AutoUpdateExpiration"),
-	ANNOTATED_USER("AnnotatedUser"),
-	ORG_UNIT("OrgUnit"),
-	MEMORY_TOTAL("MemoryTotal(GB)"),
-	LAST_SYNC("LastSync"),
-	MEMORY_FREE("MemoryFree(GB)"),
-	CPU_UTILIZATION("CPUUtilization(%)"),
-	RECENT_ACTIVITY("RecentActivity"),
-	RECENT_USERS("RecentUsers"),
-	IP_ADDRESS("IPAddress"),
-	WAN_IP_ADDRESS("WANIPAddress"),
-	VOLUME_LEVEL("VolumeLevel(%)"),
+	STATUS("Status", false),
+	SERIAL_NUMBER("SerialNumber", false),
+	CPU_MODEL("CPUModel", false),
+	MAC_ADDRESS("MACAddress", false),
+	CHROME_OS_VERSION("ChromeOSVersion", false),
+	PLATFORM_VERSION("PlatformVersion", false),
+	FIRMWARE_VERSION("FirmwareVersion", false),
+	TPM_FIRMWARE_VERSION("TPMFirmwareVersion", false),
+	BOOT_MODE("BootMode", false),
+	ENROLLMENT_TIME("EnrollmentTime", false),
+	AUTO_UPDATE_EXPIRATION("AutoUpdateExpiration", false),
+	ANNOTATED_USER("AnnotatedUser", false),
+	ORG_UNIT("OrgUnit", false),
+	MEMORY_TOTAL("MemoryTotal(GB)", true),
+	LAST_SYNC("LastSync", false),
+	MEMORY_FREE("MemoryFree(GB)", true),
+	CPU_UTILIZATION("CPUUtilization(%)", true),
+	RECENT_ACTIVITY("RecentActivity", false),
+	RECENT_USERS("RecentUsers", false),
+	IP_ADDRESS("IPAddress", false),
+	WAN_IP_ADDRESS("WANIPAddress", false),
+	VOLUME_LEVEL("VolumeLevel(%)", true),
 	;
 	private final String name;
+	private final boolean numeric;
 
 	/**
 	 * Represents an aggregated metric in the Google Workspace.
 	 * This class is used to store the name of the metric.
 	 *
 	 * @param name the name of the aggregated metric
+	 * @param numeric whether the metric value is numeric and can be published as dynamic statistic
 	 */
-	AggregatedDeviceEnum(String name) {
+	AggregatedDeviceEnum(String name, boolean numeric) {
 		this.name = name;
+		this.numeric = numeric;
 	}
 
 	/**
@@ -55,4 +58,13 @@ public enum AggregatedDeviceEnum {
 	public String getName() {
 		return name;
 	}
+
+	/**
+	 * Retrieves {@link #numeric}
+	 *
+	 * @return value of {@link #numeric}
+	 */
+	public boolean isNumeric() {
+		return numeric;
+	}
 }
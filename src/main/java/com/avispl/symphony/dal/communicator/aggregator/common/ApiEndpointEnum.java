@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.common;
+
+/**
+ * ApiEndpointEnum include Google API endpoints the adapter calls, used to group request metrics.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public enum ApiEndpointEnum {
+	BATCH("Batch", "/batch/"),
+	TELEMETRY("Telemetry", "/telemetry/"),
+	REPORTS("Reports", "/reports:"),
+	CHROME_OS("ChromeOS", "/devices/chromeos"),
+	ORG_UNITS("OrgUnits", "/orgunits"),
+	USERS("Users", "/users"),
+	OAUTH("OAuth", "/token"),
+	OTHER("Other", null),
+	;
+	private final String name;
+	private final String pathMarker;
+
+	/**
+	 * Constructs an ApiEndpointEnum enum constant with the specified name and path marker.
+	 *
+	 * @param name the name of the endpoint used in statistics
+	 * @param pathMarker part of the request path identifying the endpoint
+	 */
+	ApiEndpointEnum(String name, String pathMarker) {
+		this.name = name;
+		this.pathMarker = pathMarker;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Finds the endpoint a request URI belongs to. Only the path is matched, so query parameters such as
+	 * organizational unit paths cannot affect the result.
+	 * Endpoints are checked in declaration order, so more specific paths have to be declared first.
+	 *
+	 * @param uri request URI
+	 * @return matching endpoint, or {@link #OTHER} if none matches
+	 */
+	public static ApiEndpointEnum fromUri(String uri) {
+		if (uri != null) {
+			int queryStart = uri.indexOf('?');
+			String path = queryStart < 0 ? uri : uri.substring(0, queryStart);
+			for (ApiEndpointEnum endpoint : values()) {
+				if (endpoint.pathMarker != null && path.contains(endpoint.pathMarker)) {
+					return endpoint;
+				}
+			}
+		}
+		return OTHER;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.common;
+
+/**
+ * ApiServiceEnum include Google API services the adapter talks to, with their default base URLs.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public enum ApiServiceEnum {
+	DIRECTORY(GoogleWorkspaceConstant.EMPTY),
+	CHROME_MANAGEMENT("https://chromemanagement.googleapis.com"),
+	OAUTH2("https://oauth2.googleapis.com"),
+	;
+	private final String defaultBaseUrl;
+
+	/**
+	 * Constructs an ApiServiceEnum enum constant with the specified default base URL.
+	 *
+	 * @param defaultBaseUrl base URL used when none is configured, empty to use the configured adapter host
+	 */
+	ApiServiceEnum(String defaultBaseUrl) {
+		this.defaultBaseUrl = defaultBaseUrl;
+	}
+
+	/**
+	 * Retrieves {@link #defaultBaseUrl}
+	 *
+	 * @return value of {@link #defaultBaseUrl}
+	 */
+	public String getDefaultBaseUrl() {
+		return defaultBaseUrl;
+	}
+}
@@ -16,5 +16,10 @@ public class GoogleWorkspaceCommand {
 	public static final String ORG_UNIT_COMMAND = "/admin/directory/v1/customer/{CustomerId}/orgunits";
 	public static final String CHROME_OS_COMMAND = "/admin/directory/v1/customer/{CustomerId}/devices/chromeos?maxResults=400&orgUnitPath={orgUnit}&query={serialNumber}";
 	public static final String PARENT_ORG_UNIT_COMMAND = "/admin/directory/v1/customer/{CustomerId}/orgunits/";
-	public static final String TELEMETRY_COMMAND = "https://chromemanagement.googleapis.com/v1/customers/{CustomerId}/telemetry/devices?pageSize=400&readMask=deviceId,audioStatusReport";
+	public static final String DIRECTORY_BATCH_COMMAND = "/batch/admin/directory_v1";
+	public static final String TELEMETRY_COMMAND = "/v1/customers/{CustomerId}/telemetry/devices?pageSize=400&readMask=deviceId,audioStatusReport";
+	public static final String OAUTH2_COMMAND = "/token";
+	public static final String COUNT_CHROME_VERSIONS_COMMAND = "/v1/customers/{CustomerId}/reports:countChromeVersions?pageSize=100";
+	public static final String COUNT_AUTO_UPDATE_EXPIRATION_COMMAND = "/v1/customers/{CustomerId}/reports:countChromeDevicesReachingAutoExpirationDate";
+	public static final String COUNT_HARDWARE_FLEET_COMMAND = "/v1/customers/{CustomerId}/reports:countChromeHardwareFleetDevices?readMask=cpuReports,memoryReports,modelReports,storageReports";
 }
@@ -38,6 +38,8 @@ public class GoogleWorkspaceConstant {
 	public static final String AUDIO_STATUS_REPORT = "audioStatusReport";
 	public static final String OUTPUT_VOLUME = "outputVolume";
 	public static final String CHROME_OS_DEVICES_COUNT = "ChromeOSDevicesCount";
+	public static final String FLEET_DEVICES_COUNT = "FleetDevicesCount";
+	public static final String FLEET_REPORTS_LAST_COLLECTED = "FleetReportsLastCollected";
 	public static final String ORGANIZATIONAL_UNIT_COUNT = "OrganizationalUnitsCount";
 	public static final String CHROMEBOOK = "Chromebook";
 	public static final String NEXT_TOKEN = "nextPageToken";
@@ -46,7 +48,6 @@ public class GoogleWorkspaceConstant {
 	public static final String NEW_FORMAT_DATETIME = "MMM dd, yyyy, h:mm a";
 	public static final String UTC = "UTC";
 	public static final String MODEL_MAPPING_AGGREGATED_DEVICE = "googleworkspace/model-mapping.yml";
-	public static final String OAUTH2_URL = "https://oauth2.googleapis.com/token";
 	public static final String PATH_VARIABLE_CUSTOMER_ID = "{CustomerId}";
 	public static final String PATH_VARIABLE_ORG_UNIT = "{orgUnit}";
 	public static final String PATH_VARIABLE_SERIAL_NUMBER = "{serialNumber}";
@@ -71,15 +72,122 @@ public class GoogleWorkspaceConstant {
 	public static final int MAC_ADDRESS_LENGTH = 12;
 	public static final int DEFAULT_ORG_UNIT_POSITION = 0;
 	public static final int MIN_VOLUME_LEVEL = 0;
-	public static final String REGEX_SERIAL_NUMBER = "^[a-zA-Z0-9]+$";
 	public static final String CPU_TEMPERATURE = "CPU_Temperature";
+	public static final String CPU_STATUS_REPORTS = "cpuStatusReports";
+	public static final String SYSTEM_RAM_FREE_REPORTS = "systemRamFreeReports";
+	public static final String REPORT_TIME = "reportTime";
+	public static final String TEMPERATURE = "temperature";
+	public static final String MODEL_REPORTS = "modelReports";
+	public static final String CPU_REPORTS = "cpuReports";
+	public static final String MEMORY_REPORTS = "memoryReports";
+	public static final String STORAGE_REPORTS = "storageReports";
+	public static final String BROWSER_VERSIONS = "browserVersions";
+	public static final String DEVICE_AUE_COUNT_REPORTS = "deviceAueCountReports";
+	public static final String REPORT_SYSTEM = "system";
+	public static final String REPORT_VERSION = "version";
+	public static final String REPORT_COUNT = "count";
+	public static final String REPORT_EXPIRED = "expired";
+	public static final String REPORT_AUE_YEAR = "aueYear";
+	public static final String REPORT_BUCKET = "bucket";
+	public static final String HISTORY_MIN = "Min";
+	public static final String HISTORY_MAX = "Max";
+	public static final String HISTORY_AVG = "Avg";
+	public static final String HISTORY_P95 = "P95";
+	public static final int HISTORY_PERCENTILE = 95;
+	public static final String SNAPSHOT_TIME = "SnapshotTime";
+	public static final String LAST_COLLECTED = "LastCollected";
+	public static final String SNAPSHOT_FILE_NAME = "googleworkspace-inventory-%s.json.gz";
+	public static final long SNAPSHOT_WRITE_INTERVAL = 60 * 1000L;
+	public static final String CHECKPOINT_FILE_NAME = "googleworkspace-checkpoint-%s.json";
+	public static final long CHECKPOINT_MAX_AGE = 60 * 60 * 1000L;
+	public static final int DEFAULT_PAGE_RETRIES = 2;
+	public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 5;
+	public static final int DEFAULT_CIRCUIT_BREAKER_COOLDOWN = 60;
+	public static final long PAGE_RETRY_BACKOFF = 500L;
+	public static final int DEFAULT_MIN_COLLECTION_INTERVAL = 1;
+	public static final int DEFAULT_MAX_COLLECTION_INTERVAL = 30;
+	public static final int HIGH_CHURN_PERCENT = 5;
+	public static final int DEFAULT_IDLE_REFRESH_INTERVAL = 15;
+	public static final int DEFAULT_OFFLINE_REFRESH_INTERVAL = 60;
+	public static final int DEFAULT_DISABLED_REFRESH_INTERVAL = 240;
+	public static final long ACTIVE_TIER_WINDOW = 60 * 60 * 1000L;
+	public static final long IDLE_TIER_WINDOW = 24 * 60 * 60 * 1000L;
+	public static final String ACTIVE_TIER_QUERY = "sync:%s..";
+	public static final int LOW_CHURN_PERCENT = 1;
+	public static final int BAD_REQUEST = 400;
+	public static final int DEFAULT_FULL_REFRESH_INTERVAL = 15;
+	public static final int DEFAULT_SHARED_CACHE_TTL = 60;
+	public static final int DEFAULT_FLEET_REPORTS_INTERVAL = 10;
+	public static final int DEFAULT_EVICTION_GRACE_PERIOD = 30;
+	public static final String DEPROVISIONED = "DEPROVISIONED";
+	public static final int PIPELINE_CHUNK_SIZE = 50;
+	public static final int QUARANTINE_CAPACITY = 1000;
+	public static final int QUARANTINE_REPORTED_DEVICE_IDS = 10;
+	public static final String QUARANTINE_STAGE_COLLECT = "Collect";
+	public static final String QUARANTINE_STAGE_PUBLISH = "Publish";
+	public static final String METRIC_HISTORY_FIELD = "MetricHistory";
+	public static final int PIPELINE_QUEUE_CAPACITY = 4;
+	public static final String SHA_256 = "SHA-256";
+	public static final String SERIAL_NUMBER = "serialNumber";
+	public static final String MODEL = "model";
+	public static final String STATUS = "status";
+	public static final String LAST_SYNC_FIELD = "lastSync";
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 4;
+	public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 12;
+	public static final int DEFAULT_CONNECTIONS_MAX_IDLE_TIME = 55 * 1000;
+	public static final String ACCEPT_ENCODING_GZIP_DEFLATE = "gzip, deflate";
+	public static final String BEARER = "Bearer ";
+	public static final String HTTP_SCHEME_PREFIX = "http://";
+	public static final String HTTPS_SCHEME_PREFIX = "https://";
 
 	// Adapter metadata
 	public static final String MONITORING_CYCLE_DURATION = "LastMonitoringCycleDuration(sec)";
 	public static final String ADAPTER_VERSION = "AdapterVersion";
 	public static final String MONITORED_DEVICES_TOTAL = "MonitoredDevicesTotal";
+	public static final String DEVICE_STORE_EVICTED = "DeviceStore#EvictedDevices";
+	public static final String DEVICE_STORE_COMPLETED_SWEEPS = "DeviceStore#CompletedSweeps";
 	public static final String ADAPTER_BUILD_DATE = "AdapterBuildDate";
 	public static final String ADAPTER_UPTIME_MIN = "AdapterUptime(min)";
 	public static final String ADAPTER_UPTIME = "AdapterUptime";
 	public static final String SYSTEM_MONITORING_CYCLE = "MonitoringCycleInterval(min)";
+	public static final String COALESCED_REQUESTS_HITS = "CoalescedRequests#Hits";
+	public static final String COALESCED_REQUESTS_MISSES = "CoalescedRequests#Misses";
+	public static final String RESPONSE_WIRE_BYTES = "ResponseCompression#WireBytes";
+	public static final String RESPONSE_DECODED_BYTES = "ResponseCompression#DecodedBytes";
+	public static final String RESPONSE_COMPRESSION_RATIO = "ResponseCompression#Ratio(%)";
+	public static final String CONNECTION_POOL_LEASED = "ConnectionPool#LeasedConnections";
+	public static final String CONNECTION_POOL_PEAK_LEASED = "ConnectionPool#PeakLeasedConnections";
+	public static final String CONNECTION_POOL_PENDING = "ConnectionPool#PendingRequests";
+	public static final String CONNECTION_POOL_UTILIZATION = "ConnectionPool#Utilization(%)";
+	public static final String SHARED_CACHE_HITS = "SharedCache#Hits";
+	public static final String SHARED_CACHE_MISSES = "SharedCache#Misses";
+	public static final String DIRECTORY_BATCH_BATCHES = "DirectoryBatch#Batches";
+	public static final String DIRECTORY_BATCH_REQUESTS = "DirectoryBatch#Requests";
+	public static final String DIRECTORY_BATCH_FILL_RATIO = "DirectoryBatch#FillRatio(%)";
+	public static final String PUBLICATION_SHARD_CURRENT = "PublicationShard#Current";
+	public static final String PUBLICATION_SHARD_TOTAL = "PublicationShard#Total";
+	public static final String PIPELINE_MAP_QUEUE_PEAK_DEPTH = "Pipeline#MapQueuePeakDepth";
+	public static final String PIPELINE_PUBLISH_QUEUE_PEAK_DEPTH = "Pipeline#PublishQueuePeakDepth";
+	public static final String PIPELINE_PREFETCH_HITS = "Pipeline#PrefetchHits";
+	public static final String PIPELINE_PREFETCH_MISSES = "Pipeline#PrefetchMisses";
+	public static final String CYCLE_BUDGET_EXCEEDED = "CycleBudget#Exceeded";
+	public static final String PAGINATION_RETRIES = "Pagination#Retries";
+	public static final String PAGINATION_RESTARTED_SWEEPS = "Pagination#RestartedSweeps";
+	public static final String QUARANTINE_DEVICES = "Quarantine#Devices";
+	public static final String QUARANTINE_DEVICE_IDS = "Quarantine#DeviceIds";
+	public static final String QUARANTINE_TOTAL = "Quarantine#Total";
+	public static final String MAPPING_ERRORS_GROUP = "MappingErrors#";
+	public static final String CIRCUIT_BREAKER_GROUP = "CircuitBreaker#";
+	public static final String REFRESH_TIER_GROUP = "RefreshTier#";
+	public static final String REFRESH_TIER_REFRESHED = "Refreshed";
+	public static final String REFRESH_TIER_SKIPPED = "RefreshTier#Skipped";
+	public static final String ADAPTIVE_COLLECTION_INTERVAL = "AdaptiveCollection#Interval(s)";
+	public static final String ADAPTIVE_COLLECTION_CHURN = "AdaptiveCollection#Churn(%)";
+	public static final String CIRCUIT_BREAKER_REJECTED = "CircuitBreaker#RejectedRequests";
+	public static final String SERVING_STALE_DATA = "ServingStaleData";
+	public static final String STALE_DATA_AGE = "StaleDataAge(s)";
+	public static final String DATA_AGE_MAX = "DataAge#Max(s)";
+	public static final String DATA_AGE_AVG = "DataAge#Avg(s)";
+	public static final String DATA_AGE = "DataAge(s)";
+	public static final String ADAPTER_METRICS_OBJECT_NAME = "com.avispl.symphony.dal.communicator.aggregator:type=GoogleWorkspaceCommunicator,host=%s,instance=%s";
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.dto.snapshot;
+
+import java.util.Map;
+
+/**
+ * Class representing persisted information of a single aggregated device.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceSnapshot {
+	private String deviceId;
+	private String deviceName;
+	private String deviceModel;
+	private Boolean deviceOnline;
+	private Map<String, String> properties;
+	private Long collectedAt;
+
+	/**
+	 * Retrieves {@link #deviceId}
+	 *
+	 * @return value of {@link #deviceId}
+	 */
+	public String getDeviceId() {
+		return deviceId;
+	}
+
+	/**
+	 * Sets {@link #deviceId} value
+	 *
+	 * @param deviceId new value of {@link #deviceId}
+	 */
+	public void setDeviceId(String deviceId) {
+		this.deviceId = deviceId;
+	}
+
+	/**
+	 * Retrieves {@link #deviceName}
+	 *
+	 * @return value of {@link #deviceName}
+	 */
+	public String getDeviceName() {
+		return deviceName;
+	}
+
+	/**
+	 * Sets {@link #deviceName} value
+	 *
+	 * @param deviceName new value of {@link #deviceName}
+	 */
+	public void setDeviceName(String deviceName) {
+		this.deviceName = deviceName;
+	}
+
+	/**
+	 * Retrieves {@link #deviceModel}
+	 *
+	 * @return value of {@link #deviceModel}
+	 */
+	public String getDeviceModel() {
+		return deviceModel;
+	}
+
+	/**
+	 * Sets {@link #deviceModel} value
+	 *
+	 * @param deviceModel new value of {@link #deviceModel}
+	 */
+	public void setDeviceModel(String deviceModel) {
+		this.deviceModel = deviceModel;
+	}
+
+	/**
+	 * Retrieves {@link #deviceOnline}
+	 *
+	 * @return value of {@link #deviceOnline}
+	 */
+	public Boolean getDeviceOnline() {
+		return deviceOnline;
+	}
+
+	/**
+	 * Sets {@link #deviceOnline} value
+	 *
+	 * @param deviceOnline new value of {@link #deviceOnline}
+	 */
+	public void setDeviceOnline(Boolean deviceOnline) {
+		this.deviceOnline = deviceOnline;
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return value of {@link #properties}
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Sets {@link #properties} value
+	 *
+	 * @param properties new value of {@link #properties}
+	 */
+	public void setProperties(Map<String, String> properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Retrieves {@link #collectedAt}
+	 *
+	 * @return value of {@link #collectedAt}
+	 */
+	public Long getCollectedAt() {
+		return collectedAt;
+	}
+
+	/**
+	 * Sets {@link #collectedAt} value
+	 *
+	 * @param collectedAt new value of {@link #collectedAt}
+	 */
+	public void setCollectedAt(Long collectedAt) {
+		this.collectedAt = collectedAt;
+	}
+}
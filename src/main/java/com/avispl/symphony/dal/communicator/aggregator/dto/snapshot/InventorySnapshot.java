@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.dto.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.avispl.symphony.dal.communicator.aggregator.dto.systemInfo.OrgUnit;
+
+/**
+ * Class representing persisted device and organizational unit inventory, used to warm start the adapter.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class InventorySnapshot {
+	private int version;
+	private long createdAt;
+	private String parentOrgUnit;
+	private List<OrgUnit> orgUnits = new ArrayList<>();
+	private List<DeviceSnapshot> devices = new ArrayList<>();
+
+	/**
+	 * Retrieves {@link #version}
+	 *
+	 * @return value of {@link #version}
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Sets {@link #version} value
+	 *
+	 * @param version new value of {@link #version}
+	 */
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	/**
+	 * Retrieves {@link #createdAt}
+	 *
+	 * @return value of {@link #createdAt}
+	 */
+	public long getCreatedAt() {
+		return createdAt;
+	}
+
+	/**
+	 * Sets {@link #createdAt} value
+	 *
+	 * @param createdAt new value of {@link #createdAt}
+	 */
+	public void setCreatedAt(long createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	/**
+	 * Retrieves {@link #parentOrgUnit}
+	 *
+	 * @return value of {@link #parentOrgUnit}
+	 */
+	public String getParentOrgUnit() {
+		return parentOrgUnit;
+	}
+
+	/**
+	 * Sets {@link #parentOrgUnit} value
+	 *
+	 * @param parentOrgUnit new value of {@link #parentOrgUnit}
+	 */
+	public void setParentOrgUnit(String parentOrgUnit) {
+		this.parentOrgUnit = parentOrgUnit;
+	}
+
+	/**
+	 * Retrieves {@link #orgUnits}
+	 *
+	 * @return value of {@link #orgUnits}
+	 */
+	public List<OrgUnit> getOrgUnits() {
+		return orgUnits;
+	}
+
+	/**
+	 * Sets {@link #orgUnits} value
+	 *
+	 * @param orgUnits new value of {@link #orgUnits}
+	 */
+	public void setOrgUnits(List<OrgUnit> orgUnits) {
+		this.orgUnits = orgUnits;
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return value of {@link #devices}
+	 */
+	public List<DeviceSnapshot> getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Sets {@link #devices} value
+	 *
+	 * @param devices new value of {@link #devices}
+	 */
+	public void setDevices(List<DeviceSnapshot> devices) {
+		this.devices = devices;
+	}
+}
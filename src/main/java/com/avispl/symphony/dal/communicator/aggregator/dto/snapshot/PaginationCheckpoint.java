@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.dto.snapshot;
+
+/**
+ * Class representing the position of a sweep over the pages of one paginated endpoint.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class PaginationCheckpoint {
+	private String pageToken;
+	private long sweepGeneration;
+	private long updatedAt;
+
+	/**
+	 * Constructs an empty PaginationCheckpoint
+	 */
+	public PaginationCheckpoint() {
+	}
+
+	/**
+	 * Constructs a PaginationCheckpoint with the given values.
+	 *
+	 * @param pageToken token of the next page to request, empty to start a new sweep
+	 * @param sweepGeneration generation of the current sweep
+	 * @param updatedAt time the checkpoint was taken in milliseconds
+	 */
+	public PaginationCheckpoint(String pageToken, long sweepGeneration, long updatedAt) {
+		this.pageToken = pageToken;
+		this.sweepGeneration = sweepGeneration;
+		this.updatedAt = updatedAt;
+	}
+
+	/**
+	 * Retrieves {@link #pageToken}
+	 *
+	 * @return value of {@link #pageToken}
+	 */
+	public String getPageToken() {
+		return pageToken;
+	}
+
+	/**
+	 * Sets {@link #pageToken} value
+	 *
+	 * @param pageToken new value of {@link #pageToken}
+	 */
+	public void setPageToken(String pageToken) {
+		this.pageToken = pageToken;
+	}
+
+	/**
+	 * Retrieves {@link #sweepGeneration}
+	 *
+	 * @return value of {@link #sweepGeneration}
+	 */
+	public long getSweepGeneration() {
+		return sweepGeneration;
+	}
+
+	/**
+	 * Sets {@link #sweepGeneration} value
+	 *
+	 * @param sweepGeneration new value of {@link #sweepGeneration}
+	 */
+	public void setSweepGeneration(long sweepGeneration) {
+		this.sweepGeneration = sweepGeneration;
+	}
+
+	/**
+	 * Retrieves {@link #updatedAt}
+	 *
+	 * @return value of {@link #updatedAt}
+	 */
+	public long getUpdatedAt() {
+		return updatedAt;
+	}
+
+	/**
+	 * Sets {@link #updatedAt} value
+	 *
+	 * @param updatedAt new value of {@link #updatedAt}
+	 */
+	public void setUpdatedAt(long updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.dto.snapshot;
+
+/**
+ * Class representing persisted positions of the Directory device sweep and the telemetry sweep, used to resume them after a restart.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class PaginationCheckpoints {
+	private PaginationCheckpoint directory;
+	private PaginationCheckpoint telemetry;
+
+	/**
+	 * Retrieves {@link #directory}
+	 *
+	 * @return value of {@link #directory}
+	 */
+	public PaginationCheckpoint getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Sets {@link #directory} value
+	 *
+	 * @param directory new value of {@link #directory}
+	 */
+	public void setDirectory(PaginationCheckpoint directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Retrieves {@link #telemetry}
+	 *
+	 * @return value of {@link #telemetry}
+	 */
+	public PaginationCheckpoint getTelemetry() {
+		return telemetry;
+	}
+
+	/**
+	 * Sets {@link #telemetry} value
+	 *
+	 * @param telemetry new value of {@link #telemetry}
+	 */
+	public void setTelemetry(PaginationCheckpoint telemetry) {
+		this.telemetry = telemetry;
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceConstant;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * DeviceFilter evaluates organizational unit, serial number, model and status filters against cached devices.
+ * Every filter is a comma separated list of entries, entries starting with {@code !} exclude matching devices:
+ * <ul>
+ *   <li>organizational units are names or paths, {@code Unit/*} includes the whole subtree and the root unit name stands for {@code /},
+ *   a name matches every known unit of that name at any depth, unknown names are taken as top level units</li>
+ *   <li>serial numbers, models and statuses support {@code *} and {@code ?} wildcards, serial numbers without wildcard match as substring</li>
+ * </ul>
+ * A device matches when, for every configured filter, it matches at least one inclusion (if any) and no exclusion.
+ * Entries are compiled into case-insensitive patterns once, when the filter is created.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceFilter {
+	public static final DeviceFilter EMPTY = compile(null, null, null, null, null);
+
+	private static final String EXCLUSION = "!";
+	private static final String SUBTREE = "/*";
+
+	private final String source;
+	private final Map<String, List<String>> orgUnitPaths;
+	private final PatternList orgUnits;
+	private final PatternList serialNumbers;
+	private final PatternList models;
+	private final PatternList statuses;
+
+	/**
+	 * Inclusion and exclusion patterns of a single filter
+	 */
+	private static class PatternList {
+		private final List<Pattern> includes = new ArrayList<>();
+		private final List<Pattern> excludes = new ArrayList<>();
+
+		boolean isEmpty() {
+			return includes.isEmpty() && excludes.isEmpty();
+		}
+
+		boolean matches(String value) {
+			if (isEmpty()) {
+				return true;
+			}
+			String text = value == null ? GoogleWorkspaceConstant.EMPTY : value;
+			for (Pattern exclude : excludes) {
+				if (exclude.matcher(text).matches()) {
+					return false;
+				}
+			}
+			if (includes.isEmpty()) {
+				return true;
+			}
+			for (Pattern include : includes) {
+				if (include.matcher(text).matches()) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Constructs a DeviceFilter
+	 *
+	 * @param source values the filter was compiled from
+	 * @param orgUnitPaths organizational unit paths by name the filter was compiled with
+	 * @param orgUnits organizational unit patterns
+	 * @param serialNumbers serial number patterns
+	 * @param models model patterns
+	 * @param statuses status patterns
+	 */
+	private DeviceFilter(String source, Map<String, List<String>> orgUnitPaths, PatternList orgUnits, PatternList serialNumbers, PatternList models, PatternList statuses) {
+		this.source = source;
+		this.orgUnitPaths = orgUnitPaths;
+		this.orgUnits = orgUnits;
+		this.serialNumbers = serialNumbers;
+		this.models = models;
+		this.statuses = statuses;
+	}
+
+	/**
+	 * Compiles filters into a DeviceFilter.
+	 *
+	 * @param orgUnits organizational unit filter
+	 * @param serialNumbers serial number filter
+	 * @param models model filter
+	 * @param statuses status filter
+	 * @param rootOrgUnitName name of the root organizational unit, may be null while unknown
+	 * @return compiled filter
+	 */
+	public static DeviceFilter compile(String orgUnits, String serialNumbers, String models, String statuses, String rootOrgUnitName) {
+		return compile(orgUnits, serialNumbers, models, statuses, rootOrgUnitName, Collections.emptyMap());
+	}
+
+	/**
+	 * Compiles filters into a DeviceFilter, resolving organizational unit names against the known organizational units.
+	 *
+	 * @param orgUnits organizational unit filter
+	 * @param serialNumbers serial number filter
+	 * @param models model filter
+	 * @param statuses status filter
+	 * @param rootOrgUnitName name of the root organizational unit, may be null while unknown
+	 * @param orgUnitPaths paths of the known organizational units by their lower case name, see {@link #indexOrgUnitPath(Map, String, String)}
+	 * @return compiled filter
+	 */
+	public static DeviceFilter compile(String orgUnits, String serialNumbers, String models, String statuses, String rootOrgUnitName,
+			Map<String, List<String>> orgUnitPaths) {
+		PatternList orgUnitPatterns = new PatternList();
+		for (String entry : split(orgUnits)) {
+			boolean exclude = entry.startsWith(EXCLUSION);
+			String value = exclude ? entry.substring(1).trim() : entry;
+			boolean subtree = value.endsWith(SUBTREE);
+			if (subtree) {
+				value = value.substring(0, value.length() - SUBTREE.length());
+			}
+			for (String path : toOrgUnitPaths(value, rootOrgUnitName, orgUnitPaths)) {
+				String regex;
+				if (!subtree) {
+					regex = Pattern.quote(path);
+				} else if (GoogleWorkspaceConstant.SLASH.equals(path)) {
+					regex = "/.*";
+				} else {
+					regex = Pattern.quote(path) + "(/.*)?";
+				}
+				add(orgUnitPatterns, exclude, regex);
+			}
+		}
+		return new DeviceFilter(String.join("|", Objects.toString(orgUnits), Objects.toString(serialNumbers), Objects.toString(models), Objects.toString(statuses),
+				Objects.toString(rootOrgUnitName)), orgUnitPaths, orgUnitPatterns, compileWildcards(serialNumbers, true), compileWildcards(models, false),
+				compileWildcards(statuses, false));
+	}
+
+	/**
+	 * Adds the path of an organizational unit to the index of paths by lower case name the filter resolves names with
+	 *
+	 * @param orgUnitPaths index of organizational unit paths by name
+	 * @param name name of the organizational unit
+	 * @param path path of the organizational unit
+	 */
+	public static void indexOrgUnitPath(Map<String, List<String>> orgUnitPaths, String name, String path) {
+		if (StringUtils.isNotNullOrEmpty(name) && StringUtils.isNotNullOrEmpty(path)) {
+			orgUnitPaths.computeIfAbsent(name.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(path);
+		}
+	}
+
+	/**
+	 * Checks whether the filter was compiled from the given values, so it can be reused.
+	 *
+	 * @param orgUnits organizational unit filter
+	 * @param serialNumbers serial number filter
+	 * @param models model filter
+	 * @param statuses status filter
+	 * @param rootOrgUnitName name of the root organizational unit
+	 * @return true if the filter was compiled from the same values
+	 */
+	public boolean isCompiledFrom(String orgUnits, String serialNumbers, String models, String statuses, String rootOrgUnitName) {
+		return isCompiledFrom(orgUnits, serialNumbers, models, statuses, rootOrgUnitName, Collections.emptyMap());
+	}
+
+	/**
+	 * Checks whether the filter was compiled from the given values and the same index of organizational unit paths, so it can be reused.
+	 *
+	 * @param orgUnits organizational unit filter
+	 * @param serialNumbers serial number filter
+	 * @param models model filter
+	 * @param statuses status filter
+	 * @param rootOrgUnitName name of the root organizational unit
+	 * @param orgUnitPaths paths of the known organizational units by their lower case name
+	 * @return true if the filter was compiled from the same values
+	 */
+	public boolean isCompiledFrom(String orgUnits, String serialNumbers, String models, String statuses, String rootOrgUnitName, Map<String, List<String>> orgUnitPaths) {
+		return this.orgUnitPaths == orgUnitPaths && source.equals(String.join("|", Objects.toString(orgUnits), Objects.toString(serialNumbers), Objects.toString(models), Objects.toString(statuses),
+				Objects.toString(rootOrgUnitName)));
+	}
+
+	/**
+	 * Checks whether no filter is configured
+	 *
+	 * @return true if every device matches
+	 */
+	public boolean isEmpty() {
+		return orgUnits.isEmpty() && serialNumbers.isEmpty() && models.isEmpty() && statuses.isEmpty();
+	}
+
+	/**
+	 * Checks whether organizational unit filter is configured
+	 *
+	 * @return true if organizational unit filter is configured
+	 */
+	public boolean hasOrgUnitFilter() {
+		return !orgUnits.isEmpty();
+	}
+
+	/**
+	 * Checks whether an organizational unit matches the organizational unit filter
+	 *
+	 * @param orgUnitPath path of the organizational unit
+	 * @return true if the organizational unit matches
+	 */
+	public boolean matchesOrgUnit(String orgUnitPath) {
+		return orgUnits.matches(orgUnitPath);
+	}
+
+	/**
+	 * Checks whether a device matches the filter
+	 *
+	 * @param orgUnitPath organizational unit path of the device
+	 * @param serialNumber serial number of the device
+	 * @param model model of the device
+	 * @param status status of the device
+	 * @return true if the device matches
+	 */
+	public boolean matches(String orgUnitPath, String serialNumber, String model, String status) {
+		return orgUnits.matches(orgUnitPath) && serialNumbers.matches(serialNumber) && models.matches(model) && statuses.matches(status);
+	}
+
+	/**
+	 * Converts organizational unit name or path into paths. A name is resolved to the paths of all known units of that name,
+	 * an unknown name or a relative path is taken from the root.
+	 *
+	 * @param value organizational unit name or path
+	 * @param rootOrgUnitName name of the root organizational unit
+	 * @param orgUnitPaths paths of the known organizational units by their lower case name
+	 * @return organizational unit paths
+	 */
+	private static List<String> toOrgUnitPaths(String value, String rootOrgUnitName, Map<String, List<String>> orgUnitPaths) {
+		if (value.isEmpty() || value.equals(rootOrgUnitName)) {
+			return Collections.singletonList(GoogleWorkspaceConstant.SLASH);
+		}
+		if (value.startsWith(GoogleWorkspaceConstant.SLASH)) {
+			return Collections.singletonList(value);
+		}
+		List<String> paths = value.contains(GoogleWorkspaceConstant.SLASH) ? null : orgUnitPaths.get(value.toLowerCase(Locale.ROOT));
+		return paths == null || paths.isEmpty() ? Collections.singletonList(GoogleWorkspaceConstant.SLASH + value) : paths;
+	}
+
+	/**
+	 * Compiles a wildcard filter
+	 *
+	 * @param filter comma separated entries
+	 * @param substring whether entries without wildcard match as substring
+	 * @return compiled patterns
+	 */
+	private static PatternList compileWildcards(String filter, boolean substring) {
+		PatternList patterns = new PatternList();
+		for (String entry : split(filter)) {
+			boolean exclude = entry.startsWith(EXCLUSION);
+			String value = exclude ? entry.substring(1).trim() : entry;
+			boolean wildcard = value.indexOf('*') >= 0 || value.indexOf('?') >= 0;
+			StringBuilder regex = new StringBuilder();
+			if (substring && !wildcard) {
+				regex.append(".*").append(Pattern.quote(value)).append(".*");
+			} else {
+				int start = 0;
+				for (int i = 0; i < value.length(); i++) {
+					char character = value.charAt(i);
+					if (character == '*' || character == '?') {
+						if (i > start) {
+							regex.append(Pattern.quote(value.substring(start, i)));
+						}
+						regex.append(character == '*' ? ".*" : ".");
+						start = i + 1;
+					}
+				}
+				if (start < value.length()) {
+					regex.append(Pattern.quote(value.substring(start)));
+				}
+			}
+			add(patterns, exclude, regex.toString());
+		}
+		return patterns;
+	}
+
+	/**
+	 * Adds a case-insensitive pattern to inclusions or exclusions
+	 *
+	 * @param patterns patterns of a filter
+	 * @param exclude whether the pattern excludes devices
+	 * @param regex regular expression of the pattern
+	 */
+	private static void add(PatternList patterns, boolean exclude, String regex) {
+		Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+		if (exclude) {
+			patterns.excludes.add(pattern);
+		} else {
+			patterns.includes.add(pattern);
+		}
+	}
+
+	/**
+	 * Splits comma separated filter into trimmed, non-empty entries
+	 *
+	 * @param filter filter value
+	 * @return filter entries
+	 */
+	private static List<String> split(String filter) {
+		if (StringUtils.isNullOrEmpty(filter)) {
+			return Collections.emptyList();
+		}
+		List<String> entries = new ArrayList<>();
+		for (String entry : filter.split(GoogleWorkspaceConstant.COMMA)) {
+			String value = entry.trim();
+			if (!value.isEmpty() && !EXCLUSION.equals(value)) {
+				entries.add(value);
+			}
+		}
+		return entries;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * BatchRequestQueue coalesces queued GET requests into multipart/mixed batch requests of Google APIs, up to
+ * {@link #MAX_BATCH_SIZE} per batch, and completes the future of every queued request with its own part of the response.
+ * A batch is sent as soon as it is full, the rest of the queue when {@link #flush()} is called.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class BatchRequestQueue {
+	/**
+	 * Maximum number of requests Google APIs accept in one batch
+	 */
+	public static final int MAX_BATCH_SIZE = 100;
+
+	private static final String CRLF = "\r\n";
+	private static final String CONTENT_ID_PREFIX = "item";
+	private static final String RESPONSE_CONTENT_ID_PREFIX = "response-";
+	private static final Pattern BOUNDARY = Pattern.compile("boundary=\"?([^\";]+)\"?", Pattern.CASE_INSENSITIVE);
+	private static final Pattern CONTENT_ID = Pattern.compile("^Content-ID:\\s*<?([^>\\r\\n]+)>?", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+	private static final Pattern STATUS_LINE = Pattern.compile("^HTTP/\\S+\\s+(\\d{3})");
+	private static final Pattern BLANK_LINE = Pattern.compile("\\r?\\n\\r?\\n");
+
+	/**
+	 * Sends a batch request
+	 */
+	@FunctionalInterface
+	public interface Transport {
+		/**
+		 * Sends a multipart batch request
+		 *
+		 * @param contentType content type of the request, including the boundary
+		 * @param body multipart request body
+		 * @return raw batch response
+		 * @throws Exception if the batch request fails
+		 */
+		RawResponse send(String contentType, byte[] body) throws Exception;
+	}
+
+	/**
+	 * Raw batch response, the content type carries the boundary of the parts
+	 */
+	public static class RawResponse {
+		private final String contentType;
+		private final byte[] body;
+
+		/**
+		 * Constructs a RawResponse.
+		 *
+		 * @param contentType content type of the response
+		 * @param body response body
+		 */
+		public RawResponse(String contentType, byte[] body) {
+			this.contentType = contentType;
+			this.body = body;
+		}
+	}
+
+	/**
+	 * Request waiting in the queue
+	 */
+	private static class PendingRequest {
+		private final String path;
+		private final CompletableFuture<JsonNode> future = new CompletableFuture<>();
+
+		private PendingRequest(String path) {
+			this.path = path;
+		}
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Transport transport;
+	private final List<PendingRequest> pendingRequests = new ArrayList<>();
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong requests = new AtomicLong();
+
+	/**
+	 * Constructs a BatchRequestQueue.
+	 *
+	 * @param transport sends batch requests
+	 */
+	public BatchRequestQueue(Transport transport) {
+		this.transport = transport;
+	}
+
+	/**
+	 * Queues a GET request, sending the batch if it is full.
+	 *
+	 * @param path request path and query, without scheme and host
+	 * @return future completed with the response body, or exceptionally if the request or the whole batch failed
+	 */
+	public CompletableFuture<JsonNode> enqueue(String path) {
+		PendingRequest pendingRequest = new PendingRequest(path);
+		List<PendingRequest> batch = null;
+		synchronized (pendingRequests) {
+			pendingRequests.add(pendingRequest);
+			if (pendingRequests.size() >= MAX_BATCH_SIZE) {
+				batch = new ArrayList<>(pendingRequests);
+				pendingRequests.clear();
+			}
+		}
+		if (batch != null) {
+			send(batch);
+		}
+		return pendingRequest.future;
+	}
+
+	/**
+	 * Sends all queued requests
+	 */
+	public void flush() {
+		List<PendingRequest> batch;
+		synchronized (pendingRequests) {
+			batch = new ArrayList<>(pendingRequests);
+			pendingRequests.clear();
+		}
+		if (!batch.isEmpty()) {
+			send(batch);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #batches}
+	 *
+	 * @return number of batch requests sent
+	 */
+	public long getBatches() {
+		return batches.get();
+	}
+
+	/**
+	 * Retrieves {@link #requests}
+	 *
+	 * @return number of requests sent in batches
+	 */
+	public long getRequests() {
+		return requests.get();
+	}
+
+	/**
+	 * Retrieves average fill ratio of sent batches
+	 *
+	 * @return requests per batch relative to {@link #MAX_BATCH_SIZE}, in percent
+	 */
+	public long getFillRatio() {
+		long sentBatches = batches.get();
+		return sentBatches == 0 ? 0 : requests.get() * 100 / (sentBatches * MAX_BATCH_SIZE);
+	}
+
+	/**
+	 * Sends one batch and completes the futures of its requests
+	 *
+	 * @param batch requests of the batch, at most {@link #MAX_BATCH_SIZE}
+	 */
+	private void send(List<PendingRequest> batch) {
+		String boundary = "batch_" + UUID.randomUUID().toString().replace("-", "");
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < batch.size(); i++) {
+			body.append("--").append(boundary).append(CRLF)
+					.append("Content-Type: application/http").append(CRLF)
+					.append("Content-ID: <").append(CONTENT_ID_PREFIX).append(i).append('>').append(CRLF).append(CRLF)
+					.append("GET ").append(batch.get(i).path).append(CRLF)
+					.append("Accept: application/json").append(CRLF).append(CRLF);
+		}
+		body.append("--").append(boundary).append("--").append(CRLF);
+		batches.incrementAndGet();
+		requests.addAndGet(batch.size());
+		try {
+			RawResponse response = transport.send("multipart/mixed; boundary=" + boundary, body.toString().getBytes(StandardCharsets.UTF_8));
+			Map<String, String> parts = splitParts(response);
+			for (int i = 0; i < batch.size(); i++) {
+				PendingRequest pendingRequest = batch.get(i);
+				String part = parts.get(RESPONSE_CONTENT_ID_PREFIX + CONTENT_ID_PREFIX + i);
+				if (part == null) {
+					pendingRequest.future.completeExceptionally(new ResourceNotReachableException(String.format("Batch response misses request %s", pendingRequest.path)));
+					continue;
+				}
+				completeFromPart(pendingRequest, part);
+			}
+		} catch (Exception e) {
+			batch.forEach(pendingRequest -> pendingRequest.future.completeExceptionally(e));
+		}
+	}
+
+	/**
+	 * Splits a multipart batch response into embedded HTTP responses keyed by content id
+	 *
+	 * @param response raw batch response
+	 * @return embedded HTTP responses keyed by content id
+	 */
+	private Map<String, String> splitParts(RawResponse response) {
+		Matcher boundaryMatcher = BOUNDARY.matcher(response.contentType == null ? "" : response.contentType);
+		if (!boundaryMatcher.find()) {
+			throw new ResourceNotReachableException(String.format("Batch response is not multipart: %s", response.contentType));
+		}
+		String delimiter = "--" + boundaryMatcher.group(1);
+		Map<String, String> parts = new HashMap<>();
+		for (String part : new String(response.body, StandardCharsets.UTF_8).split(Pattern.quote(delimiter))) {
+			String[] headersAndContent = BLANK_LINE.split(part.trim(), 2);
+			Matcher contentIdMatcher = CONTENT_ID.matcher(headersAndContent[0]);
+			if (headersAndContent.length == 2 && contentIdMatcher.find()) {
+				parts.put(contentIdMatcher.group(1).trim(), headersAndContent[1]);
+			}
+		}
+		return parts;
+	}
+
+	/**
+	 * Completes a queued request from its embedded HTTP response
+	 *
+	 * @param pendingRequest queued request
+	 * @param part embedded HTTP response: status line, headers, blank line and body
+	 */
+	private void completeFromPart(PendingRequest pendingRequest, String part) {
+		Matcher statusMatcher = STATUS_LINE.matcher(part);
+		int status = statusMatcher.find() ? Integer.parseInt(statusMatcher.group(1)) : 0;
+		if (status < 200 || status >= 400) {
+			pendingRequest.future.completeExceptionally(
+					new ResourceNotReachableException(String.format("Request %s failed with status code %s", pendingRequest.path, status)));
+			return;
+		}
+		String[] headersAndBody = BLANK_LINE.split(part, 2);
+		try {
+			String body = headersAndBody.length == 2 ? headersAndBody[1].trim() : "";
+			pendingRequest.future.complete(body.isEmpty() ? objectMapper.createObjectNode() : objectMapper.readTree(body));
+		} catch (Exception e) {
+			pendingRequest.future.completeExceptionally(e);
+		}
+	}
+}
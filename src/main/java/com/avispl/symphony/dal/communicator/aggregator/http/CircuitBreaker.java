@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CircuitBreaker stops requests to an endpoint that keeps failing. After the configured number of consecutive failures
+ * the circuit opens and requests are rejected without being sent. Once the cooldown elapses a single probe request
+ * is let through: its success closes the circuit, its failure opens it for another cooldown.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CircuitBreaker {
+	/**
+	 * States of the circuit
+	 */
+	public enum State {
+		CLOSED("Closed"),
+		OPEN("Open"),
+		HALF_OPEN("HalfOpen"),
+		;
+		private final String name;
+
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	private final AtomicLong rejected = new AtomicLong();
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+
+	/**
+	 * Checks whether a request may be sent, moving an open circuit to half-open once the cooldown elapsed.
+	 * Only one probe is let through while the circuit is half-open.
+	 *
+	 * @param failureThreshold consecutive failures opening the circuit, 0 disables the breaker
+	 * @param cooldown milliseconds an open circuit rejects requests
+	 * @param now current time in milliseconds
+	 * @return true if the request may be sent
+	 */
+	public synchronized boolean allowRequest(int failureThreshold, long cooldown, long now) {
+		if (failureThreshold <= 0 || state == State.CLOSED) {
+			return true;
+		}
+		if (state == State.OPEN && now - openedAt >= cooldown) {
+			state = State.HALF_OPEN;
+			return true;
+		}
+		rejected.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Records a request that reached the endpoint, closing the circuit
+	 */
+	public synchronized void recordSuccess() {
+		consecutiveFailures = 0;
+		state = State.CLOSED;
+	}
+
+	/**
+	 * Records a failed request, opening the circuit when the threshold is reached or the probe failed.
+	 *
+	 * @param failureThreshold consecutive failures opening the circuit, 0 disables the breaker
+	 * @param now current time in milliseconds
+	 */
+	public synchronized void recordFailure(int failureThreshold, long now) {
+		consecutiveFailures++;
+		if (failureThreshold > 0 && (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold)) {
+			state = State.OPEN;
+			openedAt = now;
+		}
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #rejected}
+	 *
+	 * @return number of requests rejected while the circuit was open
+	 */
+	public long getRejected() {
+		return rejected.get();
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * CircuitOpenException is thrown instead of sending a request to an endpoint whose {@link CircuitBreaker} is open.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CircuitOpenException extends ResourceNotReachableException {
+	/**
+	 * Constructs a CircuitOpenException for the given endpoint.
+	 *
+	 * @param endpoint name of the endpoint
+	 */
+	public CircuitOpenException(String endpoint) {
+		super(String.format("Circuit of endpoint %s is open, request was not sent", endpoint));
+	}
+}
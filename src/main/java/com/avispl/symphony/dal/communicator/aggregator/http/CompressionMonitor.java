@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * CompressionMonitor decodes compressed response bodies as a stream and counts bytes received on wire
+ * and bytes after decompression, so the effect of response compression can be observed.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CompressionMonitor {
+	private static final String GZIP = "gzip";
+	private static final String X_GZIP = "x-gzip";
+	private static final String DEFLATE = "deflate";
+
+	private final AtomicLong wireBytes = new AtomicLong();
+	private final AtomicLong decodedBytes = new AtomicLong();
+
+	/**
+	 * Wraps a raw response body into a decoding stream according to its content encoding.
+	 * Nothing is buffered, the returned stream is meant to be fed directly into the JSON parser.
+	 *
+	 * @param rawContent response body as received on wire
+	 * @param contentEncoding value of Content-Encoding header, may be null
+	 * @return stream of decoded response body
+	 * @throws IOException if the compressed stream header cannot be read
+	 */
+	public InputStream decode(InputStream rawContent, String contentEncoding) throws IOException {
+		InputStream content = new CountingInputStream(rawContent, wireBytes);
+		if (contentEncoding != null) {
+			String encoding = contentEncoding.trim().toLowerCase();
+			if (GZIP.equals(encoding) || X_GZIP.equals(encoding)) {
+				content = new GZIPInputStream(content);
+			} else if (DEFLATE.equals(encoding)) {
+				content = new InflaterInputStream(content);
+			}
+		}
+		return new CountingInputStream(content, decodedBytes);
+	}
+
+	/**
+	 * Retrieves number of response bytes received on wire
+	 *
+	 * @return bytes on wire
+	 */
+	public long getWireBytes() {
+		return wireBytes.get();
+	}
+
+	/**
+	 * Retrieves number of response bytes after decompression
+	 *
+	 * @return decoded bytes
+	 */
+	public long getDecodedBytes() {
+		return decodedBytes.get();
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+/**
+ * ConnectionPoolMonitor tracks utilization of the pooled HTTP client.
+ * Once attached to the client, leased, pending and maximum connections are read from the statistics of its
+ * connection pool, so requests sent by {@link com.avispl.symphony.dal.communicator.RestCommunicator} itself are counted as well.
+ * The client does not expose its connection manager, it is looked up among the fields of the client. While no pool
+ * is attached, the number of requests in flight through the adapter stands in for the number of leased connections.
+ * The peak is sampled whenever a request starts or ends.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class ConnectionPoolMonitor {
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peakLeased = new AtomicInteger();
+	private final AtomicLong totalRequests = new AtomicLong();
+	private volatile ConnPoolControl<?> pool;
+
+	/**
+	 * Attaches the monitor to the connection pool of an HTTP client
+	 *
+	 * @param httpClient pooled HTTP client, null detaches the monitor
+	 * @return true if the connection pool of the client was found
+	 */
+	public boolean attach(Object httpClient) {
+		pool = httpClient == null ? null : findPool(httpClient);
+		return pool != null;
+	}
+
+	/**
+	 * Marks the start of a request
+	 */
+	public void lease() {
+		inFlight.incrementAndGet();
+		totalRequests.incrementAndGet();
+		peakLeased.accumulateAndGet(getLeased(), Math::max);
+	}
+
+	/**
+	 * Marks the end of a request
+	 */
+	public void release() {
+		peakLeased.accumulateAndGet(getLeased(), Math::max);
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * Retrieves number of currently leased connections
+	 *
+	 * @return leased connections
+	 */
+	public int getLeased() {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getLeased() : inFlight.get();
+	}
+
+	/**
+	 * Retrieves number of requests waiting for a connection
+	 *
+	 * @return pending requests, 0 while no pool is attached
+	 */
+	public int getPending() {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getPending() : 0;
+	}
+
+	/**
+	 * Retrieves maximum number of connections of the pool
+	 *
+	 * @param defaultMax maximum to use while no pool is attached
+	 * @return maximum connections
+	 */
+	public int getMax(int defaultMax) {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getMax() : defaultMax;
+	}
+
+	/**
+	 * Retrieves peak number of leased connections since the previous call and starts a new observation period
+	 *
+	 * @return peak leased connections
+	 */
+	public int getAndResetPeakLeased() {
+		int leased = getLeased();
+		return Math.max(leased, peakLeased.getAndSet(leased));
+	}
+
+	/**
+	 * Retrieves total number of requests executed through the pool
+	 *
+	 * @return total requests
+	 */
+	public long getTotalRequests() {
+		return totalRequests.get();
+	}
+
+	/**
+	 * Retrieves statistics of the attached pool
+	 *
+	 * @return pool statistics, or null while no pool is attached
+	 */
+	private PoolStats getTotalStats() {
+		ConnPoolControl<?> connectionPool = pool;
+		return connectionPool != null ? connectionPool.getTotalStats() : null;
+	}
+
+	/**
+	 * Finds the connection pool among the fields of an HTTP client
+	 *
+	 * @param httpClient HTTP client
+	 * @return connection pool, or null if the client has none or it is not accessible
+	 */
+	private static ConnPoolControl<?> findPool(Object httpClient) {
+		if (httpClient instanceof ConnPoolControl) {
+			return (ConnPoolControl<?>) httpClient;
+		}
+		for (Class<?> type = httpClient.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				if (!HttpClientConnectionManager.class.isAssignableFrom(field.getType())) {
+					continue;
+				}
+				try {
+					field.setAccessible(true);
+					Object connectionManager = field.get(httpClient);
+					if (connectionManager instanceof ConnPoolControl) {
+						return (ConnPoolControl<?>) connectionManager;
+					}
+				} catch (RuntimeException | IllegalAccessException e) {
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CountingInputStream counts bytes read from the wrapped stream into a shared counter.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CountingInputStream extends FilterInputStream {
+	private final AtomicLong counter;
+
+	/**
+	 * Constructs a CountingInputStream.
+	 *
+	 * @param in stream to count
+	 * @param counter counter of read bytes
+	 */
+	public CountingInputStream(InputStream in, AtomicLong counter) {
+		super(in);
+		this.counter = counter;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int value = super.read();
+		if (value != -1) {
+			counter.incrementAndGet();
+		}
+		return value;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int count = super.read(b, off, len);
+		if (count > 0) {
+			counter.addAndGet(count);
+		}
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(n);
+		counter.addAndGet(skipped);
+		return skipped;
+	}
+}
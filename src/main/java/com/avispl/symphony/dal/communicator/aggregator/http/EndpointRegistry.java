@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.ApiServiceEnum;
+import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceConstant;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * EndpointRegistry resolves request URLs of every Google API service from configured base URLs,
+ * so traffic can be routed through a caching proxy or a local stand-in.
+ * Services without a configured base URL use {@link ApiServiceEnum#getDefaultBaseUrl()}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class EndpointRegistry {
+	private final Map<ApiServiceEnum, String> baseUrls = new EnumMap<>(ApiServiceEnum.class);
+
+	/**
+	 * Configures base URL of a service
+	 *
+	 * @param service API service
+	 * @param baseUrl base URL such as {@code https://proxy.example.com:8443/google}, null or empty restores the default
+	 */
+	public synchronized void setBaseUrl(ApiServiceEnum service, String baseUrl) {
+		if (StringUtils.isNullOrEmpty(baseUrl) || StringUtils.isNullOrEmpty(baseUrl.trim())) {
+			baseUrls.remove(service);
+			return;
+		}
+		String url = baseUrl.trim();
+		while (url.endsWith(GoogleWorkspaceConstant.SLASH)) {
+			url = url.substring(0, url.length() - 1);
+		}
+		if (!url.startsWith(GoogleWorkspaceConstant.HTTP_SCHEME_PREFIX) && !url.startsWith(GoogleWorkspaceConstant.HTTPS_SCHEME_PREFIX)) {
+			throw new IllegalArgumentException(String.format("Base URL of %s must start with http:// or https://, got %s", service, baseUrl));
+		}
+		baseUrls.put(service, url);
+	}
+
+	/**
+	 * Retrieves configured base URL of a service
+	 *
+	 * @param service API service
+	 * @return configured base URL, or the default one
+	 */
+	public synchronized String getBaseUrl(ApiServiceEnum service) {
+		return baseUrls.getOrDefault(service, service.getDefaultBaseUrl());
+	}
+
+	/**
+	 * Resolves request URL of a service command
+	 *
+	 * @param service API service
+	 * @param command command path starting with a slash
+	 * @return absolute URL, or the command itself when the service uses the configured adapter host
+	 */
+	public String resolve(ApiServiceEnum service, String command) {
+		return getBaseUrl(service) + command;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * HttpStatusException is thrown when Google API answers a request with an unsuccessful status code,
+ * keeping the code so callers can tell transient failures from rejected requests.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class HttpStatusException extends ResourceNotReachableException {
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int SERVER_ERROR = 500;
+
+	private final int statusCode;
+
+	/**
+	 * Constructs a HttpStatusException for the given request and status code.
+	 *
+	 * @param uri request URI
+	 * @param statusCode status code of the response
+	 */
+	public HttpStatusException(String uri, int statusCode) {
+		super(String.format("Request %s failed with status code %s", uri, statusCode));
+		this.statusCode = statusCode;
+	}
+
+	/**
+	 * Retrieves {@link #statusCode}
+	 *
+	 * @return value of {@link #statusCode}
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Checks whether the request may succeed when sent again
+	 *
+	 * @return true for throttled requests and server errors
+	 */
+	public boolean isRetryable() {
+		return statusCode == TOO_MANY_REQUESTS || statusCode >= SERVER_ERROR;
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ReadTimingInputStream measures the time spent blocked in reads of the wrapped stream, so a consumer parsing
+ * a response body as it arrives can tell its own processing time from the time spent waiting for the network.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class ReadTimingInputStream extends FilterInputStream {
+	private long readNanos;
+
+	/**
+	 * Constructs a ReadTimingInputStream.
+	 *
+	 * @param in stream to time
+	 */
+	public ReadTimingInputStream(InputStream in) {
+		super(in);
+	}
+
+	/**
+	 * Retrieves {@link #readNanos}
+	 *
+	 * @return nanoseconds spent in reads of the wrapped stream so far
+	 */
+	public long getReadNanos() {
+		return readNanos;
+	}
+
+	@Override
+	public int read() throws IOException {
+		long start = System.nanoTime();
+		try {
+			return super.read();
+		} finally {
+			readNanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		long start = System.nanoTime();
+		try {
+			return super.read(b, off, len);
+		} finally {
+			readNanos += System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long start = System.nanoTime();
+		try {
+			return super.skip(n);
+		} finally {
+			readNanos += System.nanoTime() - start;
+		}
+	}
+}
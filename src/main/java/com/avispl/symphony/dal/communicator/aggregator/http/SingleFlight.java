@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * SingleFlight coalesces concurrent identical calls: while a call for a key is in flight,
+ * other callers with the same key wait for it and share its result instead of issuing their own call.
+ * Results are not cached, the next call after completion is executed again.
+ * With a copier, every caller including the one that executed the call gets its own copy,
+ * so no caller modifies the instance others are still copying.
+ *
+ * @param <K> type of the call key, e.g. request URI
+ * @param <V> type of the call result
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class SingleFlight<K, V> {
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final UnaryOperator<V> sharedResultCopier;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Constructs a SingleFlight sharing the same result instance among all callers.
+	 */
+	public SingleFlight() {
+		this(UnaryOperator.identity());
+	}
+
+	/**
+	 * Constructs a SingleFlight with a copier applied to results handed to callers,
+	 * used when results are mutable and callers may modify them.
+	 *
+	 * @param sharedResultCopier copier of the shared result
+	 */
+	public SingleFlight(UnaryOperator<V> sharedResultCopier) {
+		this.sharedResultCopier = sharedResultCopier;
+	}
+
+	/**
+	 * Executes the call, or waits for an identical call already in flight.
+	 *
+	 * @param key call key
+	 * @param call call to execute
+	 * @return call result
+	 * @throws Exception if the call, or the call in flight this caller waited for, failed
+	 */
+	public V execute(K key, Callable<V> call) throws Exception {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			hits.incrementAndGet();
+			try {
+				V result = existing.get();
+				return result == null ? null : sharedResultCopier.apply(result);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw e;
+			}
+		}
+		misses.incrementAndGet();
+		try {
+			V result = call.call();
+			future.complete(result);
+			return result == null ? null : sharedResultCopier.apply(result);
+		} catch (Exception e) {
+			future.completeExceptionally(e);
+			throw e;
+		} catch (Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Retrieves number of calls that shared a result of a call in flight
+	 *
+	 * @return number of coalesced calls
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Retrieves number of calls that were actually executed
+	 *
+	 * @return number of executed calls
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.inventory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DeviceEvictionTracker implements generation based mark and sweep of the cached inventory.
+ * Every full sweep over the device pages is a generation; devices listed during a generation are marked with it.
+ * When a generation completes, devices that were not marked by it and were last seen longer than the grace period ago
+ * are evicted, so the cached inventory follows the real fleet instead of only growing.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceEvictionTracker {
+	/**
+	 * Generation of devices known before the first sweep, such as devices restored from the inventory snapshot
+	 */
+	private static final long NO_GENERATION = -1;
+
+	/**
+	 * Last sweep generation and time a device was seen
+	 */
+	private static class Mark {
+		private long generation;
+		private long timestamp;
+
+		private Mark(long generation, long timestamp) {
+			this.generation = generation;
+			this.timestamp = timestamp;
+		}
+	}
+
+	private final Map<String, Mark> marks = new HashMap<>();
+	private final AtomicLong evicted = new AtomicLong();
+	private final AtomicLong completedSweeps = new AtomicLong();
+
+	/**
+	 * Marks a device as seen during the given generation.
+	 *
+	 * @param deviceId id of the device
+	 * @param generation generation of the sweep the device was listed in
+	 * @param timestamp time the device was seen
+	 */
+	public synchronized void mark(String deviceId, long generation, long timestamp) {
+		Mark mark = marks.get(deviceId);
+		if (mark == null) {
+			marks.put(deviceId, new Mark(generation, timestamp));
+			return;
+		}
+		mark.generation = Math.max(mark.generation, generation);
+		mark.timestamp = Math.max(mark.timestamp, timestamp);
+	}
+
+	/**
+	 * Registers a device known from outside of a sweep, keeping its mark if it already has one.
+	 *
+	 * @param deviceId id of the device
+	 * @param timestamp time the device was last seen
+	 */
+	public synchronized void register(String deviceId, long timestamp) {
+		marks.putIfAbsent(deviceId, new Mark(NO_GENERATION, timestamp));
+	}
+
+	/**
+	 * Checks whether a device is tracked
+	 *
+	 * @param deviceId id of the device
+	 * @return true if the device is tracked
+	 */
+	public synchronized boolean contains(String deviceId) {
+		return marks.containsKey(deviceId);
+	}
+
+	/**
+	 * Completes a generation and evicts devices that were not seen during it and not within the grace period.
+	 *
+	 * @param generation completed generation
+	 * @param gracePeriod time in milliseconds a device missing from a sweep is kept
+	 * @param now current time
+	 * @return ids of evicted devices
+	 */
+	public synchronized Set<String> sweep(long generation, long gracePeriod, long now) {
+		Set<String> evictedDeviceIds = new HashSet<>();
+		Iterator<Map.Entry<String, Mark>> iterator = marks.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Mark> entry = iterator.next();
+			Mark mark = entry.getValue();
+			if (mark.generation < generation && now - mark.timestamp >= gracePeriod) {
+				evictedDeviceIds.add(entry.getKey());
+				iterator.remove();
+			}
+		}
+		evicted.addAndGet(evictedDeviceIds.size());
+		completedSweeps.incrementAndGet();
+		return evictedDeviceIds;
+	}
+
+	/**
+	 * Retrieves {@link #evicted}
+	 *
+	 * @return number of devices evicted so far
+	 */
+	public long getEvicted() {
+		return evicted.get();
+	}
+
+	/**
+	 * Retrieves {@link #completedSweeps}
+	 *
+	 * @return number of completed sweeps
+	 */
+	public long getCompletedSweeps() {
+		return completedSweeps.get();
+	}
+
+	/**
+	 * Forgets all devices
+	 */
+	public synchronized void clear() {
+		marks.clear();
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.inventory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DeviceQuarantine keeps devices whose records could not be processed, so a malformed record costs that device only.
+ * A device is quarantined by the processing stage it failed in and released once the same stage succeeds for it,
+ * in between its last good state is kept. Fields that failed to map and fell back to None are counted by name.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceQuarantine {
+	/**
+	 * Stage and first failure of a quarantined device
+	 */
+	private static class Entry {
+		private final String stage;
+		private final String reason;
+		private final long since;
+
+		private Entry(String stage, String reason, long since) {
+			this.stage = stage;
+			this.reason = reason;
+			this.since = since;
+		}
+	}
+
+	private final int capacity;
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+	private final Map<String, AtomicLong> fieldErrors = new ConcurrentHashMap<>();
+	private final AtomicLong quarantined = new AtomicLong();
+
+	/**
+	 * Constructs a DeviceQuarantine keeping at most the given number of devices, the oldest entries are dropped first.
+	 *
+	 * @param capacity maximum number of quarantined devices
+	 */
+	public DeviceQuarantine(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Quarantines a device that failed in the given stage, keeping the first failure if it is already quarantined.
+	 *
+	 * @param deviceId id of the device
+	 * @param stage name of the processing stage
+	 * @param error failure
+	 * @param timestamp time of the failure
+	 */
+	public synchronized void quarantine(String deviceId, String stage, Exception error, long timestamp) {
+		if (entries.containsKey(deviceId)) {
+			return;
+		}
+		if (entries.size() >= capacity) {
+			entries.remove(entries.keySet().iterator().next());
+		}
+		entries.put(deviceId, new Entry(stage, String.valueOf(error), timestamp));
+		quarantined.incrementAndGet();
+	}
+
+	/**
+	 * Releases a device after the given stage succeeded for it.
+	 *
+	 * @param deviceId id of the device
+	 * @param stage name of the processing stage
+	 */
+	public synchronized void release(String deviceId, String stage) {
+		Entry entry = entries.get(deviceId);
+		if (entry != null && entry.stage.equals(stage)) {
+			entries.remove(deviceId);
+		}
+	}
+
+	/**
+	 * Forgets the given devices, e.g. after they were evicted.
+	 *
+	 * @param deviceIds ids of the devices
+	 */
+	public synchronized void forget(Collection<String> deviceIds) {
+		entries.keySet().removeAll(deviceIds);
+	}
+
+	/**
+	 * Checks whether a device is quarantined
+	 *
+	 * @param deviceId id of the device
+	 * @return true if the device is quarantined
+	 */
+	public synchronized boolean contains(String deviceId) {
+		return entries.containsKey(deviceId);
+	}
+
+	/**
+	 * Retrieves number of quarantined devices
+	 *
+	 * @return number of devices currently quarantined
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Retrieves the quarantined device ids, oldest first
+	 *
+	 * @param limit maximum number of ids
+	 * @return device ids
+	 */
+	public synchronized List<String> getDeviceIds(int limit) {
+		List<String> deviceIds = new ArrayList<>();
+		for (String deviceId : entries.keySet()) {
+			if (deviceIds.size() >= limit) {
+				break;
+			}
+			deviceIds.add(deviceId);
+		}
+		return deviceIds;
+	}
+
+	/**
+	 * Retrieves the failure a device was quarantined for
+	 *
+	 * @param deviceId id of the device
+	 * @return failure description, or null if the device is not quarantined
+	 */
+	public synchronized String getReason(String deviceId) {
+		Entry entry = entries.get(deviceId);
+		return entry != null ? entry.reason : null;
+	}
+
+	/**
+	 * Retrieves the time a device was quarantined at
+	 *
+	 * @param deviceId id of the device
+	 * @return time in milliseconds, or 0 if the device is not quarantined
+	 */
+	public synchronized long getSince(String deviceId) {
+		Entry entry = entries.get(deviceId);
+		return entry != null ? entry.since : 0;
+	}
+
+	/**
+	 * Counts a field that failed to map and fell back to None
+	 *
+	 * @param field name of the field
+	 */
+	public void recordFieldError(String field) {
+		fieldErrors.computeIfAbsent(field, key -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * Retrieves mapping errors by field name
+	 *
+	 * @return error count by field name, sorted by name
+	 */
+	public Map<String, Long> getFieldErrors() {
+		Map<String, Long> errors = new TreeMap<>();
+		fieldErrors.forEach((field, count) -> errors.put(field, count.get()));
+		return errors;
+	}
+
+	/**
+	 * Retrieves {@link #quarantined}
+	 *
+	 * @return number of times a device was quarantined
+	 */
+	public long getQuarantined() {
+		return quarantined.get();
+	}
+
+	/**
+	 * Removes all devices and error counts
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		fieldErrors.clear();
+	}
+}
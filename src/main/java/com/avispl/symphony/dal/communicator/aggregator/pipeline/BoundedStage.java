@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * BoundedStage is one stage of the device pipeline: a worker consuming items from a bounded queue.
+ * {@link #submit(Object)} blocks while the queue is full, so a slow stage holds back the stages feeding it
+ * instead of letting work pile up in memory. The first failure of the worker is rethrown by {@link #finish()}
+ * and by later submits, after which remaining items are drained without being processed.
+ * A worker stopped from outside, e.g. interrupted by the executor shutting down, fails the stage
+ * instead of leaving the producer waiting on a full queue.
+ *
+ * @param <T> type of the items
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class BoundedStage<T> {
+	/**
+	 * Marks the end of the input
+	 */
+	private static final Object END = new Object();
+
+	/**
+	 * Milliseconds a producer waits for queue space before checking whether the worker is still running
+	 */
+	private static final long OFFER_TIMEOUT = 100L;
+
+	private final BlockingQueue<Object> queue;
+	private final Consumer<T> worker;
+	private final Future<?> future;
+	private volatile Exception failure;
+	private volatile int peakDepth;
+	private volatile long processed;
+
+	/**
+	 * Constructs a BoundedStage and starts its worker.
+	 *
+	 * @param capacity maximum number of items waiting in the queue
+	 * @param worker processes one item
+	 * @param executor runs the worker
+	 */
+	public BoundedStage(int capacity, Consumer<T> worker, ExecutorService executor) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.worker = worker;
+		this.future = executor.submit(this::consume);
+	}
+
+	/**
+	 * Queues an item, waiting while the queue is full.
+	 *
+	 * @param item item to process
+	 * @throws Exception if the worker failed or the caller was interrupted
+	 */
+	public void submit(T item) throws Exception {
+		rethrowFailure();
+		enqueue(item);
+		peakDepth = Math.max(peakDepth, queue.size());
+	}
+
+	/**
+	 * Signals the end of the input and waits until every queued item is processed.
+	 *
+	 * @throws Exception if the worker failed or the caller was interrupted
+	 */
+	public void finish() throws Exception {
+		enqueue(END);
+		future.get();
+		rethrowFailure();
+	}
+
+	/**
+	 * Retrieves {@link #peakDepth}
+	 *
+	 * @return highest number of items that waited in the queue
+	 */
+	public int getPeakDepth() {
+		return peakDepth;
+	}
+
+	/**
+	 * Retrieves {@link #processed}
+	 *
+	 * @return number of items processed
+	 */
+	public long getProcessed() {
+		return processed;
+	}
+
+	/**
+	 * Consumes the queue until the end of the input
+	 */
+	@SuppressWarnings("unchecked")
+	private void consume() {
+		try {
+			for (Object item = queue.take(); item != END; item = queue.take()) {
+				if (failure != null) {
+					continue;
+				}
+				try {
+					worker.accept((T) item);
+					processed++;
+				} catch (Exception e) {
+					failure = e;
+				}
+			}
+		} catch (InterruptedException e) {
+			failure = e;
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Queues an item, waiting for space only while the worker is running
+	 *
+	 * @param item item to queue
+	 * @throws Exception if the worker stopped or the caller was interrupted
+	 */
+	private void enqueue(Object item) throws Exception {
+		while (!queue.offer(item, OFFER_TIMEOUT, TimeUnit.MILLISECONDS)) {
+			if (future.isDone()) {
+				rethrowFailure();
+				throw new IllegalStateException("Pipeline stage stopped before the end of the input");
+			}
+		}
+	}
+
+	private void rethrowFailure() throws Exception {
+		if (failure != null) {
+			throw failure;
+		}
+	}
+}
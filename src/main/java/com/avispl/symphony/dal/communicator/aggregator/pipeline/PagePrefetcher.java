@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.pipeline;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * PagePrefetcher requests the next page of a paginated endpoint in the background, while the current page is processed,
+ * and hands it over when that page is asked for. Only one page is held at a time, a page that is asked for with
+ * a different URI is dropped. A page that is not fetched within the time given by the caller stays pending,
+ * so the next cycle asking for the same page picks up the request already in flight instead of starting over.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class PagePrefetcher {
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private String uri;
+	private Future<JsonNode> page;
+
+	/**
+	 * Starts fetching a page, replacing any page fetched before.
+	 *
+	 * @param uri URI of the page
+	 * @param loader fetches the page
+	 * @param executor runs the loader
+	 */
+	public synchronized void prefetch(String uri, Callable<JsonNode> loader, ExecutorService executor) {
+		clear();
+		this.uri = uri;
+		this.page = executor.submit(loader);
+	}
+
+	/**
+	 * Retrieves a page, taking the prefetched or pending one when it has the same URI and requesting it otherwise.
+	 * A prefetched page that failed is requested once more.
+	 *
+	 * @param uri URI of the requested page
+	 * @param loader fetches the page
+	 * @param executor runs the loader
+	 * @param timeout maximum time to wait for the page in milliseconds
+	 * @return page
+	 * @throws TimeoutException if the page is not fetched in time, the request stays pending
+	 * @throws Exception if the page cannot be fetched
+	 */
+	public JsonNode fetch(String uri, Callable<JsonNode> loader, ExecutorService executor, long timeout) throws Exception {
+		long now = System.currentTimeMillis();
+		long deadline = timeout > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeout;
+		Future<JsonNode> requestedPage;
+		boolean prefetched;
+		synchronized (this) {
+			prefetched = page != null && uri.equals(this.uri);
+			if (!prefetched) {
+				prefetch(uri, loader, executor);
+			}
+			requestedPage = page;
+		}
+		(prefetched ? hits : misses).incrementAndGet();
+		try {
+			return await(requestedPage, deadline);
+		} catch (ExecutionException e) {
+			if (!prefetched) {
+				throw unwrap(e);
+			}
+		}
+		synchronized (this) {
+			prefetch(uri, loader, executor);
+			requestedPage = page;
+		}
+		try {
+			return await(requestedPage, deadline);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * Waits for a page and releases it once it is fetched or failed, a page still in flight after the deadline stays pending.
+	 *
+	 * @param requestedPage page being fetched
+	 * @param deadline time in milliseconds to stop waiting at
+	 * @return page
+	 * @throws Exception if the page is not fetched in time or cannot be fetched
+	 */
+	private JsonNode await(Future<JsonNode> requestedPage, long deadline) throws Exception {
+		try {
+			return requestedPage.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw e;
+		} catch (Exception e) {
+			release(requestedPage);
+			throw e;
+		} finally {
+			if (requestedPage.isDone()) {
+				release(requestedPage);
+			}
+		}
+	}
+
+	private synchronized void release(Future<JsonNode> requestedPage) {
+		if (page == requestedPage) {
+			uri = null;
+			page = null;
+		}
+	}
+
+	private static Exception unwrap(ExecutionException e) {
+		return e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+	}
+
+	/**
+	 * Drops the prefetched page
+	 */
+	public synchronized void clear() {
+		if (page != null) {
+			page.cancel(true);
+		}
+		uri = null;
+		page = null;
+	}
+
+	/**
+	 * Retrieves {@link #hits}
+	 *
+	 * @return number of pages served from a prefetched or pending request
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Retrieves {@link #misses}
+	 *
+	 * @return number of pages that had to be requested again
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.property;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.AggregatedDeviceEnum;
+
+/**
+ * CompactProperties keeps the raw properties of a cached device in an array indexed by {@link PropertyKeyIndex},
+ * so devices share the property names and no hash table entry is allocated per property. Names without a slot,
+ * once the index is full, are kept in a regular map of the device.
+ * Values of the properties listed in {@link #REPEATED_PROPERTIES}, which repeat across the fleet with few distinct values,
+ * are interned through a shared {@link StringPool}, other values are never pooled, so device specific values do not
+ * fill the pool. Equal values inside one device, such as the CPU reports behind both utilization and temperature, share one instance.
+ * It is used for the cached inventory only, devices handed to Symphony are copied into regular maps.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CompactProperties extends AbstractMap<String, String> {
+	private static final int POOL_CAPACITY = 65536;
+	private static final StringPool POOL = new StringPool(POOL_CAPACITY);
+
+	/**
+	 * Properties whose values repeat across devices and are worth interning
+	 */
+	private static final Set<String> REPEATED_PROPERTIES = new HashSet<>(Arrays.asList(
+			AggregatedDeviceEnum.STATUS.getName(), AggregatedDeviceEnum.CPU_MODEL.getName(), AggregatedDeviceEnum.CHROME_OS_VERSION.getName(),
+			AggregatedDeviceEnum.PLATFORM_VERSION.getName(), AggregatedDeviceEnum.FIRMWARE_VERSION.getName(), AggregatedDeviceEnum.TPM_FIRMWARE_VERSION.getName(),
+			AggregatedDeviceEnum.BOOT_MODE.getName(), AggregatedDeviceEnum.AUTO_UPDATE_EXPIRATION.getName(), AggregatedDeviceEnum.ORG_UNIT.getName(),
+			AggregatedDeviceEnum.MEMORY_TOTAL.getName()));
+
+	/**
+	 * Marks a property present with a null value, so a null slot keeps meaning the property is absent
+	 */
+	private static final String NULL_VALUE = new String();
+
+	private String[] values;
+	private int size;
+	private Map<String, String> overflow;
+
+	/**
+	 * Constructs CompactProperties holding the given properties.
+	 *
+	 * @param properties properties to copy
+	 */
+	public CompactProperties(Map<String, String> properties) {
+		values = new String[PropertyKeyIndex.size()];
+		properties.forEach(this::put);
+	}
+
+	/**
+	 * Interns a value through the pool shared by all devices.
+	 *
+	 * @param value value to intern, may be null
+	 * @return pooled instance of the value
+	 */
+	public static String intern(String value) {
+		return POOL.intern(value);
+	}
+
+	/**
+	 * Retrieves number of values in the shared pool
+	 *
+	 * @return number of pooled values
+	 */
+	public static int getPoolSize() {
+		return POOL.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		int index = PropertyKeyIndex.find(key);
+		if (index < 0) {
+			return overflow != null && overflow.containsKey(key);
+		}
+		return index < values.length && values[index] != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String get(Object key) {
+		int index = PropertyKeyIndex.find(key);
+		if (index < 0) {
+			return overflow != null ? overflow.get(key) : null;
+		}
+		if (index >= values.length) {
+			return null;
+		}
+		return unmask(values[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String put(String key, String value) {
+		int index = PropertyKeyIndex.indexOf(key);
+		if (index < 0) {
+			if (overflow == null) {
+				overflow = new HashMap<>();
+			}
+			if (!overflow.containsKey(key)) {
+				size++;
+			}
+			return overflow.put(key, value == null ? null : compact(key, value));
+		}
+		if (index >= values.length) {
+			values = Arrays.copyOf(values, PropertyKeyIndex.size());
+		}
+		String previous = values[index];
+		values[index] = value == null ? NULL_VALUE : compact(key, value);
+		if (previous == null) {
+			size++;
+		}
+		return unmask(previous);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String remove(Object key) {
+		int index = PropertyKeyIndex.find(key);
+		if (index < 0) {
+			if (overflow == null || !overflow.containsKey(key)) {
+				return null;
+			}
+			size--;
+			return overflow.remove(key);
+		}
+		if (index >= values.length || values[index] == null) {
+			return null;
+		}
+		String previous = values[index];
+		values[index] = null;
+		size--;
+		return unmask(previous);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(values, null);
+		overflow = null;
+		size = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return new AbstractSet<Entry<String, String>>() {
+			@Override
+			public Iterator<Entry<String, String>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Shares the instance of a value with the pool or with an equal value already stored in this device.
+	 *
+	 * @param key property name
+	 * @param value property value
+	 * @return value instance to store
+	 */
+	private String compact(String key, String value) {
+		if (REPEATED_PROPERTIES.contains(key)) {
+			return POOL.intern(value);
+		}
+		for (String stored : values) {
+			if (stored != null && stored.length() == value.length() && stored.equals(value)) {
+				return stored;
+			}
+		}
+		return value;
+	}
+
+	private static String unmask(String value) {
+		return value == NULL_VALUE ? null : value;
+	}
+
+	/**
+	 * Iterates over present slots in slot order, then over properties without a slot
+	 */
+	private class EntryIterator implements Iterator<Entry<String, String>> {
+		private int next = advance(0);
+		private int last = -1;
+		private Iterator<Entry<String, String>> overflowIterator;
+
+		@Override
+		public boolean hasNext() {
+			if (next < values.length) {
+				return true;
+			}
+			if (overflowIterator == null && overflow != null) {
+				overflowIterator = overflow.entrySet().iterator();
+			}
+			return overflowIterator != null && overflowIterator.hasNext();
+		}
+
+		@Override
+		public Entry<String, String> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (next >= values.length) {
+				last = values.length;
+				Entry<String, String> entry = overflowIterator.next();
+				return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+			}
+			last = next;
+			next = advance(next + 1);
+			return new SimpleImmutableEntry<>(PropertyKeyIndex.nameOf(last), unmask(values[last]));
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			if (last >= values.length) {
+				overflowIterator.remove();
+			} else {
+				values[last] = null;
+			}
+			size--;
+			last = -1;
+		}
+
+		private int advance(int from) {
+			int index = from;
+			while (index < values.length && values[index] == null) {
+				index++;
+			}
+			return index;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.property;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.AggregatedDeviceEnum;
+
+/**
+ * PropertyKeyIndex assigns a stable slot to every property name, so {@link CompactProperties} can keep values in an array
+ * instead of a hash table per device. {@link AggregatedDeviceEnum} names take the first slots in ordinal order,
+ * other names get the next free slot the first time they are seen, until {@link #CAPACITY} slots are assigned.
+ * Names seen after that get no slot, so the index and the arrays sized after it stay bounded.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public final class PropertyKeyIndex {
+	/**
+	 * Maximum number of slots, well above the number of properties the adapter maps
+	 */
+	public static final int CAPACITY = 256;
+
+	private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+	private static volatile String[] names = new String[0];
+
+	static {
+		for (AggregatedDeviceEnum property : AggregatedDeviceEnum.values()) {
+			indexOf(property.getName());
+		}
+	}
+
+	private PropertyKeyIndex() {
+	}
+
+	/**
+	 * Retrieves the slot of a property name, assigning a new one if the name was not seen yet and slots are left.
+	 *
+	 * @param name property name
+	 * @return slot of the property, or -1 if the name has no slot and all slots are assigned
+	 */
+	public static int indexOf(String name) {
+		Integer index = INDEXES.get(name);
+		if (index != null) {
+			return index;
+		}
+		synchronized (PropertyKeyIndex.class) {
+			index = INDEXES.get(name);
+			if (index == null) {
+				if (names.length >= CAPACITY) {
+					return -1;
+				}
+				String[] grown = Arrays.copyOf(names, names.length + 1);
+				grown[names.length] = name;
+				names = grown;
+				index = names.length - 1;
+				INDEXES.put(name, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Retrieves the slot of a property name without assigning one.
+	 *
+	 * @param name property name
+	 * @return slot of the property, or -1 if the name has no slot
+	 */
+	public static int find(Object name) {
+		Integer index = name instanceof String ? INDEXES.get(name) : null;
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * Retrieves the property name of a slot
+	 *
+	 * @param index slot of the property
+	 * @return property name
+	 */
+	public static String nameOf(int index) {
+		return names[index];
+	}
+
+	/**
+	 * Retrieves number of slots assigned so far
+	 *
+	 * @return number of known property names
+	 */
+	public static int size() {
+		return names.length;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.property;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StringPool interns values that repeat across devices, such as OS versions, models and organizational unit paths,
+ * so thousands of devices share one instance of each. Unlike {@link String#intern()} the pool is bounded:
+ * once full, new values are returned as they are and the pool stops growing.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class StringPool {
+	private final Map<String, String> values = new ConcurrentHashMap<>();
+	private final int capacity;
+
+	/**
+	 * Constructs a StringPool with the given capacity.
+	 *
+	 * @param capacity maximum number of pooled values
+	 */
+	public StringPool(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Retrieves the pooled instance of a value, pooling the value if there is room left.
+	 *
+	 * @param value value to intern, may be null
+	 * @return pooled instance, or the value itself if it is null or the pool is full
+	 */
+	public String intern(String value) {
+		if (value == null) {
+			return null;
+		}
+		String pooled = values.get(value);
+		if (pooled != null) {
+			return pooled;
+		}
+		if (values.size() >= capacity) {
+			return value;
+		}
+		pooled = values.putIfAbsent(value, value);
+		return pooled != null ? pooled : value;
+	}
+
+	/**
+	 * Retrieves number of pooled values
+	 *
+	 * @return number of pooled values
+	 */
+	public int size() {
+		return values.size();
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.publication;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * DeltaPublicationTracker keeps hashes of the aggregated device properties published to Symphony,
+ * so only devices and properties that changed since the previous poll are published again.
+ * Every device is published in full the first time it is seen and then every full refresh interval,
+ * tracked per device so the interval holds when the fleet is published in shards across several polls.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeltaPublicationTracker {
+	/**
+	 * Names of dynamic statistics that change on every poll without the device changing, e.g. data age,
+	 * left out of the device hash so they alone do not publish the device again
+	 */
+	private final Set<String> unhashedStatistics;
+
+	/**
+	 * Hash of the whole published device, used to skip unchanged devices without comparing properties
+	 */
+	private final Map<String, Integer> deviceHashes = new HashMap<>();
+
+	/**
+	 * Hashes of the published property values, keyed by device id and property name
+	 */
+	private final Map<String, Map<String, Integer>> propertyHashes = new HashMap<>();
+
+	/**
+	 * Timestamp of the last full publication, keyed by device id
+	 */
+	private final Map<String, Long> fullRefreshTimestamps = new HashMap<>();
+
+	private long lastPruneTimestamp;
+
+	/**
+	 * Constructs a DeltaPublicationTracker hashing all dynamic statistics.
+	 */
+	public DeltaPublicationTracker() {
+		this(Collections.emptySet());
+	}
+
+	/**
+	 * Constructs a DeltaPublicationTracker.
+	 *
+	 * @param unhashedStatistics names of dynamic statistics left out of the device hash
+	 */
+	public DeltaPublicationTracker(Collection<String> unhashedStatistics) {
+		this.unhashedStatistics = new HashSet<>(unhashedStatistics);
+	}
+
+	/**
+	 * Filters the given devices down to devices and properties that changed since the previous publication.
+	 * Dynamic statistics of a changed device are always published in full, so historical charts stay continuous.
+	 * Devices missing from the given list are forgotten once per full refresh interval.
+	 *
+	 * @param aggregatedDevices mapped devices that would be published in full
+	 * @param fullRefreshInterval interval in milliseconds between full publications
+	 * @return devices to publish
+	 */
+	public synchronized List<AggregatedDevice> filterChanged(List<AggregatedDevice> aggregatedDevices, long fullRefreshInterval) {
+		Set<String> deviceIds = new HashSet<>();
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+			deviceIds.add(aggregatedDevice.getDeviceId());
+		}
+		return filterChanged(aggregatedDevices, fullRefreshInterval, deviceIds);
+	}
+
+	/**
+	 * Filters the given devices down to devices and properties that changed since the previous publication.
+	 * Used when only a part of the fleet is published per call: devices missing from knownDeviceIds are forgotten
+	 * once per full refresh interval, devices of other parts keep their hashes.
+	 *
+	 * @param aggregatedDevices mapped devices that would be published in full
+	 * @param fullRefreshInterval interval in milliseconds between full publications
+	 * @param knownDeviceIds ids of all devices of the fleet
+	 * @return devices to publish
+	 */
+	public synchronized List<AggregatedDevice> filterChanged(List<AggregatedDevice> aggregatedDevices, long fullRefreshInterval, Set<String> knownDeviceIds) {
+		long now = System.currentTimeMillis();
+		List<AggregatedDevice> result = new ArrayList<>();
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+			String deviceId = aggregatedDevice.getDeviceId();
+			Map<String, String> properties = aggregatedDevice.getProperties() != null ? aggregatedDevice.getProperties() : new HashMap<>();
+			int deviceHash = Objects.hash(aggregatedDevice.getDeviceName(), aggregatedDevice.getDeviceModel(), aggregatedDevice.getDeviceOnline(),
+					properties, hashedStatistics(aggregatedDevice.getDynamicStatistics()));
+			Integer previousDeviceHash = deviceHashes.put(deviceId, deviceHash);
+			Map<String, Integer> previousPropertyHashes = propertyHashes.computeIfAbsent(deviceId, key -> new HashMap<>());
+			Long lastFullRefreshTimestamp = fullRefreshTimestamps.get(deviceId);
+			if (previousDeviceHash == null || lastFullRefreshTimestamp == null || now - lastFullRefreshTimestamp >= fullRefreshInterval) {
+				fullRefreshTimestamps.put(deviceId, now);
+				previousPropertyHashes.clear();
+				properties.forEach((name, value) -> previousPropertyHashes.put(name, Objects.hashCode(value)));
+				result.add(aggregatedDevice);
+				continue;
+			}
+			if (previousDeviceHash == deviceHash) {
+				continue;
+			}
+			Map<String, String> changedProperties = new HashMap<>();
+			properties.forEach((name, value) -> {
+				Integer valueHash = Objects.hashCode(value);
+				if (!valueHash.equals(previousPropertyHashes.put(name, valueHash))) {
+					changedProperties.put(name, value);
+				}
+			});
+			previousPropertyHashes.keySet().retainAll(properties.keySet());
+			aggregatedDevice.setProperties(changedProperties);
+			result.add(aggregatedDevice);
+		}
+		if (now - lastPruneTimestamp >= fullRefreshInterval) {
+			deviceHashes.keySet().retainAll(knownDeviceIds);
+			propertyHashes.keySet().retainAll(knownDeviceIds);
+			fullRefreshTimestamps.keySet().retainAll(knownDeviceIds);
+			lastPruneTimestamp = now;
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the dynamic statistics a device hash is built from, without {@link #unhashedStatistics}
+	 *
+	 * @param dynamicStatistics dynamic statistics of the device, may be null
+	 * @return dynamic statistics to hash
+	 */
+	private Map<String, String> hashedStatistics(Map<String, String> dynamicStatistics) {
+		if (dynamicStatistics == null || unhashedStatistics.isEmpty() || Collections.disjoint(dynamicStatistics.keySet(), unhashedStatistics)) {
+			return dynamicStatistics;
+		}
+		Map<String, String> statistics = new HashMap<>(dynamicStatistics);
+		statistics.keySet().removeAll(unhashedStatistics);
+		return statistics;
+	}
+
+	/**
+	 * Forgets hashes of the given devices, so they are published in full if they ever come back
+	 *
+	 * @param deviceIds ids of devices to forget
+	 */
+	public synchronized void forget(Set<String> deviceIds) {
+		deviceHashes.keySet().removeAll(deviceIds);
+		propertyHashes.keySet().removeAll(deviceIds);
+		fullRefreshTimestamps.keySet().removeAll(deviceIds);
+	}
+
+	/**
+	 * Forces the next publication to be a full one
+	 */
+	public synchronized void reset() {
+		deviceHashes.clear();
+		propertyHashes.clear();
+		fullRefreshTimestamps.clear();
+		lastPruneTimestamp = 0;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.publication;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * PublicationSharder splits the fleet into shards of bounded size and hands out one shard per poll, round robin,
+ * so the work done on each retrieveMultipleStatistics call stays flat as the fleet grows.
+ * The fleet is ordered by the partition key and device id before it is cut, so a device keeps its shard
+ * across polls as long as the fleet does not change much. The order is kept between polls and computed again
+ * only when devices join or leave the fleet or move to another partition.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class PublicationSharder {
+	private int nextShard;
+	private int currentShard;
+	private int shardCount;
+	private ShardPartitionEnum orderedPartition;
+	private final Map<String, String> partitionKeys = new HashMap<>();
+	private List<String> orderedDeviceIds = new ArrayList<>();
+
+	/**
+	 * Retrieves the next shard of the given devices.
+	 *
+	 * @param aggregatedDevices cached devices of the whole fleet
+	 * @param shardSize maximum number of devices per shard, greater than 0
+	 * @param partition the way devices are grouped into shards
+	 * @return devices of the next shard
+	 */
+	public synchronized List<AggregatedDevice> nextShard(List<AggregatedDevice> aggregatedDevices, int shardSize, ShardPartitionEnum partition) {
+		if (shardSize <= 0) {
+			throw new IllegalArgumentException("Shard size must be greater than 0");
+		}
+		if (aggregatedDevices.isEmpty()) {
+			currentShard = 0;
+			shardCount = 0;
+			return new ArrayList<>();
+		}
+		Map<String, AggregatedDevice> devicesById = new HashMap<>(aggregatedDevices.size() * 4 / 3 + 1);
+		boolean changed = partition != orderedPartition;
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices) {
+			String deviceId = String.valueOf(aggregatedDevice.getDeviceId());
+			devicesById.put(deviceId, aggregatedDevice);
+			if (!changed) {
+				// the key of a device id partition derives from the id alone, so a known id keeps its key
+				String partitionKey = partitionKeys.get(deviceId);
+				changed = partitionKey == null || partition != ShardPartitionEnum.DEVICE_ID && !partitionKey.equals(partition.getPartitionKey(aggregatedDevice));
+			}
+		}
+		if (changed || devicesById.size() != partitionKeys.size()) {
+			order(devicesById, partition);
+		}
+
+		shardCount = (orderedDeviceIds.size() + shardSize - 1) / shardSize;
+		if (nextShard >= shardCount) {
+			nextShard = 0;
+		}
+		currentShard = nextShard;
+		nextShard = (nextShard + 1) % shardCount;
+
+		int from = currentShard * shardSize;
+		int to = Math.min(from + shardSize, orderedDeviceIds.size());
+		List<AggregatedDevice> shard = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			shard.add(devicesById.get(orderedDeviceIds.get(i)));
+		}
+		return shard;
+	}
+
+	/**
+	 * Orders devices by their partition key and device id
+	 *
+	 * @param devicesById devices of the fleet by device id
+	 * @param partition the way devices are grouped into shards
+	 */
+	private void order(Map<String, AggregatedDevice> devicesById, ShardPartitionEnum partition) {
+		partitionKeys.clear();
+		for (Map.Entry<String, AggregatedDevice> entry : devicesById.entrySet()) {
+			partitionKeys.put(entry.getKey(), partition.getPartitionKey(entry.getValue()));
+		}
+		List<String> deviceIds = new ArrayList<>(partitionKeys.keySet());
+		deviceIds.sort(Comparator.<String, String>comparing(partitionKeys::get).thenComparing(Comparator.naturalOrder()));
+		orderedDeviceIds = deviceIds;
+		orderedPartition = partition;
+	}
+
+	/**
+	 * Retrieves {@link #currentShard}
+	 *
+	 * @return index of the shard returned by the last call, starting at 0
+	 */
+	public synchronized int getCurrentShard() {
+		return currentShard;
+	}
+
+	/**
+	 * Retrieves {@link #shardCount}
+	 *
+	 * @return number of shards the fleet was split into by the last call
+	 */
+	public synchronized int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Starts the next round from the first shard
+	 */
+	public synchronized void reset() {
+		nextShard = 0;
+		currentShard = 0;
+		shardCount = 0;
+		orderedPartition = null;
+		partitionKeys.clear();
+		orderedDeviceIds = new ArrayList<>();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.publication;
+
+import java.util.Arrays;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.aggregator.common.AggregatedDeviceEnum;
+
+/**
+ * ShardPartitionEnum include the ways the fleet is partitioned into publication shards.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public enum ShardPartitionEnum {
+	DEVICE_ID("DeviceId"),
+	ORG_UNIT("OrgUnit"),
+	;
+	private final String name;
+
+	/**
+	 * Constructs a ShardPartitionEnum enum constant with the specified name.
+	 *
+	 * @param name the name of the partition as configured in adapter properties
+	 */
+	ShardPartitionEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the partition key of a device. Devices are ordered by this key before the fleet is cut into shards,
+	 * so devices of the same organizational unit, or devices with close id hashes, end up in the same shard.
+	 *
+	 * @param aggregatedDevice cached aggregated device
+	 * @return partition key, never null
+	 */
+	public String getPartitionKey(AggregatedDevice aggregatedDevice) {
+		if (this == ORG_UNIT) {
+			String orgUnitPath = aggregatedDevice.getProperties() != null ? aggregatedDevice.getProperties().get(AggregatedDeviceEnum.ORG_UNIT.getName()) : null;
+			return orgUnitPath != null ? orgUnitPath : "";
+		}
+		int hash = String.valueOf(aggregatedDevice.getDeviceId()).hashCode() * 0x9E3779B9;
+		return String.format("%08x", hash ^ (hash >>> 16));
+	}
+
+	/**
+	 * Retrieves the partition by its configured name, case-insensitively.
+	 *
+	 * @param name configured name
+	 * @return matching partition, {@link #DEVICE_ID} if no partition matches
+	 */
+	public static ShardPartitionEnum getByName(String name) {
+		return Arrays.stream(values()).filter(partition -> partition.getName().equalsIgnoreCase(name == null ? "" : name.trim())).findFirst().orElse(DEVICE_ID);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.reports;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * FleetReport holds fleet level device counts computed by Chrome Management reports API,
+ * grouped by section such as ChromeOS version, auto update expiration or hardware model.
+ * A report is immutable once built, {@link FleetReportCollector} builds a new one on every collection.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class FleetReport {
+	/**
+	 * Bucket put in the statistics of a section whose counts do not cover the whole fleet
+	 */
+	public static final String TRUNCATED = "Truncated";
+
+	private final Map<String, Map<String, Long>> sections;
+	private final Set<String> truncatedSections;
+	private final long devicesCount;
+	private final long collectedAt;
+
+	/**
+	 * Constructs a FleetReport.
+	 *
+	 * @param sections device counts keyed by section group and bucket
+	 * @param truncatedSections groups of the sections that were cut short by the page limit
+	 * @param devicesCount total number of devices in the fleet, -1 if unknown
+	 * @param collectedAt time the report was collected
+	 */
+	public FleetReport(Map<String, Map<String, Long>> sections, Set<String> truncatedSections, long devicesCount, long collectedAt) {
+		Map<String, Map<String, Long>> copy = new LinkedHashMap<>();
+		sections.forEach((group, counts) -> copy.put(group, Collections.unmodifiableMap(new TreeMap<>(counts))));
+		this.sections = Collections.unmodifiableMap(copy);
+		this.truncatedSections = Collections.unmodifiableSet(new HashSet<>(truncatedSections));
+		this.devicesCount = devicesCount;
+		this.collectedAt = collectedAt;
+	}
+
+	/**
+	 * Retrieves {@link #sections}
+	 *
+	 * @return value of {@link #sections}
+	 */
+	public Map<String, Map<String, Long>> getSections() {
+		return sections;
+	}
+
+	/**
+	 * Retrieves {@link #truncatedSections}
+	 *
+	 * @return value of {@link #truncatedSections}
+	 */
+	public Set<String> getTruncatedSections() {
+		return truncatedSections;
+	}
+
+	/**
+	 * Retrieves {@link #devicesCount}
+	 *
+	 * @return value of {@link #devicesCount}
+	 */
+	public long getDevicesCount() {
+		return devicesCount;
+	}
+
+	/**
+	 * Retrieves {@link #collectedAt}
+	 *
+	 * @return value of {@link #collectedAt}
+	 */
+	public long getCollectedAt() {
+		return collectedAt;
+	}
+
+	/**
+	 * Puts device counts of every section into the aggregator statistics, as {@code <group><bucket>} properties.
+	 * Truncated sections also get a {@code <group>Truncated} property.
+	 *
+	 * @param statistics aggregator statistics
+	 */
+	public void populateStatistics(Map<String, String> statistics) {
+		sections.forEach((group, counts) -> counts.forEach((bucket, count) -> statistics.put(group + bucket, String.valueOf(count))));
+		truncatedSections.forEach(group -> statistics.put(group + TRUNCATED, String.valueOf(true)));
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.reports;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceConstant;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * FleetReportCollector builds a {@link FleetReport} from Chrome Management reports API: countChromeVersions,
+ * countChromeDevicesReachingAutoExpirationDate and countChromeHardwareFleetDevices.
+ * Google computes the counts server side, so the whole fleet is covered in a handful of requests however large it is.
+ * A report that fails keeps its sections from the previous collection, failures are logged.
+ * ChromeOS versions are read for at most {@link #MAX_VERSION_PAGES} pages, a longer list is marked as truncated.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class FleetReportCollector {
+	/**
+	 * Fetches a JSON response of Chrome Management API
+	 */
+	@FunctionalInterface
+	public interface Fetcher {
+		/**
+		 * Sends GET request
+		 *
+		 * @param uri request URI
+		 * @return response body
+		 * @throws Exception if the request fails
+		 */
+		JsonNode get(String uri) throws Exception;
+	}
+
+	public static final String CHROME_OS_VERSIONS_GROUP = "FleetChromeOSVersions#";
+	public static final String AUTO_UPDATE_EXPIRATION_GROUP = "FleetAutoUpdateExpiration#";
+	public static final String HARDWARE_MODELS_GROUP = "FleetHardwareModels#";
+	public static final String HARDWARE_CPUS_GROUP = "FleetHardwareCPUs#";
+	public static final String HARDWARE_MEMORY_GROUP = "FleetHardwareMemory#";
+	public static final String HARDWARE_STORAGE_GROUP = "FleetHardwareStorage#";
+
+	private static final int MAX_VERSION_PAGES = 20;
+	private static final String SYSTEM_CROS = "SYSTEM_CROS";
+	private static final String EXPIRED = "Expired";
+	private static final String UNKNOWN = "Unknown";
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final Fetcher fetcher;
+	private FleetReport lastReport;
+
+	/**
+	 * Constructs a FleetReportCollector.
+	 *
+	 * @param fetcher sends requests to Chrome Management API
+	 */
+	public FleetReportCollector(Fetcher fetcher) {
+		this.fetcher = fetcher;
+	}
+
+	/**
+	 * Retrieves {@link #lastReport}
+	 *
+	 * @return last collected report, or null if nothing was collected yet
+	 */
+	public synchronized FleetReport getLastReport() {
+		return lastReport;
+	}
+
+	/**
+	 * Collects all reports.
+	 *
+	 * @param versionsUri URI of countChromeVersions
+	 * @param autoUpdateExpirationUri URI of countChromeDevicesReachingAutoExpirationDate
+	 * @param hardwareUri URI of countChromeHardwareFleetDevices
+	 * @return collected report, or the previous one if every report failed
+	 */
+	public synchronized FleetReport collect(String versionsUri, String autoUpdateExpirationUri, String hardwareUri) {
+		Map<String, Map<String, Long>> sections = new LinkedHashMap<>();
+		Set<String> truncatedSections = new HashSet<>();
+		if (lastReport != null) {
+			sections.putAll(lastReport.getSections());
+			truncatedSections.addAll(lastReport.getTruncatedSections());
+		}
+		long devicesCount = lastReport != null ? lastReport.getDevicesCount() : -1;
+		boolean collected = false;
+		try {
+			Map<String, Long> versions = new HashMap<>();
+			if (collectChromeVersions(versionsUri, versions)) {
+				truncatedSections.add(CHROME_OS_VERSIONS_GROUP);
+			} else {
+				truncatedSections.remove(CHROME_OS_VERSIONS_GROUP);
+			}
+			sections.put(CHROME_OS_VERSIONS_GROUP, versions);
+			collected = true;
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to collect fleet report %s, keeping the previous ChromeOS versions", versionsUri), e);
+		}
+		try {
+			sections.put(AUTO_UPDATE_EXPIRATION_GROUP, collectAutoUpdateExpiration(autoUpdateExpirationUri));
+			collected = true;
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to collect fleet report %s, keeping the previous auto update expiration counts", autoUpdateExpirationUri), e);
+		}
+		try {
+			JsonNode response = fetcher.get(hardwareUri);
+			Map<String, Long> models = countBuckets(response.path(GoogleWorkspaceConstant.MODEL_REPORTS));
+			sections.put(HARDWARE_MODELS_GROUP, models);
+			sections.put(HARDWARE_CPUS_GROUP, countBuckets(response.path(GoogleWorkspaceConstant.CPU_REPORTS)));
+			sections.put(HARDWARE_MEMORY_GROUP, countBuckets(response.path(GoogleWorkspaceConstant.MEMORY_REPORTS)));
+			sections.put(HARDWARE_STORAGE_GROUP, countBuckets(response.path(GoogleWorkspaceConstant.STORAGE_REPORTS)));
+			devicesCount = models.values().stream().mapToLong(Long::longValue).sum();
+			collected = true;
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to collect fleet report %s, keeping the previous hardware counts", hardwareUri), e);
+		}
+		if (collected) {
+			lastReport = new FleetReport(sections, truncatedSections, devicesCount, System.currentTimeMillis());
+		}
+		return lastReport;
+	}
+
+	/**
+	 * Counts ChromeOS devices per version, following pagination. Browser versions of other systems are skipped.
+	 *
+	 * @param uri URI of countChromeVersions
+	 * @param counts device count per version to fill
+	 * @return true if pages were left unread after {@link #MAX_VERSION_PAGES} pages
+	 * @throws Exception if a request fails
+	 */
+	private boolean collectChromeVersions(String uri, Map<String, Long> counts) throws Exception {
+		String pageToken = null;
+		int page = 0;
+		do {
+			JsonNode response = fetcher.get(pageToken == null ? uri : uri + GoogleWorkspaceConstant.NEXT_TOKEN_REQUEST_PARAM + pageToken);
+			for (JsonNode browserVersion : response.path(GoogleWorkspaceConstant.BROWSER_VERSIONS)) {
+				String system = browserVersion.path(GoogleWorkspaceConstant.REPORT_SYSTEM).asText();
+				if (StringUtils.isNotNullOrEmpty(system) && !SYSTEM_CROS.equals(system)) {
+					continue;
+				}
+				String version = browserVersion.path(GoogleWorkspaceConstant.REPORT_VERSION).asText();
+				counts.merge(StringUtils.isNotNullOrEmpty(version) ? version : UNKNOWN, browserVersion.path(GoogleWorkspaceConstant.REPORT_COUNT).asLong(), Long::sum);
+			}
+			pageToken = response.path(GoogleWorkspaceConstant.NEXT_TOKEN).asText(null);
+		} while (StringUtils.isNotNullOrEmpty(pageToken) && ++page < MAX_VERSION_PAGES);
+		if (StringUtils.isNotNullOrEmpty(pageToken)) {
+			logger.warn(String.format("ChromeOS versions report has more than %d pages, the remaining versions are not counted", MAX_VERSION_PAGES));
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Counts devices that reached auto update expiration and devices reaching it per year.
+	 *
+	 * @param uri URI of countChromeDevicesReachingAutoExpirationDate
+	 * @return device count per bucket
+	 * @throws Exception if the request fails
+	 */
+	private Map<String, Long> collectAutoUpdateExpiration(String uri) throws Exception {
+		Map<String, Long> counts = new HashMap<>();
+		counts.put(EXPIRED, 0L);
+		for (JsonNode report : fetcher.get(uri).path(GoogleWorkspaceConstant.DEVICE_AUE_COUNT_REPORTS)) {
+			String bucket = report.path(GoogleWorkspaceConstant.REPORT_EXPIRED).asBoolean() ? EXPIRED : report.path(GoogleWorkspaceConstant.REPORT_AUE_YEAR).asText(UNKNOWN);
+			counts.merge(StringUtils.isNotNullOrEmpty(bucket) ? bucket : UNKNOWN, report.path(GoogleWorkspaceConstant.REPORT_COUNT).asLong(), Long::sum);
+		}
+		return counts;
+	}
+
+	/**
+	 * Sums bucket counts of a hardware report section
+	 *
+	 * @param reports hardware report section
+	 * @return device count per bucket
+	 */
+	private Map<String, Long> countBuckets(JsonNode reports) {
+		Map<String, Long> counts = new HashMap<>();
+		for (JsonNode report : reports) {
+			String bucket = report.path(GoogleWorkspaceConstant.REPORT_BUCKET).asText();
+			counts.merge(StringUtils.isNotNullOrEmpty(bucket) ? bucket : UNKNOWN, report.path(GoogleWorkspaceConstant.REPORT_COUNT).asLong(), Long::sum);
+		}
+		return counts;
+	}
+}
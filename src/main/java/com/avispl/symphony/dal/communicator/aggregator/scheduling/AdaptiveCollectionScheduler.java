@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.scheduling;
+
+/**
+ * AdaptiveCollectionScheduler derives the interval between device sweeps from the churn observed during the last sweep.
+ * Devices are counted as they are collected, changed ones separately. When a sweep completes, the interval is halved
+ * if the share of changed devices reached the high churn threshold and doubled if it stayed below the low one,
+ * always within the configured bounds, so sweeps follow the activity of the fleet, frequent during business hours
+ * and sparse overnight.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class AdaptiveCollectionScheduler {
+	private final int highChurnPercent;
+	private final int lowChurnPercent;
+	private long observed;
+	private long changed;
+	private long interval;
+	private int lastChurnPercent;
+	private long nextSweepTimestamp;
+
+	/**
+	 * Constructs an AdaptiveCollectionScheduler with the given churn thresholds.
+	 *
+	 * @param highChurnPercent share of changed devices from which the interval is shortened
+	 * @param lowChurnPercent share of changed devices below which the interval is lengthened
+	 */
+	public AdaptiveCollectionScheduler(int highChurnPercent, int lowChurnPercent) {
+		if (lowChurnPercent > highChurnPercent) {
+			throw new IllegalArgumentException("Low churn threshold must not be greater than high churn threshold");
+		}
+		this.highChurnPercent = highChurnPercent;
+		this.lowChurnPercent = lowChurnPercent;
+	}
+
+	/**
+	 * Records a collected device.
+	 *
+	 * @param deviceChanged whether the device changed since it was collected before
+	 */
+	public synchronized void record(boolean deviceChanged) {
+		observed++;
+		if (deviceChanged) {
+			changed++;
+		}
+	}
+
+	/**
+	 * Completes a sweep, adjusting the interval to the churn observed since the previous sweep completed.
+	 * A sweep without collected devices keeps the interval.
+	 *
+	 * @param minInterval shortest interval in milliseconds
+	 * @param maxInterval longest interval in milliseconds
+	 * @param now current time in milliseconds
+	 * @return interval in milliseconds until the next sweep starts
+	 */
+	public synchronized long completeSweep(long minInterval, long maxInterval, long now) {
+		if (observed > 0) {
+			lastChurnPercent = (int) (changed * 100 / observed);
+			if (lastChurnPercent >= highChurnPercent) {
+				interval = interval / 2;
+			} else if (lastChurnPercent < lowChurnPercent) {
+				interval = interval == 0 ? minInterval : interval * 2;
+			}
+		}
+		interval = Math.max(minInterval, Math.min(maxInterval, interval));
+		observed = 0;
+		changed = 0;
+		nextSweepTimestamp = now + interval;
+		return interval;
+	}
+
+	/**
+	 * Checks whether the next sweep may start
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the interval since the last completed sweep elapsed
+	 */
+	public synchronized boolean isSweepDue(long now) {
+		return now >= nextSweepTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #interval}
+	 *
+	 * @return interval in milliseconds between sweeps
+	 */
+	public synchronized long getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Retrieves {@link #lastChurnPercent}
+	 *
+	 * @return share of changed devices in percent during the last completed sweep
+	 */
+	public synchronized int getLastChurnPercent() {
+		return lastChurnPercent;
+	}
+
+	/**
+	 * Resets the scheduler, so the next sweep starts immediately with the shortest interval
+	 */
+	public synchronized void reset() {
+		observed = 0;
+		changed = 0;
+		interval = 0;
+		lastChurnPercent = 0;
+		nextSweepTimestamp = 0;
+	}
+}
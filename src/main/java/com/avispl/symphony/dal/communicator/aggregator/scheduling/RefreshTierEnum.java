@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.scheduling;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * RefreshTierEnum include refresh tiers devices are bucketed in, depending on how likely their metrics change.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public enum RefreshTierEnum {
+	ACTIVE("Active"),
+	IDLE("Idle"),
+	OFFLINE("Offline"),
+	DISABLED("Disabled"),
+	;
+	private static final String STATUS_DISABLED = "DISABLED";
+	private static final String STATUS_DEPROVISIONED = "DEPROVISIONED";
+
+	private final String name;
+
+	/**
+	 * Constructs a RefreshTierEnum enum constant with the specified name.
+	 *
+	 * @param name the name of the tier used in statistics
+	 */
+	RefreshTierEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Buckets a device by its status and last sync. Disabled and deprovisioned devices are {@link #DISABLED},
+	 * devices without a sync within the idle window are {@link #OFFLINE}, devices without a sync within the active window
+	 * are {@link #IDLE} and the others are {@link #ACTIVE}.
+	 *
+	 * @param status status of the device
+	 * @param lastSync last sync of the device in ISO-8601 format
+	 * @param now current time in milliseconds
+	 * @param activeWindow milliseconds since the last sync a device is active for
+	 * @param idleWindow milliseconds since the last sync a device is idle for
+	 * @return refresh tier of the device
+	 */
+	public static RefreshTierEnum classify(String status, String lastSync, long now, long activeWindow, long idleWindow) {
+		if (STATUS_DISABLED.equals(status) || STATUS_DEPROVISIONED.equals(status)) {
+			return DISABLED;
+		}
+		long syncAge;
+		try {
+			syncAge = now - Instant.parse(lastSync).toEpochMilli();
+		} catch (NullPointerException | DateTimeParseException e) {
+			return OFFLINE;
+		}
+		if (syncAge > idleWindow) {
+			return OFFLINE;
+		}
+		return syncAge > activeWindow ? IDLE : ACTIVE;
+	}
+}
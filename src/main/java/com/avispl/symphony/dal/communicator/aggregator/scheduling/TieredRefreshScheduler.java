@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.scheduling;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TieredRefreshScheduler decides whether a listed device is refreshed, based on the refresh interval of its tier and
+ * the time it was last collected. Devices that are not due keep their cached state, so mapping and publishing
+ * concentrate on devices whose metrics move.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class TieredRefreshScheduler {
+	private final Map<RefreshTierEnum, AtomicLong> refreshed = new EnumMap<>(RefreshTierEnum.class);
+	private final AtomicLong skipped = new AtomicLong();
+
+	/**
+	 * Constructs a TieredRefreshScheduler
+	 */
+	public TieredRefreshScheduler() {
+		for (RefreshTierEnum tier : RefreshTierEnum.values()) {
+			refreshed.put(tier, new AtomicLong());
+		}
+	}
+
+	/**
+	 * Checks whether a device is due for refresh and counts the decision.
+	 *
+	 * @param tier refresh tier of the device
+	 * @param interval refresh interval of the tier in milliseconds, 0 refreshes on every listing
+	 * @param lastCollected time in milliseconds the device was last collected, null if it was not collected yet
+	 * @param now current time in milliseconds
+	 * @return true if the device has to be refreshed
+	 */
+	public boolean shouldRefresh(RefreshTierEnum tier, long interval, Long lastCollected, long now) {
+		if (lastCollected == null || interval <= 0 || now - lastCollected >= interval) {
+			refreshed.get(tier).incrementAndGet();
+			return true;
+		}
+		skipped.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Retrieves number of refreshed devices of a tier
+	 *
+	 * @param tier refresh tier
+	 * @return number of refreshes
+	 */
+	public long getRefreshed(RefreshTierEnum tier) {
+		return refreshed.get(tier).get();
+	}
+
+	/**
+	 * Retrieves {@link #skipped}
+	 *
+	 * @return number of listed devices that kept their cached state
+	 */
+	public long getSkipped() {
+		return skipped.get();
+	}
+
+	/**
+	 * Resets the counters
+	 */
+	public void reset() {
+		refreshed.values().forEach(counter -> counter.set(0));
+		skipped.set(0);
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.InventorySnapshot;
+
+/**
+ * InventorySnapshotStore persists {@link InventorySnapshot} as gzipped JSON on local disk.
+ * The snapshot is written to a temporary file in the same directory first and then moved over the previous one,
+ * so a crash during write never leaves a truncated snapshot behind. Every snapshot records the version of its format,
+ * a snapshot of another version is not read, so a format change starts the adapter cold instead of restoring a wrong inventory.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class InventorySnapshotStore {
+	/**
+	 * Version of the snapshot format, to be increased whenever a change of {@link InventorySnapshot} is not backward compatible
+	 */
+	public static final int FORMAT_VERSION = 1;
+
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private final Path snapshotFile;
+
+	/**
+	 * Constructs an InventorySnapshotStore for the given file.
+	 *
+	 * @param snapshotFile path of the snapshot file
+	 */
+	public InventorySnapshotStore(Path snapshotFile) {
+		this.snapshotFile = snapshotFile;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotFile}
+	 *
+	 * @return value of {@link #snapshotFile}
+	 */
+	public Path getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Writes the snapshot atomically, recording the current format version.
+	 *
+	 * @param snapshot snapshot to write
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void write(InventorySnapshot snapshot) throws IOException {
+		Path directory = snapshotFile.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + TEMP_SUFFIX);
+		snapshot.setVersion(FORMAT_VERSION);
+		try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempFile))) {
+			objectMapper.writeValue(outputStream, snapshot);
+		}
+		try {
+			Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads the snapshot.
+	 *
+	 * @return snapshot, or null if no snapshot was written yet or it was written in another format version
+	 * @throws IOException if the snapshot exists but cannot be read
+	 */
+	public InventorySnapshot read() throws IOException {
+		if (!Files.isRegularFile(snapshotFile)) {
+			return null;
+		}
+		InventorySnapshot snapshot;
+		try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(snapshotFile))) {
+			snapshot = objectMapper.readValue(inputStream, InventorySnapshot.class);
+		}
+		return snapshot != null && snapshot.getVersion() == FORMAT_VERSION ? snapshot : null;
+	}
+}
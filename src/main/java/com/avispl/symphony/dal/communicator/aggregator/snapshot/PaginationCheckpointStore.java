@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.snapshot;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.PaginationCheckpoints;
+
+/**
+ * PaginationCheckpointStore persists {@link PaginationCheckpoints} as JSON on local disk.
+ * Checkpoints change with every page, so they are kept apart from the inventory snapshot and written the same
+ * atomic way: to a temporary file first, then moved over the previous one.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class PaginationCheckpointStore {
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private final Path checkpointFile;
+
+	/**
+	 * Constructs a PaginationCheckpointStore for the given file.
+	 *
+	 * @param checkpointFile path of the checkpoint file
+	 */
+	public PaginationCheckpointStore(Path checkpointFile) {
+		this.checkpointFile = checkpointFile;
+	}
+
+	/**
+	 * Writes the checkpoints atomically.
+	 *
+	 * @param checkpoints checkpoints to write
+	 * @throws IOException if the checkpoints cannot be written
+	 */
+	public synchronized void write(PaginationCheckpoints checkpoints) throws IOException {
+		Path directory = checkpointFile.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		Path tempFile = checkpointFile.resolveSibling(checkpointFile.getFileName() + TEMP_SUFFIX);
+		objectMapper.writeValue(tempFile.toFile(), checkpoints);
+		try {
+			Files.move(tempFile, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads the checkpoints.
+	 *
+	 * @return checkpoints, or null if none were written yet
+	 * @throws IOException if the checkpoints exist but cannot be read
+	 */
+	public synchronized PaginationCheckpoints read() throws IOException {
+		if (!Files.isRegularFile(checkpointFile)) {
+			return null;
+		}
+		return objectMapper.readValue(checkpointFile.toFile(), PaginationCheckpoints.class);
+	}
+}
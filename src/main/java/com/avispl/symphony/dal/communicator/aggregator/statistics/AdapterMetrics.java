@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.ApiEndpointEnum;
+
+/**
+ * AdapterMetrics collects per-endpoint request metrics and per-stage durations of monitoring cycles.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class AdapterMetrics implements AdapterMetricsMXBean {
+	private static final String ENDPOINT_GROUP = "ApiEndpoint%s#";
+	private static final String STAGE_GROUP = "CycleStage%s#";
+	private static final String REQUESTS = "Requests";
+	private static final String ERRORS = "Errors";
+	private static final String BYTES = "Bytes";
+	private static final String COUNT = "Count";
+	private static final String P50 = "LatencyP50(ms)";
+	private static final String P95 = "LatencyP95(ms)";
+	private static final String P99 = "LatencyP99(ms)";
+
+	private final Map<ApiEndpointEnum, EndpointMetrics> endpointMetrics = new EnumMap<>(ApiEndpointEnum.class);
+	private final Map<CycleStageEnum, LatencyHistogram> stageDurations = new EnumMap<>(CycleStageEnum.class);
+
+	/**
+	 * Constructs AdapterMetrics with empty metrics for every endpoint and stage.
+	 */
+	public AdapterMetrics() {
+		for (ApiEndpointEnum endpoint : ApiEndpointEnum.values()) {
+			endpointMetrics.put(endpoint, new EndpointMetrics());
+		}
+		for (CycleStageEnum stage : CycleStageEnum.values()) {
+			stageDurations.put(stage, new LatencyHistogram());
+		}
+	}
+
+	/**
+	 * Retrieves metrics of an endpoint
+	 *
+	 * @param endpoint endpoint to retrieve
+	 * @return endpoint metrics
+	 */
+	public EndpointMetrics getEndpointMetrics(ApiEndpointEnum endpoint) {
+		return endpointMetrics.get(endpoint);
+	}
+
+	/**
+	 * Records duration of a cycle stage
+	 *
+	 * @param stage cycle stage
+	 * @param durationMillis duration in milliseconds
+	 */
+	public void recordStage(CycleStageEnum stage, long durationMillis) {
+		stageDurations.get(stage).record(durationMillis);
+	}
+
+	/**
+	 * Populates metrics into the given statistics map. Endpoints and stages without any record are skipped.
+	 *
+	 * @param statistics map to populate
+	 */
+	public void populateStatistics(Map<String, String> statistics) {
+		for (Map.Entry<ApiEndpointEnum, EndpointMetrics> entry : endpointMetrics.entrySet()) {
+			EndpointMetrics metrics = entry.getValue();
+			if (metrics.getRequests() == 0) {
+				continue;
+			}
+			String group = String.format(ENDPOINT_GROUP, entry.getKey().getName());
+			statistics.put(group + REQUESTS, String.valueOf(metrics.getRequests()));
+			statistics.put(group + ERRORS, String.valueOf(metrics.getErrors()));
+			statistics.put(group + BYTES, String.valueOf(metrics.getBytes().get()));
+			populatePercentiles(statistics, group, metrics.getLatency());
+		}
+		for (Map.Entry<CycleStageEnum, LatencyHistogram> entry : stageDurations.entrySet()) {
+			LatencyHistogram histogram = entry.getValue();
+			if (histogram.getCount() == 0) {
+				continue;
+			}
+			String group = String.format(STAGE_GROUP, entry.getKey().getName());
+			statistics.put(group + COUNT, String.valueOf(histogram.getCount()));
+			populatePercentiles(statistics, group, histogram);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, String> getMetrics() {
+		Map<String, String> metrics = new TreeMap<>();
+		populateStatistics(metrics);
+		return metrics;
+	}
+
+	/**
+	 * Populates p50/p95/p99 of a histogram into the given statistics map.
+	 *
+	 * @param statistics map to populate
+	 * @param group property group
+	 * @param histogram histogram to read
+	 */
+	private void populatePercentiles(Map<String, String> statistics, String group, LatencyHistogram histogram) {
+		statistics.put(group + P50, String.valueOf(histogram.percentile(50)));
+		statistics.put(group + P95, String.valueOf(histogram.percentile(95)));
+		statistics.put(group + P99, String.valueOf(histogram.percentile(99)));
+	}
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.Map;
+
+/**
+ * AdapterMetricsMXBean exposes adapter self-metrics over JMX.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public interface AdapterMetricsMXBean {
+	/**
+	 * Retrieves adapter self-metrics, named the same way as the aggregator dynamic statistics
+	 *
+	 * @return metric values by name
+	 */
+	Map<String, String> getMetrics();
+}
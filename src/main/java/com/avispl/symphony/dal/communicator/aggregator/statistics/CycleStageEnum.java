@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+/**
+ * CycleStageEnum include stages of a monitoring cycle whose durations are recorded.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public enum CycleStageEnum {
+	FETCH("Fetch"),
+	PARSE("Parse"),
+	MAP("Map"),
+	PUBLISH("Publish"),
+	;
+	private final String name;
+
+	/**
+	 * Constructs a CycleStageEnum enum constant with the specified name.
+	 *
+	 * @param name the name of the stage used in statistics
+	 */
+	CycleStageEnum(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
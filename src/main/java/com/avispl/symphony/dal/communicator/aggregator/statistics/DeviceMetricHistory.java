@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+/**
+ * DeviceMetricHistory keeps one {@link MetricRingBuffer} per {@link MetricHistoryEnum} for a single device.
+ * Google returns overlapping report series on each call, so every metric remembers the time of the last
+ * recorded report and skips samples that were already recorded. Callers feed each series in ascending report time,
+ * see {@link ReportSeries#byReportTime}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceMetricHistory {
+	private final MetricRingBuffer[] buffers;
+	private final long[] lastReportTimes;
+	private final boolean[] recorded;
+
+	/**
+	 * Constructs a DeviceMetricHistory with the given capacity for each metric.
+	 *
+	 * @param capacity number of samples kept for each metric
+	 */
+	public DeviceMetricHistory(int capacity) {
+		MetricHistoryEnum[] metrics = MetricHistoryEnum.values();
+		buffers = new MetricRingBuffer[metrics.length];
+		lastReportTimes = new long[metrics.length];
+		recorded = new boolean[metrics.length];
+		for (MetricHistoryEnum metric : metrics) {
+			buffers[metric.ordinal()] = new MetricRingBuffer(capacity);
+		}
+	}
+
+	/**
+	 * Records a sample of the given metric if it is newer than the last recorded one.
+	 *
+	 * @param metric metric to record
+	 * @param reportTime report time of the sample in milliseconds
+	 * @param value sample value
+	 * @return true if the sample was recorded, false if it was already seen
+	 */
+	public synchronized boolean record(MetricHistoryEnum metric, long reportTime, float value) {
+		int index = metric.ordinal();
+		if ((recorded[index] && reportTime <= lastReportTimes[index]) || Float.isNaN(value)) {
+			return false;
+		}
+		recorded[index] = true;
+		lastReportTimes[index] = reportTime;
+		buffers[index].add(value);
+		return true;
+	}
+
+	/**
+	 * Retrieves the ring buffer of the given metric
+	 *
+	 * @param metric metric to retrieve
+	 * @return ring buffer of the metric
+	 */
+	public MetricRingBuffer getBuffer(MetricHistoryEnum metric) {
+		return buffers[metric.ordinal()];
+	}
+
+	/**
+	 * Retrieves the number of samples each metric can hold
+	 *
+	 * @return capacity of the metric buffers
+	 */
+	public int getCapacity() {
+		return buffers[0].capacity();
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EndpointMetrics include request count, error count, received bytes and latency of a single Google API endpoint.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class EndpointMetrics {
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong bytes = new AtomicLong();
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	/**
+	 * Records a completed request
+	 *
+	 * @param durationMillis request duration in milliseconds
+	 * @param failed whether the request failed
+	 */
+	public void record(long durationMillis, boolean failed) {
+		requests.incrementAndGet();
+		if (failed) {
+			errors.incrementAndGet();
+		}
+		latency.record(durationMillis);
+	}
+
+	/**
+	 * Retrieves {@link #requests}
+	 *
+	 * @return value of {@link #requests}
+	 */
+	public long getRequests() {
+		return requests.get();
+	}
+
+	/**
+	 * Retrieves {@link #errors}
+	 *
+	 * @return value of {@link #errors}
+	 */
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Retrieves counter of bytes received on wire from the endpoint
+	 *
+	 * @return bytes counter
+	 */
+	public AtomicLong getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return value of {@link #latency}
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.AggregatedDeviceEnum;
+import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceConstant;
+
+/**
+ * HistoricalPropertyRouter is a precompiled routing table deciding which aggregated device properties
+ * are published as dynamic (historical) statistics instead of regular statistics.
+ * The table is built once from the configured historicalProperties value, so lookups are O(1) and do not split strings.
+ * Entries can be either plain names (e.g. Core1(C), CPUUtilization(%)) or fully qualified grouped names (e.g. CPUTemperature#Core1(C)).
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class HistoricalPropertyRouter {
+	/**
+	 * Router that routes nothing, used when historicalProperties is not configured
+	 */
+	public static final HistoricalPropertyRouter EMPTY = new HistoricalPropertyRouter(Collections.emptySet());
+
+	private final Set<String> properties;
+	private final Set<String> names = new HashSet<>();
+	private final Set<String> qualifiedNames = new HashSet<>();
+	private final EnumSet<AggregatedDeviceEnum> routedMetrics = EnumSet.noneOf(AggregatedDeviceEnum.class);
+
+	/**
+	 * Constructs a HistoricalPropertyRouter for the given property names.
+	 *
+	 * @param properties configured historical property names
+	 */
+	private HistoricalPropertyRouter(Set<String> properties) {
+		this.properties = Collections.unmodifiableSet(properties);
+		for (String property : properties) {
+			if (property.contains(GoogleWorkspaceConstant.HASH)) {
+				qualifiedNames.add(property);
+			} else {
+				names.add(property);
+			}
+		}
+		for (AggregatedDeviceEnum metric : AggregatedDeviceEnum.values()) {
+			if (metric.isNumeric() && names.contains(metric.getName())) {
+				routedMetrics.add(metric);
+			}
+		}
+	}
+
+	/**
+	 * Compiles a routing table from comma separated property names.
+	 *
+	 * @param historicalProperties comma separated property names
+	 * @return compiled router
+	 */
+	public static HistoricalPropertyRouter compile(String historicalProperties) {
+		if (historicalProperties == null || historicalProperties.trim().isEmpty()) {
+			return EMPTY;
+		}
+		Set<String> properties = new LinkedHashSet<>();
+		for (String propertyName : historicalProperties.split(GoogleWorkspaceConstant.COMMA)) {
+			String trimmed = propertyName.trim();
+			if (!trimmed.isEmpty()) {
+				properties.add(trimmed);
+			}
+		}
+		return new HistoricalPropertyRouter(properties);
+	}
+
+	/**
+	 * Checks whether a property should be published as dynamic statistic.
+	 *
+	 * @param propertyName full property name, including group if any
+	 * @param name property name without group
+	 * @return true if the property is routed to dynamic statistics
+	 */
+	public boolean isHistorical(String propertyName, String name) {
+		return qualifiedNames.contains(propertyName) || names.contains(name);
+	}
+
+	/**
+	 * Retrieves numeric aggregated device metrics routed to dynamic statistics
+	 *
+	 * @return unmodifiable view of the routed metrics, empty if none
+	 */
+	public Set<AggregatedDeviceEnum> getRoutedMetrics() {
+		return Collections.unmodifiableSet(routedMetrics);
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return value of {@link #properties}
+	 */
+	public Set<String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Checks whether the router has no routes
+	 *
+	 * @return true if nothing is routed
+	 */
+	public boolean isEmpty() {
+		return properties.isEmpty();
+	}
+}
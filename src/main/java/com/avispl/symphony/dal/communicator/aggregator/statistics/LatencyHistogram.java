@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram records durations in milliseconds into fixed buckets, so percentiles can be estimated
+ * with constant memory and without keeping individual samples.
+ * Percentiles are reported as the upper bound of the bucket the percentile falls into.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class LatencyHistogram {
+	private static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 20000, 60000, Long.MAX_VALUE };
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_BOUNDS.length);
+
+	/**
+	 * Records a duration
+	 *
+	 * @param durationMillis duration in milliseconds
+	 */
+	public void record(long durationMillis) {
+		for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+			if (durationMillis <= BUCKET_BOUNDS[i]) {
+				counts.incrementAndGet(i);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves number of recorded durations
+	 *
+	 * @return number of durations
+	 */
+	public long getCount() {
+		long total = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			total += counts.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * Estimates the given percentile of recorded durations.
+	 *
+	 * @param percentile percentile in range (0, 100]
+	 * @return upper bound in milliseconds of the bucket containing the percentile, the last finite bound for the overflow bucket,
+	 * or 0 if nothing was recorded
+	 */
+	public long percentile(double percentile) {
+		long[] snapshot = new long[counts.length()];
+		long total = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(percentile / 100.0 * total);
+		long cumulative = 0;
+		for (int i = 0; i < snapshot.length; i++) {
+			cumulative += snapshot[i];
+			if (cumulative >= rank) {
+				return Math.min(BUCKET_BOUNDS[i], BUCKET_BOUNDS[BUCKET_BOUNDS.length - 2]);
+			}
+		}
+		return BUCKET_BOUNDS[BUCKET_BOUNDS.length - 2];
+	}
+}
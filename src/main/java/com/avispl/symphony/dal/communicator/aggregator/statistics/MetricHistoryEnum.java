@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+/**
+ * MetricHistoryEnum include numeric metrics of aggregated devices that are kept in a per-device history.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public enum MetricHistoryEnum {
+	CPU_UTILIZATION("CPUUtilizationHistory#", "(%)"),
+	MEMORY_FREE("MemoryFreeHistory#", "(GB)"),
+	CPU_TEMPERATURE("CPUTemperatureHistory#", "(C)"),
+	VOLUME_LEVEL("VolumeLevelHistory#", "(%)"),
+	;
+	private final String group;
+	private final String unit;
+
+	/**
+	 * Constructs a MetricHistoryEnum enum constant with the specified group and unit.
+	 *
+	 * @param group the property group of the historical metric
+	 * @param unit the unit suffix appended to the historical statistic names
+	 */
+	MetricHistoryEnum(String group, String unit) {
+		this.group = group;
+		this.unit = unit;
+	}
+
+	/**
+	 * Retrieves {@link #group}
+	 *
+	 * @return value of {@link #group}
+	 */
+	public String getGroup() {
+		return group;
+	}
+
+	/**
+	 * Retrieves {@link #unit}
+	 *
+	 * @return value of {@link #unit}
+	 */
+	public String getUnit() {
+		return unit;
+	}
+}
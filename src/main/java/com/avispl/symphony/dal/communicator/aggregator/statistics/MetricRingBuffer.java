@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.Arrays;
+
+/**
+ * MetricRingBuffer keeps the last N samples of a single numeric metric in a primitive array,
+ * so the memory used per device stays bounded and no boxing happens while recording samples.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class MetricRingBuffer {
+	private final float[] samples;
+	private int position;
+	private int size;
+
+	/**
+	 * Constructs a MetricRingBuffer with the given capacity.
+	 *
+	 * @param capacity maximum number of samples kept in the buffer
+	 */
+	public MetricRingBuffer(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Ring buffer capacity must be greater than 0");
+		}
+		this.samples = new float[capacity];
+	}
+
+	/**
+	 * Appends a sample, overwriting the oldest one when the buffer is full.
+	 *
+	 * @param value sample value
+	 */
+	public synchronized void add(float value) {
+		samples[position] = value;
+		position = (position + 1) % samples.length;
+		if (size < samples.length) {
+			size++;
+		}
+	}
+
+	/**
+	 * Retrieves number of samples currently stored
+	 *
+	 * @return number of samples
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Retrieves maximum number of samples the buffer can hold
+	 *
+	 * @return capacity of the buffer
+	 */
+	public int capacity() {
+		return samples.length;
+	}
+
+	/**
+	 * Retrieves the most recent sample
+	 *
+	 * @return latest value, or {@link Float#NaN} if the buffer is empty
+	 */
+	public synchronized float latest() {
+		if (size == 0) {
+			return Float.NaN;
+		}
+		return samples[(position - 1 + samples.length) % samples.length];
+	}
+
+	/**
+	 * Retrieves the minimum of stored samples
+	 *
+	 * @return minimum value, or {@link Float#NaN} if the buffer is empty
+	 */
+	public synchronized float min() {
+		if (size == 0) {
+			return Float.NaN;
+		}
+		float min = Float.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			min = Math.min(min, samples[i]);
+		}
+		return min;
+	}
+
+	/**
+	 * Retrieves the maximum of stored samples
+	 *
+	 * @return maximum value, or {@link Float#NaN} if the buffer is empty
+	 */
+	public synchronized float max() {
+		if (size == 0) {
+			return Float.NaN;
+		}
+		float max = -Float.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			max = Math.max(max, samples[i]);
+		}
+		return max;
+	}
+
+	/**
+	 * Retrieves the average of stored samples
+	 *
+	 * @return average value, or {@link Float#NaN} if the buffer is empty
+	 */
+	public synchronized float average() {
+		if (size == 0) {
+			return Float.NaN;
+		}
+		double sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += samples[i];
+		}
+		return (float) (sum / size);
+	}
+
+	/**
+	 * Retrieves the given percentile of stored samples using the nearest-rank method.
+	 *
+	 * @param percentile percentile in range (0, 100]
+	 * @return percentile value, or {@link Float#NaN} if the buffer is empty
+	 */
+	public synchronized float percentile(int percentile) {
+		if (size == 0) {
+			return Float.NaN;
+		}
+		float[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(percentile / 100.0 * size);
+		return sorted[Math.max(0, Math.min(size, rank) - 1)];
+	}
+
+	/**
+	 * Removes all samples from the buffer
+	 */
+	public synchronized void clear() {
+		position = 0;
+		size = 0;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.GoogleWorkspaceConstant;
+
+/**
+ * ReportSeries orders the report series Google returns with a device by their reportTime.
+ * Google does not document the order of these arrays, while {@link DeviceMetricHistory} only accepts samples newer than
+ * the last recorded one, so every series is sorted oldest first before it is recorded.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public final class ReportSeries {
+
+	private ReportSeries() {
+	}
+
+	/**
+	 * Sorts the entries of a report array by report time, oldest first.
+	 * Entries without a valid reportTime are left out, since they cannot be told apart from already recorded ones.
+	 *
+	 * @param reports report array, may be null
+	 * @return entries keyed by report time in milliseconds, empty if there are none
+	 */
+	public static SortedMap<Long, JsonNode> byReportTime(JsonNode reports) {
+		SortedMap<Long, JsonNode> series = new TreeMap<>();
+		if (reports == null || !reports.isArray()) {
+			return series;
+		}
+		for (JsonNode report : reports) {
+			Long reportTime = getReportTime(report);
+			if (reportTime != null) {
+				series.put(reportTime, report);
+			}
+		}
+		return series;
+	}
+
+	/**
+	 * Retrieves report time of a Google report entry in milliseconds.
+	 *
+	 * @param report report entry containing reportTime field, may be null
+	 * @return report time in milliseconds, or null if it is missing or malformed
+	 */
+	public static Long getReportTime(JsonNode report) {
+		if (report == null || !report.hasNonNull(GoogleWorkspaceConstant.REPORT_TIME)) {
+			return null;
+		}
+		try {
+			return Instant.parse(report.get(GoogleWorkspaceConstant.REPORT_TIME).asText()).toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,381 @@
+package com.avispl.symphony.dal.communicator.aggregator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.PaginationCheckpoints;
+import com.avispl.symphony.dal.communicator.aggregator.simulator.GoogleWorkspaceSimulator;
+import com.avispl.symphony.dal.communicator.aggregator.snapshot.PaginationCheckpointStore;
+
+/**
+ * GoogleWorkspaceSimulatorTest runs the adapter against the embedded {@link GoogleWorkspaceSimulator}.
+ * The tests are tagged {@code simulation} and run only with the simulation profile, {@code mvn -P simulation test}.
+ * The soak test additionally runs only when {@code soak.fleetSize} is set, e.g.
+ * {@code mvn -P simulation test -Dtest=GoogleWorkspaceSimulatorTest -Dsoak.fleetSize=50000 -Dsoak.durationMinutes=30 -Dsoak.latencyMillis=150 -Dsoak.errorRate=0.01 -Dsoak.throttleRate=0.02}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+@Tag("simulation")
+public class GoogleWorkspaceSimulatorTest {
+	private final Log logger = LogFactory.getLog(getClass());
+
+	/**
+	 * Creates a communicator sending Directory, Chrome Management and OAuth2 requests to the simulator
+	 *
+	 * @param simulator running simulator
+	 * @return communicator, not initialized yet
+	 */
+	private GoogleWorkspaceCommunicator createCommunicator(GoogleWorkspaceSimulator simulator) throws IOException {
+		GoogleWorkspaceCommunicator communicator = new GoogleWorkspaceCommunicator();
+		communicator.setProtocol("http");
+		communicator.setHost("127.0.0.1");
+		communicator.setPort(simulator.getPort());
+		communicator.setChromeManagementBaseUrl(simulator.getBaseUrl());
+		communicator.setOauth2BaseUrl(simulator.getBaseUrl());
+		communicator.setLogin("simulated-client-id");
+		communicator.setPassword("simulated-client-secret 1//simulated-refresh-token");
+		// the synthetic fleet includes deprovisioned devices, which the tests count
+		communicator.setEvictDeprovisioned(false);
+		return communicator;
+	}
+
+	/**
+	 * Verifies that the whole fleet is collected over paginated responses without access to Google APIs,
+	 * and that the bytes of the token exchange are counted.
+	 */
+	@Test
+	void testCollectFleetFromSimulator() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.init();
+			try {
+				List<AggregatedDevice> devices = runCycles(communicator, 1000, TimeUnit.SECONDS.toMillis(60));
+				Assert.assertEquals(1000, devices.size());
+				Map<String, String> properties = devices.get(0).getProperties();
+				Assert.assertNotNull(properties.get("SerialNumber"));
+				Assert.assertNotEquals("None", properties.get("CPUUtilization(%)"));
+				Assert.assertTrue(Long.parseLong(devices.get(0).getDynamicStatistics().get("DataAge(s)")) >= 0);
+				Map<String, String> dynamicStatistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+				Assert.assertTrue(Long.parseLong(dynamicStatistics.get("ApiEndpointOAuth#Bytes")) > 0);
+				Assert.assertTrue(Long.parseLong(dynamicStatistics.get("CycleStageParse#Count")) > 0);
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that instances with different organizational unit filters share responses of the same tenant
+	 * and still publish only devices of their own organizational unit.
+	 */
+	@Test
+	void testSharedCacheAcrossInstances() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			GoogleWorkspaceCommunicator first = createCommunicator(simulator);
+			GoogleWorkspaceCommunicator second = createCommunicator(simulator);
+			first.setSharedCache(true);
+			second.setSharedCache(true);
+			first.setFilterOrgUnit("Unit 1");
+			second.setFilterOrgUnit("Unit 2");
+			first.init();
+			second.init();
+			try {
+				List<AggregatedDevice> firstDevices = runCycles(first, 50, TimeUnit.SECONDS.toMillis(60));
+				long requestsAfterFirst = simulator.getRequests();
+				List<AggregatedDevice> secondDevices = runCycles(second, 50, TimeUnit.SECONDS.toMillis(60));
+				Assert.assertEquals(50, firstDevices.size());
+				Assert.assertEquals(50, secondDevices.size());
+				Assert.assertTrue(firstDevices.stream().allMatch(device -> "Unit 1".equals(device.getProperties().get("OrgUnit"))));
+				Assert.assertTrue(secondDevices.stream().allMatch(device -> "Unit 2".equals(device.getProperties().get("OrgUnit"))));
+				Assert.assertTrue(simulator.getRequests() - requestsAfterFirst < requestsAfterFirst);
+				ExtendedStatistics statistics = (ExtendedStatistics) second.getMultipleStatistics().get(0);
+				Assert.assertTrue(Long.parseLong(statistics.getDynamicStatistics().get("SharedCache#Hits")) > 0);
+			} finally {
+				first.destroy();
+				second.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that fleet level counts cover the whole fleet after a single monitoring cycle, before any device sweep.
+	 */
+	@Test
+	void testFleetReports() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.setFleetReports(true);
+			communicator.init();
+			try {
+				Map<String, String> statistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+				Assert.assertEquals("1000", statistics.get("FleetDevicesCount"));
+				Assert.assertEquals(1000, statistics.entrySet().stream().filter(entry -> entry.getKey().startsWith("FleetChromeOSVersions#"))
+						.mapToLong(entry -> Long.parseLong(entry.getValue())).sum());
+				Assert.assertEquals(1000, statistics.entrySet().stream().filter(entry -> entry.getKey().startsWith("FleetAutoUpdateExpiration#"))
+						.mapToLong(entry -> Long.parseLong(entry.getValue())).sum());
+				Assert.assertEquals("1000", statistics.get("FleetHardwareMemory#8 GB"));
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that with a cycle time budget shorter than the API latency every poll returns within the budget,
+	 * the sweep still progresses across polls and the age of the collected data is reported.
+	 */
+	@Test
+	void testCycleTimeBudget() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).latencyMillis(400).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.setCycleTimeBudget(1);
+			communicator.init();
+			try {
+				List<AggregatedDevice> devices = runCycles(communicator, 1000, TimeUnit.SECONDS.toMillis(120));
+				Assert.assertEquals(1000, devices.size());
+				Assert.assertNotNull(devices.get(0).getProperties().get("LastCollected"));
+				Map<String, String> dynamicStatistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+				Assert.assertTrue(Long.parseLong(dynamicStatistics.get("CycleBudget#Exceeded")) > 0);
+				Assert.assertNotNull(dynamicStatistics.get("DataAge#Max(s)"));
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that failed pages are requested again, so the whole fleet is collected despite server errors.
+	 */
+	@Test
+	void testPageRetries() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).errorRate(0.2).pageFailures(2).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.setPageRetries(5);
+			communicator.init();
+			try {
+				List<AggregatedDevice> devices = runCycles(communicator, 1000, TimeUnit.SECONDS.toMillis(120));
+				Assert.assertEquals(1000, devices.size());
+				Map<String, String> dynamicStatistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+				Assert.assertTrue(Long.parseLong(dynamicStatistics.get("Pagination#Retries")) > 0);
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that a new adapter instance resumes the device sweep from the checkpoint of the previous one.
+	 */
+	@Test
+	void testPaginationCheckpointResume() throws Exception {
+		Path snapshotDirectory = Files.createTempDirectory("googleworkspace-checkpoint");
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			GoogleWorkspaceCommunicator first = createCommunicator(simulator);
+			first.setSnapshotDirectory(snapshotDirectory.toString());
+			first.init();
+			try {
+				first.getMultipleStatistics();
+			} finally {
+				first.destroy();
+			}
+			PaginationCheckpointStore store;
+			try (Stream<Path> files = Files.list(snapshotDirectory)) {
+				store = new PaginationCheckpointStore(files.filter(file -> file.getFileName().toString().startsWith("googleworkspace-checkpoint-")).findFirst().get());
+			}
+			PaginationCheckpoints firstCheckpoints = store.read();
+			Assert.assertEquals("400", firstCheckpoints.getDirectory().getPageToken());
+
+			GoogleWorkspaceCommunicator second = createCommunicator(simulator);
+			second.setSnapshotDirectory(snapshotDirectory.toString());
+			second.init();
+			try {
+				second.getMultipleStatistics();
+			} finally {
+				second.destroy();
+			}
+			PaginationCheckpoints secondCheckpoints = store.read();
+			Assert.assertEquals("800", secondCheckpoints.getDirectory().getPageToken());
+			Assert.assertEquals(firstCheckpoints.getDirectory().getSweepGeneration(), secondCheckpoints.getDirectory().getSweepGeneration());
+		}
+	}
+
+	/**
+	 * Verifies that cached organizational units and devices keep being served while Google APIs are unreachable,
+	 * and that circuits of the failing endpoints open instead of sending further requests.
+	 */
+	@Test
+	void testServesStaleDataWhileApiDown() throws Exception {
+		GoogleWorkspaceCommunicator communicator;
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			communicator = createCommunicator(simulator);
+			communicator.setCircuitBreakerThreshold(2);
+			communicator.setPageRetries(0);
+			communicator.init();
+			Assert.assertEquals(1000, runCycles(communicator, 1000, TimeUnit.SECONDS.toMillis(60)).size());
+		}
+		try {
+			ExtendedStatistics statistics = null;
+			for (int i = 0; i < 3; i++) {
+				statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+			}
+			Assert.assertEquals("true", statistics.getStatistics().get("ServingStaleData"));
+			Assert.assertEquals("Open", statistics.getStatistics().get("CircuitBreaker#Users"));
+			Assert.assertNotNull(statistics.getDynamicStatistics().get("StaleDataAge(s)"));
+			Assert.assertNotEquals("None", statistics.getStatistics().get("OrganizationalUnitsCount"));
+			Assert.assertEquals(1000, communicator.retrieveMultipleStatistics().size());
+			statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+			Assert.assertTrue(Long.parseLong(statistics.getDynamicStatistics().get("CircuitBreaker#RejectedRequests")) > 0);
+		} finally {
+			communicator.destroy();
+		}
+	}
+
+	/**
+	 * Verifies that devices keep their online state and volume level while Chrome Management API answers with server errors.
+	 */
+	@Test
+	void testTelemetryOutageKeepsDevicesOnline() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.setPageRetries(0);
+			communicator.init();
+			try {
+				List<AggregatedDevice> devices = runCycles(communicator, 1000, TimeUnit.SECONDS.toMillis(60));
+				long online = devices.stream().filter(device -> Boolean.TRUE.equals(device.getDeviceOnline())).count();
+				Assert.assertTrue(online > 0);
+
+				simulator.telemetryUnavailable(true);
+				long errors = simulator.getErrors();
+				for (int i = 0; i < 4; i++) {
+					devices = runCycles(communicator, 1000, 0);
+				}
+				Assert.assertTrue(simulator.getErrors() > errors);
+				Assert.assertEquals(1000, devices.size());
+				Assert.assertEquals(online, devices.stream().filter(device -> Boolean.TRUE.equals(device.getDeviceOnline())).count());
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that after a full sweep only recently synced devices are requested and refreshed,
+	 * while disabled and deprovisioned devices keep their cached state.
+	 */
+	@Test
+	void testTieredRefresh() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(1000).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.setTieredRefresh(true);
+			communicator.init();
+			try {
+				Assert.assertEquals(1000, runCycles(communicator, 1000, TimeUnit.SECONDS.toMillis(60)).size());
+				runCycles(communicator, 1000, 0);
+				runCycles(communicator, 1000, 0);
+				Map<String, String> dynamicStatistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+				Assert.assertTrue(Long.parseLong(dynamicStatistics.get("RefreshTier#Skipped")) > 0);
+				Assert.assertTrue(Long.parseLong(dynamicStatistics.get("RefreshTier#ActiveRefreshed")) > 0);
+				Assert.assertEquals(1000, communicator.retrieveMultipleStatistics().size());
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Verifies that a sweep completes only once the devices of its last page are recorded,
+	 * so the churn of a fleet fitting a single page is reported and the next sweep waits for the interval.
+	 */
+	@Test
+	void testAdaptiveCollection() throws Exception {
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(100).start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.setAdaptiveCollection(true);
+			communicator.init();
+			try {
+				Assert.assertEquals(100, runCycles(communicator, 100, TimeUnit.SECONDS.toMillis(60)).size());
+				runCycles(communicator, 100, 0);
+				long requests = simulator.getRequests();
+				Map<String, String> dynamicStatistics = ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getDynamicStatistics();
+				Assert.assertEquals("100", dynamicStatistics.get("AdaptiveCollection#Churn(%)"));
+				Assert.assertEquals("60", dynamicStatistics.get("AdaptiveCollection#Interval(s)"));
+				Assert.assertEquals(100, communicator.retrieveMultipleStatistics().size());
+				Assert.assertTrue(simulator.getRequests() - requests < 3);
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Polls the adapter against a simulated fleet for the configured duration and logs cycle time and heap usage.
+	 */
+	@Test
+	@EnabledIfSystemProperty(named = "soak.fleetSize", matches = "\\d+")
+	void testSoak() throws Exception {
+		int fleetSize = Integer.getInteger("soak.fleetSize");
+		long duration = TimeUnit.MINUTES.toMillis(Long.getLong("soak.durationMinutes", 10L));
+		try (GoogleWorkspaceSimulator simulator = new GoogleWorkspaceSimulator().fleetSize(fleetSize)
+				.latencyMillis(Long.getLong("soak.latencyMillis", 0L))
+				.errorRate(Double.parseDouble(System.getProperty("soak.errorRate", "0")))
+				.throttleRate(Double.parseDouble(System.getProperty("soak.throttleRate", "0")))
+				.start()) {
+			GoogleWorkspaceCommunicator communicator = createCommunicator(simulator);
+			communicator.init();
+			try {
+				long start = System.currentTimeMillis();
+				List<AggregatedDevice> devices = runCycles(communicator, fleetSize, duration);
+				logger.info(String.format("Collected %d of %d devices in %d ms", devices.size(), fleetSize, System.currentTimeMillis() - start));
+				while (System.currentTimeMillis() - start < duration) {
+					long cycleStart = System.currentTimeMillis();
+					devices = runCycles(communicator, fleetSize, 0);
+					Runtime runtime = Runtime.getRuntime();
+					logger.info(String.format("Cycle %d ms, devices %d, heap used %d MB, simulator requests %d, errors %d, throttled %d",
+							System.currentTimeMillis() - cycleStart, devices.size(), (runtime.totalMemory() - runtime.freeMemory()) >> 20,
+							simulator.getRequests(), simulator.getErrors(), simulator.getThrottled()));
+				}
+				Assert.assertFalse(devices.isEmpty());
+			} finally {
+				communicator.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Runs monitoring cycles the way Symphony does until the expected number of devices is collected or the timeout elapses.
+	 * A single cycle is run when the timeout is 0.
+	 *
+	 * @param communicator communicator to poll
+	 * @param expectedDevices number of devices to wait for
+	 * @param timeout timeout in milliseconds
+	 * @return aggregated devices of the last cycle
+	 */
+	private List<AggregatedDevice> runCycles(GoogleWorkspaceCommunicator communicator, int expectedDevices, long timeout) throws Exception {
+		long deadline = System.currentTimeMillis() + timeout;
+		List<AggregatedDevice> devices;
+		do {
+			ExtendedStatistics statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+			Assert.assertNotNull(statistics.getStatistics());
+			communicator.retrieveMultipleStatistics();
+			TimeUnit.MILLISECONDS.sleep(1500);
+			devices = communicator.retrieveMultipleStatistics();
+		} while (devices.size() < expectedDevices && System.currentTimeMillis() < deadline);
+		return devices;
+	}
+}
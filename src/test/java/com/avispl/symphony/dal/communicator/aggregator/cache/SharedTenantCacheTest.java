@@ -0,0 +1,146 @@
+package com.avispl.symphony.dal.communicator.aggregator.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SharedTenantCacheTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class SharedTenantCacheTest {
+	private static final long TTL = TimeUnit.MINUTES.toMillis(5);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Verifies that instances of the same tenant share one cache, and that the cache is dropped
+	 * once the last instance released it.
+	 */
+	@Test
+	void testReleaseDropsTenant() throws Exception {
+		SharedTenantCache first = SharedTenantCache.acquire("release-tenant");
+		SharedTenantCache second = SharedTenantCache.acquire("release-tenant");
+		Assert.assertSame(first, second);
+		Assert.assertNotSame(first, SharedTenantCache.acquire("other-tenant"));
+		SharedTenantCache.release(SharedTenantCache.acquire("other-tenant"));
+		first.get("uri", TTL, () -> createResponse("cached"));
+
+		SharedTenantCache.release(first);
+		SharedTenantCache stillShared = SharedTenantCache.acquire("release-tenant");
+		Assert.assertSame(second, stillShared);
+		SharedTenantCache.release(second);
+		SharedTenantCache.release(stillShared);
+
+		SharedTenantCache recreated = SharedTenantCache.acquire("release-tenant");
+		try {
+			Assert.assertNotSame(first, recreated);
+			Assert.assertEquals("loaded", recreated.get("uri", TTL, () -> createResponse("loaded")).get("name").asText());
+		} finally {
+			SharedTenantCache.release(recreated);
+		}
+	}
+
+	/**
+	 * Verifies that a response is served from the cache within its time-to-live and loaded again once it expired.
+	 */
+	@Test
+	void testExpiresAfterTtl() throws Exception {
+		SharedTenantCache cache = SharedTenantCache.acquire("ttl-tenant");
+		try {
+			AtomicInteger loads = new AtomicInteger();
+			cache.get("uri", TTL, () -> createResponse("page" + loads.incrementAndGet()));
+			Assert.assertEquals("page1", cache.get("uri", TTL, () -> createResponse("page" + loads.incrementAndGet())).get("name").asText());
+			Assert.assertEquals(1, cache.getHits());
+
+			TimeUnit.MILLISECONDS.sleep(20);
+			Assert.assertEquals("page2", cache.get("uri", 10, () -> createResponse("page" + loads.incrementAndGet())).get("name").asText());
+			Assert.assertEquals(2, loads.get());
+			Assert.assertEquals(2, cache.getMisses());
+		} finally {
+			SharedTenantCache.release(cache);
+		}
+	}
+
+	/**
+	 * Verifies that concurrent misses of the same URI are coalesced into a single load.
+	 */
+	@Test
+	void testCoalescesConcurrentMisses() throws Exception {
+		SharedTenantCache cache = SharedTenantCache.acquire("coalesce-tenant");
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch released = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<JsonNode>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> cache.get("uri", TTL, () -> {
+					loads.incrementAndGet();
+					released.await(5, TimeUnit.SECONDS);
+					return createResponse("page");
+				})));
+			}
+			while (cache.getHits() + cache.getMisses() < 4) {
+				TimeUnit.MILLISECONDS.sleep(10);
+			}
+			released.countDown();
+			for (Future<JsonNode> result : results) {
+				Assert.assertEquals("page", result.get(5, TimeUnit.SECONDS).get("name").asText());
+			}
+			Assert.assertEquals(1, loads.get());
+			Assert.assertEquals(1, cache.getMisses());
+			Assert.assertEquals(3, cache.getHits());
+		} finally {
+			executor.shutdownNow();
+			SharedTenantCache.release(cache);
+		}
+	}
+
+	/**
+	 * Verifies that a caller modifying its response does not change the response other callers receive.
+	 */
+	@Test
+	void testCallersGetIsolatedCopies() throws Exception {
+		SharedTenantCache cache = SharedTenantCache.acquire("copy-tenant");
+		try {
+			ObjectNode loaded = createResponse("page");
+			ObjectNode first = (ObjectNode) cache.get("uri", TTL, () -> loaded);
+			Assert.assertNotSame(loaded, first);
+			first.put("name", "modified");
+			first.withArray("devices").add("extra");
+
+			JsonNode second = cache.get("uri", TTL, () -> createResponse("reloaded"));
+			Assert.assertEquals("page", second.get("name").asText());
+			Assert.assertEquals(1, second.get("devices").size());
+			Assert.assertNotSame(first, second);
+		} finally {
+			SharedTenantCache.release(cache);
+		}
+	}
+
+	/**
+	 * Creates a response with a name and a single device.
+	 *
+	 * @param name value of the name field
+	 * @return response
+	 */
+	private ObjectNode createResponse(String name) {
+		ObjectNode response = objectMapper.createObjectNode().put("name", name);
+		response.putArray("devices").add("device");
+		return response;
+	}
+}
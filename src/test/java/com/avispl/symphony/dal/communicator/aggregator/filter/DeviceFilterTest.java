@@ -0,0 +1,72 @@
+package com.avispl.symphony.dal.communicator.aggregator.filter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceFilterTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceFilterTest {
+
+	/**
+	 * Verifies organizational unit lists, subtree inclusion, root unit name and exclusions.
+	 */
+	@Test
+	void testOrgUnitFilter() {
+		DeviceFilter filter = DeviceFilter.compile("Lab, Campus/*, !Campus/Storage/*", null, null, null, "Acme");
+		Assert.assertTrue(filter.matches("/Lab", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/Lab/Desks", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(filter.matches("/Campus", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(filter.matches("/campus/Hall A", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/Campus/Storage/Shelf", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/CampusWest", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(DeviceFilter.compile("Acme", null, null, null, "Acme").matches("/", "SN1", "Chromebox", "ACTIVE"));
+	}
+
+	/**
+	 * Verifies that names of nested organizational units are resolved to their paths, including names shared by several units.
+	 */
+	@Test
+	void testNestedOrgUnitName() {
+		Map<String, List<String>> orgUnitPaths = new HashMap<>();
+		DeviceFilter.indexOrgUnitPath(orgUnitPaths, "Campus", "/Campus");
+		DeviceFilter.indexOrgUnitPath(orgUnitPaths, "Hall A", "/Campus/Hall A");
+		DeviceFilter.indexOrgUnitPath(orgUnitPaths, "Storage", "/Campus/Storage");
+		DeviceFilter.indexOrgUnitPath(orgUnitPaths, "Storage", "/Annex/Storage");
+		DeviceFilter filter = DeviceFilter.compile("hall a, Storage/*", null, null, null, "Acme", orgUnitPaths);
+		Assert.assertTrue(filter.matches("/Campus/Hall A", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(filter.matches("/Campus/Storage/Shelf", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(filter.matches("/Annex/Storage", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/Campus", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/Hall A", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(filter.isCompiledFrom("hall a, Storage/*", null, null, null, "Acme", orgUnitPaths));
+		Assert.assertFalse(filter.isCompiledFrom("hall a, Storage/*", null, null, null, "Acme", new HashMap<>(orgUnitPaths)));
+
+		Assert.assertTrue(DeviceFilter.compile("Lab", null, null, null, "Acme", orgUnitPaths).matches("/Lab", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertTrue(DeviceFilter.compile("!Hall A", null, null, null, "Acme", orgUnitPaths).matches("/Campus", "SN1", "Chromebox", "ACTIVE"));
+		Assert.assertFalse(DeviceFilter.compile("!Hall A", null, null, null, "Acme", orgUnitPaths).matches("/Campus/Hall A", "SN1", "Chromebox", "ACTIVE"));
+	}
+
+	/**
+	 * Verifies serial number, model and status wildcards and exclusions.
+	 */
+	@Test
+	void testWildcardFilters() {
+		DeviceFilter filter = DeviceFilter.compile(null, "5CD, !*TEST*", "HP *, Acer Chromebox CXI?", "!DEPROVISIONED", null);
+		Assert.assertTrue(filter.matches("/", "X5cd1234", "HP Chromebook 14 G7", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/", "5CDTEST1", "HP Chromebook 14 G7", "ACTIVE"));
+		Assert.assertTrue(filter.matches("/", "5CD1", "Acer Chromebox CXI4", "DISABLED"));
+		Assert.assertFalse(filter.matches("/", "5CD1", "Acer Chromebox CXI10", "ACTIVE"));
+		Assert.assertFalse(filter.matches("/", "5CD1", "HP Chromebook 14 G7", "DEPROVISIONED"));
+		Assert.assertTrue(DeviceFilter.EMPTY.isEmpty());
+		Assert.assertTrue(DeviceFilter.EMPTY.matches(null, null, null, null));
+	}
+}
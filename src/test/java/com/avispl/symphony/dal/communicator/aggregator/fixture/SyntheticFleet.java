@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.fixture;
+
+import java.time.Instant;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * SyntheticFleet generates Directory API chromeosdevices and Chrome Management telemetry payloads
+ * shaped like real Google Workspace responses, for benchmarks and offline tests.
+ * Generation is deterministic for a given seed.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class SyntheticFleet {
+	private static final String[] MODELS = { "HP Chromebook 14 G7", "Acer Chromebox CXI4", "Lenovo 300e Chromebook Gen 3", "ASUS Chromebox 4" };
+	private static final String[] STATUSES = { "ACTIVE", "ACTIVE", "ACTIVE", "DISABLED", "DEPROVISIONED" };
+	private static final int ORG_UNIT_COUNT = 20;
+	private static final long REPORT_INTERVAL = 10 * 60 * 1000L;
+
+	private final ObjectMapper objectMapper;
+	private final ArrayNode devices;
+	private final ArrayNode telemetryDevices;
+	private final ArrayNode orgUnits;
+
+	/**
+	 * Constructs a SyntheticFleet of the given size.
+	 *
+	 * @param objectMapper mapper used to create JSON nodes
+	 * @param size number of devices
+	 * @param seed seed of the random generator
+	 */
+	public SyntheticFleet(ObjectMapper objectMapper, int size, long seed) {
+		this.objectMapper = objectMapper;
+		Random random = new Random(seed);
+		long now = System.currentTimeMillis();
+		orgUnits = objectMapper.createArrayNode();
+		for (int i = 0; i < ORG_UNIT_COUNT; i++) {
+			ObjectNode orgUnit = orgUnits.addObject();
+			orgUnit.put("name", "Unit " + i);
+			orgUnit.put("description", "Synthetic organizational unit " + i);
+			orgUnit.put("orgUnitPath", "/Unit " + i);
+			orgUnit.put("orgUnitId", "id:unit" + i);
+			orgUnit.put("parentOrgUnitPath", "/");
+			orgUnit.put("parentOrgUnitId", "id:root");
+		}
+		devices = objectMapper.createArrayNode();
+		telemetryDevices = objectMapper.createArrayNode();
+		for (int i = 0; i < size; i++) {
+			String deviceId = String.format("device-%06d", i);
+			devices.add(createDevice(random, deviceId, i, now));
+			ObjectNode telemetry = telemetryDevices.addObject();
+			telemetry.put("deviceId", deviceId);
+			ObjectNode audioStatus = telemetry.putArray("audioStatusReport").addObject();
+			audioStatus.put("reportTime", Instant.ofEpochMilli(now).toString());
+			audioStatus.put("outputVolume", random.nextInt(101));
+		}
+	}
+
+	/**
+	 * Retrieves generated chromeosdevices
+	 *
+	 * @return array of devices
+	 */
+	public ArrayNode getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Retrieves generated telemetry devices
+	 *
+	 * @return array of telemetry devices
+	 */
+	public ArrayNode getTelemetryDevices() {
+		return telemetryDevices;
+	}
+
+	/**
+	 * Retrieves generated organizational units
+	 *
+	 * @return array of organizational units
+	 */
+	public ArrayNode getOrgUnits() {
+		return orgUnits;
+	}
+
+	/**
+	 * Builds a Directory API chromeosdevices page.
+	 *
+	 * @param offset index of the first device
+	 * @param pageSize maximum number of devices in the page
+	 * @param nextPageToken token of the next page, null for the last page
+	 * @return response body
+	 */
+	public ObjectNode chromeOsDevicesPage(int offset, int pageSize, String nextPageToken) {
+		ObjectNode page = objectMapper.createObjectNode();
+		page.put("kind", "admin#directory#chromeosdevices");
+		ArrayNode pageDevices = page.putArray("chromeosdevices");
+		for (int i = offset; i < Math.min(devices.size(), offset + pageSize); i++) {
+			pageDevices.add(devices.get(i));
+		}
+		if (nextPageToken != null) {
+			page.put("nextPageToken", nextPageToken);
+		}
+		return page;
+	}
+
+	/**
+	 * Builds a Chrome Management telemetry devices page.
+	 *
+	 * @param offset index of the first device
+	 * @param pageSize maximum number of devices in the page
+	 * @param nextPageToken token of the next page, null for the last page
+	 * @return response body
+	 */
+	public ObjectNode telemetryPage(int offset, int pageSize, String nextPageToken) {
+		ObjectNode page = objectMapper.createObjectNode();
+		ArrayNode pageDevices = page.putArray("devices");
+		for (int i = offset; i < Math.min(telemetryDevices.size(), offset + pageSize); i++) {
+			pageDevices.add(telemetryDevices.get(i));
+		}
+		if (nextPageToken != null) {
+			page.put("nextPageToken", nextPageToken);
+		}
+		return page;
+	}
+
+	/**
+	 * Creates a single device with the fields mapped by model-mapping.yml.
+	 *
+	 * @param random random generator
+	 * @param deviceId id of the device
+	 * @param index index of the device in the fleet
+	 * @param now current time in milliseconds
+	 * @return device node
+	 */
+	private JsonNode createDevice(Random random, String deviceId, int index, long now) {
+		ObjectNode device = objectMapper.createObjectNode();
+		device.put("kind", "admin#directory#chromeosdevice");
+		device.put("deviceId", deviceId);
+		device.put("serialNumber", String.format("SN%08X", index));
+		device.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+		device.put("model", MODELS[random.nextInt(MODELS.length)]);
+		device.putArray("cpuInfo").addObject().put("model", "Intel(R) Celeron(R) N4500 @ 1.10GHz");
+		device.put("macAddress", String.format("a4%010x", index));
+		device.put("osVersion", "118.0.5993." + random.nextInt(200));
+		device.put("platformVersion", "15604.57.0 (Official Build) stable-channel dedede");
+		device.put("firmwareVersion", "Google_Drawcia.13606.459.0");
+		device.putObject("tpmVersionInfo").put("firmwareVersion", "1.1.0");
+		device.put("bootMode", "Verified");
+		device.put("lastEnrollmentTime", Instant.ofEpochMilli(now - 86400000L * (1 + random.nextInt(700))).toString());
+		device.put("autoUpdateExpiration", String.valueOf(now + 86400000L * random.nextInt(2000)));
+		device.put("annotatedUser", "user" + index + "@example.com");
+		device.put("orgUnitPath", "/Unit " + index % ORG_UNIT_COUNT);
+		device.put("systemRamTotal", "8201367552");
+		device.put("lastSync", Instant.ofEpochMilli(now - random.nextInt(3600000)).toString());
+		ArrayNode ramFreeReports = device.putArray("systemRamFreeReports");
+		ArrayNode cpuStatusReports = device.putArray("cpuStatusReports");
+		for (int report = 3; report > 0; report--) {
+			String reportTime = Instant.ofEpochMilli(now - report * REPORT_INTERVAL).toString();
+			ObjectNode ramFree = ramFreeReports.addObject();
+			ramFree.put("reportTime", reportTime);
+			ramFree.putArray("systemRamFreeInfo").add(String.valueOf(1000000000L + random.nextInt(1000000000)));
+			ObjectNode cpuStatus = cpuStatusReports.addObject();
+			cpuStatus.put("reportTime", reportTime);
+			cpuStatus.putArray("cpuUtilizationPercentageInfo").add(random.nextInt(100));
+			ArrayNode temperatures = cpuStatus.putArray("cpuTemperatureInfo");
+			temperatures.addObject().put("temperature", 40 + random.nextInt(30)).put("label", "Core 0");
+			temperatures.addObject().put("temperature", 40 + random.nextInt(30)).put("label", "Package id 0");
+		}
+		ArrayNode activeTimeRanges = device.putArray("activeTimeRanges");
+		activeTimeRanges.addObject().put("date", "2026-10-18").put("activeTime", random.nextInt(28800000));
+		activeTimeRanges.addObject().put("date", "2026-10-19").put("activeTime", random.nextInt(28800000));
+		device.putArray("recentUsers").addObject().put("type", "USER_TYPE_MANAGED").put("email", "user" + index + "@example.com");
+		device.putArray("lastKnownNetwork").addObject().put("ipAddress", "10.0." + (index >> 8 & 255) + "." + (index & 255)).put("wanIpAddress", "203.0.113.7");
+		return device;
+	}
+}
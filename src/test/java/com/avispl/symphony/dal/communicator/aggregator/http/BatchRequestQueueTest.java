@@ -0,0 +1,73 @@
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * BatchRequestQueueTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class BatchRequestQueueTest {
+	private static final Pattern PART = Pattern.compile("Content-ID: <(\\S+)>\\r\\n\\r\\nGET (\\S+)");
+
+	/**
+	 * Verifies that queued requests are split into full batches, every caller gets its own response back
+	 * and a failed part fails only its own request.
+	 */
+	@Test
+	void testBatchingAndDemultiplexing() throws Exception {
+		List<Integer> batchSizes = new ArrayList<>();
+		BatchRequestQueue queue = new BatchRequestQueue((contentType, body) -> {
+			StringBuilder response = new StringBuilder();
+			Matcher matcher = PART.matcher(new String(body, StandardCharsets.UTF_8));
+			int size = 0;
+			while (matcher.find()) {
+				size++;
+				String path = matcher.group(2);
+				response.append("--response_boundary\r\nContent-Type: application/http\r\nContent-ID: <response-").append(matcher.group(1)).append(">\r\n\r\n");
+				if (path.endsWith("/missing")) {
+					response.append("HTTP/1.1 404 Not Found\r\nContent-Type: application/json\r\n\r\n{\"error\":{\"code\":404}}\r\n");
+				} else {
+					response.append("HTTP/1.1 200 OK\r\nContent-Type: application/json; charset=UTF-8\r\n\r\n{\"name\":\"").append(path).append("\"}\r\n");
+				}
+			}
+			response.append("--response_boundary--\r\n");
+			batchSizes.add(size);
+			return new BatchRequestQueue.RawResponse("multipart/mixed; boundary=response_boundary", response.toString().getBytes(StandardCharsets.UTF_8));
+		});
+		List<CompletableFuture<JsonNode>> lookups = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			lookups.add(queue.enqueue("/admin/directory/v1/customer/C01/orgunits/id:" + i));
+		}
+		CompletableFuture<JsonNode> missing = queue.enqueue("/admin/directory/v1/customer/C01/orgunits/missing");
+		queue.flush();
+
+		for (int i = 0; i < 250; i++) {
+			Assert.assertEquals("/admin/directory/v1/customer/C01/orgunits/id:" + i, lookups.get(i).get().get("name").asText());
+		}
+		try {
+			missing.get();
+			Assert.fail("Missing organizational unit must fail");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause().getMessage().contains("404"));
+		}
+		Assert.assertEquals(3, queue.getBatches());
+		Assert.assertEquals(251, queue.getRequests());
+		Assert.assertEquals(83, queue.getFillRatio());
+		Assert.assertEquals(100, batchSizes.get(0).intValue());
+		Assert.assertEquals(51, batchSizes.get(2).intValue());
+	}
+}
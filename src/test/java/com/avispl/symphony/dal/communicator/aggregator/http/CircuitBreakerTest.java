@@ -0,0 +1,65 @@
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreakerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CircuitBreakerTest {
+
+	/**
+	 * Verifies that the circuit opens after consecutive failures and rejects requests until the cooldown elapsed.
+	 */
+	@Test
+	void testOpensAfterThreshold() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker();
+		circuitBreaker.recordFailure(3, 1000);
+		circuitBreaker.recordFailure(3, 1000);
+		Assert.assertTrue(circuitBreaker.allowRequest(3, 5000, 1000));
+		circuitBreaker.recordFailure(3, 1000);
+		Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		Assert.assertFalse(circuitBreaker.allowRequest(3, 5000, 2000));
+		Assert.assertFalse(circuitBreaker.allowRequest(3, 5000, 5999));
+		Assert.assertEquals(2, circuitBreaker.getRejected());
+	}
+
+	/**
+	 * Verifies that a single probe is let through after the cooldown, closing the circuit on success and reopening it on failure.
+	 */
+	@Test
+	void testHalfOpenProbe() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker();
+		circuitBreaker.recordFailure(1, 1000);
+		Assert.assertTrue(circuitBreaker.allowRequest(1, 5000, 6000));
+		Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		Assert.assertFalse(circuitBreaker.allowRequest(1, 5000, 6000));
+
+		circuitBreaker.recordFailure(1, 6000);
+		Assert.assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		Assert.assertFalse(circuitBreaker.allowRequest(1, 5000, 10000));
+
+		Assert.assertTrue(circuitBreaker.allowRequest(1, 5000, 11000));
+		circuitBreaker.recordSuccess();
+		Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		Assert.assertTrue(circuitBreaker.allowRequest(1, 5000, 11000));
+	}
+
+	/**
+	 * Verifies that a threshold of 0 never opens the circuit.
+	 */
+	@Test
+	void testDisabled() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker();
+		for (int i = 0; i < 100; i++) {
+			circuitBreaker.recordFailure(0, 1000);
+		}
+		Assert.assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		Assert.assertTrue(circuitBreaker.allowRequest(0, 5000, 1000));
+	}
+}
@@ -0,0 +1,116 @@
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompressionMonitorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CompressionMonitorTest {
+	private static final byte[] BODY = repeat("{\"chromeosdevices\":[{\"deviceId\":\"device\",\"status\":\"ACTIVE\"}]}", 200).getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Verifies that gzip and deflate bodies are decoded and counted on wire compressed and after decoding in full.
+	 */
+	@Test
+	void testDecodesCompressedBodies() throws Exception {
+		CompressionMonitor monitor = new CompressionMonitor();
+		byte[] gzipped = gzip(BODY);
+		Assert.assertArrayEquals(BODY, readAll(monitor.decode(new ByteArrayInputStream(gzipped), " GZIP ")));
+		Assert.assertEquals(gzipped.length, monitor.getWireBytes());
+		Assert.assertEquals(BODY.length, monitor.getDecodedBytes());
+
+		byte[] deflated = deflate(BODY);
+		Assert.assertArrayEquals(BODY, readAll(monitor.decode(new ByteArrayInputStream(deflated), "deflate")));
+		Assert.assertArrayEquals(BODY, readAll(monitor.decode(new ByteArrayInputStream(gzipped), "x-gzip")));
+		Assert.assertEquals(gzipped.length * 2L + deflated.length, monitor.getWireBytes());
+		Assert.assertEquals(BODY.length * 3L, monitor.getDecodedBytes());
+		Assert.assertTrue(monitor.getWireBytes() < monitor.getDecodedBytes() / 10);
+	}
+
+	/**
+	 * Verifies that bodies without or with an unknown content encoding are passed through and counted once per side.
+	 */
+	@Test
+	void testPassesThroughIdentity() throws Exception {
+		CompressionMonitor monitor = new CompressionMonitor();
+		Assert.assertArrayEquals(BODY, readAll(monitor.decode(new ByteArrayInputStream(BODY), null)));
+		Assert.assertArrayEquals(BODY, readAll(monitor.decode(new ByteArrayInputStream(BODY), "identity")));
+		Assert.assertEquals(BODY.length * 2L, monitor.getWireBytes());
+		Assert.assertEquals(monitor.getWireBytes(), monitor.getDecodedBytes());
+	}
+
+	/**
+	 * Verifies that a body announced as gzip but not compressed fails to decode.
+	 */
+	@Test
+	void testRejectsInvalidGzip() {
+		CompressionMonitor monitor = new CompressionMonitor();
+		try {
+			readAll(monitor.decode(new ByteArrayInputStream(BODY), "gzip"));
+			Assert.fail("Invalid gzip body was decoded");
+		} catch (IOException e) {
+			Assert.assertEquals(0, monitor.getDecodedBytes());
+		}
+	}
+
+	/**
+	 * Reads a stream to its end and closes it
+	 */
+	private static byte[] readAll(InputStream inputStream) throws IOException {
+		try (InputStream content = inputStream) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int count;
+			while ((count = content.read(buffer)) != -1) {
+				outputStream.write(buffer, 0, count);
+			}
+			return outputStream.toByteArray();
+		}
+	}
+
+	/**
+	 * Compresses content with gzip
+	 */
+	private static byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(content);
+		}
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Compresses content with deflate
+	 */
+	private static byte[] deflate(byte[] content) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream)) {
+			deflaterOutputStream.write(content);
+		}
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Repeats a value the given number of times
+	 */
+	private static String repeat(String value, int count) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			builder.append(value);
+		}
+		return builder.toString();
+	}
+}
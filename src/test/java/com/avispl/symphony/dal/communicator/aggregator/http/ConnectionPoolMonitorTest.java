@@ -0,0 +1,94 @@
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConnectionPoolMonitorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class ConnectionPoolMonitorTest {
+
+	/**
+	 * Verifies that leased connections are read from the pool of the client, including requests not sent through the monitor.
+	 */
+	@Test
+	void testReadsPoolOfClient() throws Exception {
+		CountDownLatch released = new CountDownLatch(1);
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", exchange -> {
+			try {
+				released.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		server.start();
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(7).build();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build()) {
+			ConnectionPoolMonitor monitor = new ConnectionPoolMonitor();
+			Assert.assertTrue(monitor.attach(httpClient));
+			Assert.assertEquals(7, monitor.getMax(100));
+			Assert.assertEquals(0, monitor.getLeased());
+
+			String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+			Future<Integer> response = executor.submit(() -> httpClient.execute(new HttpGet(url), httpResponse -> {
+				EntityUtils.consume(httpResponse.getEntity());
+				return httpResponse.getCode();
+			}));
+			long deadline = System.currentTimeMillis() + 5000;
+			while (monitor.getLeased() == 0 && System.currentTimeMillis() < deadline) {
+				TimeUnit.MILLISECONDS.sleep(10);
+			}
+			Assert.assertEquals(1, monitor.getLeased());
+			Assert.assertEquals(1, monitor.getAndResetPeakLeased());
+			released.countDown();
+			Assert.assertEquals(200, response.get(5, TimeUnit.SECONDS).intValue());
+			Assert.assertEquals(0, monitor.getLeased());
+			Assert.assertEquals(0, monitor.getTotalRequests());
+		} finally {
+			released.countDown();
+			executor.shutdownNow();
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * Verifies that requests in flight stand in for leased connections while no pool is attached.
+	 */
+	@Test
+	void testCountsRequestsWithoutPool() {
+		ConnectionPoolMonitor monitor = new ConnectionPoolMonitor();
+		Assert.assertFalse(monitor.attach(new Object()));
+		monitor.lease();
+		monitor.lease();
+		monitor.release();
+		Assert.assertEquals(1, monitor.getLeased());
+		Assert.assertEquals(2, monitor.getAndResetPeakLeased());
+		Assert.assertEquals(1, monitor.getAndResetPeakLeased());
+		Assert.assertEquals(0, monitor.getPending());
+		Assert.assertEquals(100, monitor.getMax(100));
+		Assert.assertEquals(2, monitor.getTotalRequests());
+	}
+}
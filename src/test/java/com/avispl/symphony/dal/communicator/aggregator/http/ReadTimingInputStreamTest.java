@@ -0,0 +1,68 @@
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ReadTimingInputStreamTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class ReadTimingInputStreamTest {
+
+	/**
+	 * Verifies that time blocked in reads of the wrapped stream is measured, and that the content is passed through unchanged.
+	 */
+	@Test
+	void testMeasuresBlockedReads() throws Exception {
+		byte[] body = "{\"chromeosdevices\":[]}".getBytes(StandardCharsets.UTF_8);
+		ReadTimingInputStream inputStream = new ReadTimingInputStream(slow(new ByteArrayInputStream(body), 20));
+		Assert.assertEquals(0, inputStream.getReadNanos());
+		Assert.assertEquals('{', inputStream.read());
+		byte[] rest = new byte[body.length];
+		int count = inputStream.read(rest, 0, rest.length);
+		Assert.assertEquals(body.length - 1, count);
+		Assert.assertEquals(-1, inputStream.read(rest, 0, rest.length));
+		Assert.assertEquals(new String(body, 1, body.length - 1, StandardCharsets.UTF_8), new String(rest, 0, count, StandardCharsets.UTF_8));
+		Assert.assertTrue(inputStream.getReadNanos() >= TimeUnit.MILLISECONDS.toNanos(60));
+	}
+
+	/**
+	 * Wraps a stream so every read blocks for the given time, the way a read waiting for the network does
+	 */
+	private static InputStream slow(InputStream inputStream, long delayMillis) {
+		return new FilterInputStream(inputStream) {
+			@Override
+			public int read() throws IOException {
+				sleep(delayMillis);
+				return super.read();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				sleep(delayMillis);
+				return super.read(b, off, len);
+			}
+		};
+	}
+
+	/**
+	 * Sleeps for the given time
+	 */
+	private static void sleep(long delayMillis) {
+		try {
+			TimeUnit.MILLISECONDS.sleep(delayMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package com.avispl.symphony.dal.communicator.aggregator.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SingleFlightTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class SingleFlightTest {
+
+	/**
+	 * Verifies that concurrent calls with the same key execute once and every caller, the executing one included, gets its own copy.
+	 */
+	@Test
+	void testCoalescedCallersGetOwnCopies() throws Exception {
+		SingleFlight<String, List<String>> singleFlight = new SingleFlight<>(ArrayList::new);
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch released = new CountDownLatch(1);
+		List<String> original = new ArrayList<>();
+		original.add("page");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<String>>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> singleFlight.execute("uri", () -> {
+					executions.incrementAndGet();
+					released.await(5, TimeUnit.SECONDS);
+					return original;
+				})));
+			}
+			while (singleFlight.getHits() + singleFlight.getMisses() < 4) {
+				TimeUnit.MILLISECONDS.sleep(10);
+			}
+			released.countDown();
+			List<List<String>> copies = new ArrayList<>();
+			for (Future<List<String>> result : results) {
+				List<String> copy = result.get(5, TimeUnit.SECONDS);
+				Assert.assertEquals(original, copy);
+				Assert.assertNotSame(original, copy);
+				copies.add(copy);
+			}
+			for (int i = 0; i < copies.size(); i++) {
+				for (int j = i + 1; j < copies.size(); j++) {
+					Assert.assertNotSame(copies.get(i), copies.get(j));
+				}
+			}
+			Assert.assertEquals(1, executions.get());
+			Assert.assertEquals(1, singleFlight.getMisses());
+			Assert.assertEquals(3, singleFlight.getHits());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Verifies that a failure is propagated to the caller and the next call is executed again.
+	 */
+	@Test
+	void testFailureIsNotCached() throws Exception {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>();
+		try {
+			singleFlight.execute("uri", () -> {
+				throw new IllegalStateException("failed");
+			});
+			Assert.fail("Failure was not propagated");
+		} catch (IllegalStateException e) {
+			Assert.assertEquals("failed", e.getMessage());
+		}
+		Assert.assertEquals("value", singleFlight.execute("uri", () -> "value"));
+		Assert.assertEquals(2, singleFlight.getMisses());
+	}
+}
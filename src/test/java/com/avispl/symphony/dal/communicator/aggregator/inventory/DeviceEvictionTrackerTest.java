@@ -0,0 +1,37 @@
+package com.avispl.symphony.dal.communicator.aggregator.inventory;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceEvictionTrackerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceEvictionTrackerTest {
+
+	/**
+	 * Verifies that only devices missing from a completed sweep for longer than the grace period are evicted.
+	 */
+	@Test
+	void testSweepWithGracePeriod() {
+		DeviceEvictionTracker tracker = new DeviceEvictionTracker();
+		tracker.register("restored", 0);
+		tracker.mark("kept", 1, 1000);
+		tracker.mark("deleted", 1, 1000);
+		Assert.assertEquals(Collections.singleton("restored"), tracker.sweep(1, 1000, 2000));
+
+		tracker.mark("kept", 2, 7000);
+		Assert.assertTrue(tracker.sweep(2, 5000, 5500).isEmpty());
+		tracker.mark("kept", 3, 8000);
+		Assert.assertEquals(Collections.singleton("deleted"), tracker.sweep(3, 5000, 8000));
+		Assert.assertTrue(tracker.contains("kept"));
+		Assert.assertFalse(tracker.contains("deleted"));
+		Assert.assertEquals(2, tracker.getEvicted());
+		Assert.assertEquals(3, tracker.getCompletedSweeps());
+	}
+}
@@ -0,0 +1,66 @@
+package com.avispl.symphony.dal.communicator.aggregator.inventory;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceQuarantineTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceQuarantineTest {
+
+	/**
+	 * Verifies that a device is released only by the stage it failed in.
+	 */
+	@Test
+	void testReleaseByStage() {
+		DeviceQuarantine quarantine = new DeviceQuarantine(10);
+		quarantine.quarantine("device", "Publish", new IllegalStateException("bad"), 1000);
+		quarantine.quarantine("device", "Collect", new IllegalStateException("worse"), 2000);
+		Assert.assertEquals(1, quarantine.size());
+		Assert.assertEquals(1000, quarantine.getSince("device"));
+		Assert.assertTrue(quarantine.getReason("device").contains("bad"));
+
+		quarantine.release("device", "Collect");
+		Assert.assertTrue(quarantine.contains("device"));
+		quarantine.release("device", "Publish");
+		Assert.assertFalse(quarantine.contains("device"));
+		Assert.assertEquals(1, quarantine.getQuarantined());
+	}
+
+	/**
+	 * Verifies that the oldest devices are dropped when the quarantine is full and evicted devices are forgotten.
+	 */
+	@Test
+	void testCapacityAndForget() {
+		DeviceQuarantine quarantine = new DeviceQuarantine(2);
+		quarantine.quarantine("first", "Collect", new IllegalStateException(), 1000);
+		quarantine.quarantine("second", "Collect", new IllegalStateException(), 2000);
+		quarantine.quarantine("third", "Collect", new IllegalStateException(), 3000);
+		Assert.assertEquals(Arrays.asList("second", "third"), quarantine.getDeviceIds(10));
+		Assert.assertEquals(Collections.singletonList("second"), quarantine.getDeviceIds(1));
+
+		quarantine.forget(Collections.singleton("second"));
+		Assert.assertEquals(Collections.singletonList("third"), quarantine.getDeviceIds(10));
+	}
+
+	/**
+	 * Verifies that field errors are counted by field name.
+	 */
+	@Test
+	void testFieldErrors() {
+		DeviceQuarantine quarantine = new DeviceQuarantine(10);
+		quarantine.recordFieldError("CPUUtilization(%)");
+		quarantine.recordFieldError("CPUUtilization(%)");
+		quarantine.recordFieldError("MACAddress");
+		Assert.assertEquals(Long.valueOf(2), quarantine.getFieldErrors().get("CPUUtilization(%)"));
+		Assert.assertEquals(Long.valueOf(1), quarantine.getFieldErrors().get("MACAddress"));
+		Assert.assertEquals(0, quarantine.size());
+	}
+}
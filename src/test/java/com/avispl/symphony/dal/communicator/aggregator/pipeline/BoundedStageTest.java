@@ -0,0 +1,154 @@
+package com.avispl.symphony.dal.communicator.aggregator.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BoundedStageTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class BoundedStageTest {
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Verifies that items flow through chained stages in order and that the queues never grow past their capacity.
+	 */
+	@Test
+	void testChainedStagesKeepOrderWithinCapacity() throws Exception {
+		List<Integer> published = new ArrayList<>();
+		BoundedStage<Integer> publishStage = new BoundedStage<>(2, published::add, executor);
+		BoundedStage<Integer> mapStage = new BoundedStage<>(2, item -> {
+			try {
+				publishStage.submit(item * 10);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}, executor);
+		for (int i = 1; i <= 100; i++) {
+			mapStage.submit(i);
+		}
+		mapStage.finish();
+		publishStage.finish();
+
+		Assert.assertEquals(100, published.size());
+		Assert.assertEquals(Integer.valueOf(10), published.get(0));
+		Assert.assertEquals(Integer.valueOf(1000), published.get(99));
+		Assert.assertEquals(100, mapStage.getProcessed());
+		Assert.assertTrue(mapStage.getPeakDepth() <= 2);
+		Assert.assertTrue(publishStage.getPeakDepth() <= 2);
+	}
+
+	/**
+	 * Verifies that a full queue blocks the producer until the worker catches up.
+	 */
+	@Test
+	void testSubmitBlocksWhileQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BoundedStage<Integer> stage = new BoundedStage<>(1, item -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, executor);
+		stage.submit(1);
+		// the worker holds the first item, so the second one fills the queue
+		started.await();
+		stage.submit(2);
+		Thread producer = new Thread(() -> {
+			try {
+				stage.submit(3);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		producer.start();
+		producer.join(200);
+		Assert.assertTrue(producer.isAlive());
+
+		release.countDown();
+		producer.join(5000);
+		Assert.assertFalse(producer.isAlive());
+		stage.finish();
+		Assert.assertEquals(3, stage.getProcessed());
+	}
+
+	/**
+	 * Verifies that finish returns with the interruption when the worker is interrupted by the executor shutting down
+	 * while the queue is full, instead of waiting for queue space forever.
+	 */
+	@Test
+	void testFinishAfterWorkerInterrupted() throws Exception {
+		ExecutorService stageExecutor = Executors.newSingleThreadExecutor();
+		CountDownLatch started = new CountDownLatch(1);
+		BoundedStage<Integer> stage = new BoundedStage<>(1, item -> {
+			started.countDown();
+			try {
+				new CountDownLatch(1).await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, stageExecutor);
+		stage.submit(1);
+		started.await();
+		stage.submit(2);
+		stageExecutor.shutdownNow();
+		Assert.assertTrue(stageExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+		long start = System.currentTimeMillis();
+		try {
+			stage.finish();
+			Assert.fail("Interruption of the worker is expected");
+		} catch (InterruptedException e) {
+			Assert.assertTrue(System.currentTimeMillis() - start < 5000);
+		}
+	}
+
+	/**
+	 * Verifies that a failure of the worker is reported by finish and the remaining items are skipped.
+	 */
+	@Test
+	void testFailureIsRethrown() throws Exception {
+		List<String> processed = new ArrayList<>();
+		BoundedStage<String> stage = new BoundedStage<>(4, item -> {
+			if ("bad".equals(item)) {
+				throw new IllegalArgumentException(item);
+			}
+			processed.add(item);
+		}, executor);
+		for (String item : Arrays.asList("a", "bad", "b")) {
+			try {
+				stage.submit(item);
+			} catch (IllegalArgumentException e) {
+				// failure observed early, the remaining items are not submitted
+				break;
+			}
+		}
+		try {
+			stage.finish();
+			Assert.fail("Failure of the worker is expected");
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("bad", e.getMessage());
+		}
+		Assert.assertEquals(Arrays.asList("a"), processed);
+	}
+}
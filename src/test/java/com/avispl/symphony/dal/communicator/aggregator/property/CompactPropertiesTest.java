@@ -0,0 +1,102 @@
+package com.avispl.symphony.dal.communicator.aggregator.property;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompactPropertiesTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class CompactPropertiesTest {
+
+	/**
+	 * Verifies that compact properties behave like the hash map they were built from, including unknown names and null values.
+	 */
+	@Test
+	void testMapContract() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("Status", "ACTIVE");
+		properties.put("OrgUnit", "/Lab");
+		properties.put("CPU_Temperature", "[{\"temperature\":40}]");
+		properties.put("AnnotatedUser", null);
+		CompactProperties compactProperties = new CompactProperties(properties);
+		Assert.assertEquals(properties, compactProperties);
+		Assert.assertEquals(properties, new HashMap<>(compactProperties));
+		Assert.assertTrue(compactProperties.containsKey("AnnotatedUser"));
+		Assert.assertNull(compactProperties.get("Unknown"));
+
+		Assert.assertEquals("/Lab", compactProperties.put("OrgUnit", "/Lab/Desks"));
+		Assert.assertEquals("ACTIVE", compactProperties.remove("Status"));
+		compactProperties.put("SerialNumber", "5CD1234");
+		Assert.assertEquals(4, compactProperties.size());
+		Assert.assertEquals("/Lab/Desks", compactProperties.get("OrgUnit"));
+		Assert.assertFalse(compactProperties.containsKey("Status"));
+	}
+
+	/**
+	 * Verifies that repeated values share one instance across devices and inside one device.
+	 */
+	@Test
+	void testValueSharing() {
+		Map<String, String> first = new HashMap<>();
+		first.put("ChromeOSVersion", new String("126.0.6478.132"));
+		first.put("CPUUtilization(%)", new String("[{\"cpuUtilizationPercentage\":12}]"));
+		first.put("CPU_Temperature", new String("[{\"cpuUtilizationPercentage\":12}]"));
+		Map<String, String> second = new HashMap<>();
+		second.put("ChromeOSVersion", new String("126.0.6478.132"));
+		CompactProperties firstDevice = new CompactProperties(first);
+		CompactProperties secondDevice = new CompactProperties(second);
+		Assert.assertSame(firstDevice.get("ChromeOSVersion"), secondDevice.get("ChromeOSVersion"));
+		Assert.assertSame(firstDevice.get("CPUUtilization(%)"), firstDevice.get("CPU_Temperature"));
+	}
+
+	/**
+	 * Verifies that only values of repeated properties enter the shared pool, short device specific values included.
+	 */
+	@Test
+	void testOnlyRepeatedPropertiesArePooled() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("SerialNumber", "5CD" + System.nanoTime() % 10000);
+		properties.put("VolumeLevel(%)", "42");
+		new CompactProperties(properties);
+		int poolSize = CompactProperties.getPoolSize();
+		properties.put("SerialNumber", "5CE" + System.nanoTime() % 10000);
+		String status = "STATUS-" + System.nanoTime();
+		properties.put("Status", status);
+		CompactProperties compactProperties = new CompactProperties(properties);
+		Assert.assertEquals(poolSize + 1, CompactProperties.getPoolSize());
+		Assert.assertSame(CompactProperties.intern(new String(status)), compactProperties.get("Status"));
+	}
+
+	/**
+	 * Verifies that names seen after every slot is assigned are kept per device without growing the index.
+	 */
+	@Test
+	void testNamesBeyondIndexCapacity() {
+		for (int i = PropertyKeyIndex.size(); i < PropertyKeyIndex.CAPACITY; i++) {
+			PropertyKeyIndex.indexOf("Filler#" + i);
+		}
+		Assert.assertEquals(-1, PropertyKeyIndex.indexOf("Overflow#Name"));
+		Map<String, String> properties = new HashMap<>();
+		properties.put("Status", "ACTIVE");
+		properties.put("Overflow#Name", "value");
+		properties.put("Overflow#Null", null);
+		CompactProperties compactProperties = new CompactProperties(properties);
+		Assert.assertEquals(PropertyKeyIndex.CAPACITY, PropertyKeyIndex.size());
+		Assert.assertEquals(properties, compactProperties);
+		Assert.assertEquals(properties, new HashMap<>(compactProperties));
+		Assert.assertTrue(compactProperties.containsKey("Overflow#Null"));
+
+		Assert.assertEquals("value", compactProperties.remove("Overflow#Name"));
+		Assert.assertEquals(2, compactProperties.size());
+		compactProperties.entrySet().removeIf(entry -> entry.getKey().equals("Overflow#Null"));
+		Assert.assertEquals(1, compactProperties.size());
+		Assert.assertFalse(compactProperties.containsKey("Overflow#Null"));
+	}
+}
@@ -0,0 +1,130 @@
+package com.avispl.symphony.dal.communicator.aggregator.publication;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * DeltaPublicationTrackerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeltaPublicationTrackerTest {
+	private static final long FULL_REFRESH_INTERVAL = 60000L;
+
+	/**
+	 * Verifies that devices are published in full first, skipped while unchanged and then published with their changed properties only.
+	 */
+	@Test
+	void testPublishesChangedProperties() {
+		DeltaPublicationTracker tracker = new DeltaPublicationTracker();
+		List<AggregatedDevice> published = tracker.filterChanged(Arrays.asList(createDevice("device-1", "ACTIVE", "10"), createDevice("device-2", "ACTIVE", "20")),
+				FULL_REFRESH_INTERVAL);
+		Assert.assertEquals(2, published.size());
+		Assert.assertEquals(3, published.get(0).getProperties().size());
+
+		Assert.assertTrue(tracker.filterChanged(Arrays.asList(createDevice("device-1", "ACTIVE", "10"), createDevice("device-2", "ACTIVE", "20")),
+				FULL_REFRESH_INTERVAL).isEmpty());
+
+		published = tracker.filterChanged(Arrays.asList(createDevice("device-1", "ACTIVE", "15"), createDevice("device-2", "ACTIVE", "20")), FULL_REFRESH_INTERVAL);
+		Assert.assertEquals(1, published.size());
+		Assert.assertEquals("device-1", published.get(0).getDeviceId());
+		Assert.assertEquals(Collections.singletonMap("VolumeLevel(%)", "15"), published.get(0).getProperties());
+	}
+
+	/**
+	 * Verifies that a device changing only its online state is published without properties, and every device is published in full
+	 * once the full refresh interval elapsed.
+	 */
+	@Test
+	void testFullRefreshInterval() {
+		DeltaPublicationTracker tracker = new DeltaPublicationTracker();
+		tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10")), FULL_REFRESH_INTERVAL);
+		AggregatedDevice offline = createDevice("device-1", "ACTIVE", "10");
+		offline.setDeviceOnline(false);
+		List<AggregatedDevice> published = tracker.filterChanged(Collections.singletonList(offline), FULL_REFRESH_INTERVAL);
+		Assert.assertEquals(1, published.size());
+		Assert.assertTrue(published.get(0).getProperties().isEmpty());
+
+		published = tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10")), 0);
+		Assert.assertEquals(1, published.size());
+		Assert.assertEquals(3, published.get(0).getProperties().size());
+	}
+
+	/**
+	 * Verifies that devices of other shards keep their hashes, while forgotten devices and a reset tracker are published in full again.
+	 */
+	@Test
+	void testShardsForgetAndReset() {
+		DeltaPublicationTracker tracker = new DeltaPublicationTracker();
+		Set<String> knownDeviceIds = new HashSet<>(Arrays.asList("device-1", "device-2"));
+		Assert.assertEquals(1, tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10")), FULL_REFRESH_INTERVAL, knownDeviceIds).size());
+		Assert.assertEquals(1, tracker.filterChanged(Collections.singletonList(createDevice("device-2", "ACTIVE", "20")), FULL_REFRESH_INTERVAL, knownDeviceIds).size());
+		Assert.assertTrue(tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10")), FULL_REFRESH_INTERVAL, knownDeviceIds).isEmpty());
+
+		tracker.forget(Collections.singleton("device-1"));
+		List<AggregatedDevice> published = tracker.filterChanged(Arrays.asList(createDevice("device-1", "ACTIVE", "10"), createDevice("device-2", "ACTIVE", "20")),
+				FULL_REFRESH_INTERVAL, knownDeviceIds);
+		Assert.assertEquals(1, published.size());
+		Assert.assertEquals(3, published.get(0).getProperties().size());
+
+		tracker.reset();
+		Assert.assertEquals(2, tracker.filterChanged(Arrays.asList(createDevice("device-1", "ACTIVE", "10"), createDevice("device-2", "ACTIVE", "20")),
+				FULL_REFRESH_INTERVAL, knownDeviceIds).size());
+	}
+
+	/**
+	 * Verifies that a change of an unhashed dynamic statistic alone does not publish the device again,
+	 * while it is published in full with the device's next change.
+	 */
+	@Test
+	void testUnhashedStatistics() {
+		DeltaPublicationTracker tracker = new DeltaPublicationTracker(Collections.singleton("DataAge(s)"));
+		Assert.assertEquals(1, tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10", "5")), FULL_REFRESH_INTERVAL).size());
+		Assert.assertTrue(tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10", "65")), FULL_REFRESH_INTERVAL).isEmpty());
+
+		List<AggregatedDevice> published = tracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "15", "125")), FULL_REFRESH_INTERVAL);
+		Assert.assertEquals(1, published.size());
+		Assert.assertEquals("125", published.get(0).getDynamicStatistics().get("DataAge(s)"));
+
+		DeltaPublicationTracker hashingTracker = new DeltaPublicationTracker();
+		hashingTracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10", "5")), FULL_REFRESH_INTERVAL);
+		Assert.assertEquals(1, hashingTracker.filterChanged(Collections.singletonList(createDevice("device-1", "ACTIVE", "10", "65")), FULL_REFRESH_INTERVAL).size());
+	}
+
+	/**
+	 * Creates an online device with status, volume level and serial number properties and a data age dynamic statistic
+	 */
+	private AggregatedDevice createDevice(String deviceId, String status, String volumeLevel, String dataAge) {
+		AggregatedDevice device = createDevice(deviceId, status, volumeLevel);
+		device.setDynamicStatistics(new HashMap<>(Collections.singletonMap("DataAge(s)", dataAge)));
+		return device;
+	}
+
+	/**
+	 * Creates an online device with status, volume level and serial number properties
+	 */
+	private AggregatedDevice createDevice(String deviceId, String status, String volumeLevel) {
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(deviceId);
+		device.setDeviceName(deviceId);
+		device.setDeviceOnline(true);
+		Map<String, String> properties = new HashMap<>();
+		properties.put("Status", status);
+		properties.put("VolumeLevel(%)", volumeLevel);
+		properties.put("SerialNumber", "SN-" + deviceId);
+		device.setProperties(properties);
+		return device;
+	}
+}
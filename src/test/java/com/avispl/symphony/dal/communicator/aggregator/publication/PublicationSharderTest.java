@@ -0,0 +1,96 @@
+package com.avispl.symphony.dal.communicator.aggregator.publication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * PublicationSharderTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class PublicationSharderTest {
+
+	/**
+	 * Verifies that one round of shards publishes every device exactly once, in bounded shards, regardless of the fleet order,
+	 * and the next round starts from the first shard.
+	 */
+	@Test
+	void testShardsCoverFleet() {
+		List<AggregatedDevice> devices = createDevices(1050);
+		PublicationSharder sharder = new PublicationSharder();
+		Set<String> published = new HashSet<>();
+		for (int i = 0; i < 3; i++) {
+			List<AggregatedDevice> shard = sharder.nextShard(devices, 400, ShardPartitionEnum.DEVICE_ID);
+			Assert.assertEquals(i, sharder.getCurrentShard());
+			Assert.assertEquals(3, sharder.getShardCount());
+			Assert.assertTrue(shard.size() <= 400);
+			shard.forEach(device -> Assert.assertTrue(published.add(device.getDeviceId())));
+			Collections.shuffle(devices);
+		}
+		Assert.assertEquals(1050, published.size());
+		sharder.nextShard(devices, 400, ShardPartitionEnum.DEVICE_ID);
+		Assert.assertEquals(0, sharder.getCurrentShard());
+	}
+
+	/**
+	 * Verifies that devices of the same organizational unit are kept together when partitioning by organizational unit.
+	 */
+	@Test
+	void testOrgUnitPartition() {
+		PublicationSharder sharder = new PublicationSharder();
+		List<AggregatedDevice> devices = createDevices(100);
+		for (int i = 0; i < 4; i++) {
+			Set<String> orgUnits = new HashSet<>();
+			sharder.nextShard(devices, 25, ShardPartitionEnum.ORG_UNIT).forEach(device -> orgUnits.add(device.getProperties().get("OrgUnit")));
+			Assert.assertEquals(1, orgUnits.size());
+		}
+	}
+
+	/**
+	 * Verifies that the order is kept while the fleet is unchanged and follows devices joining the fleet or moving to another organizational unit.
+	 */
+	@Test
+	void testOrderFollowsInventoryChanges() {
+		PublicationSharder sharder = new PublicationSharder();
+		List<AggregatedDevice> devices = createDevices(100);
+		List<AggregatedDevice> first = sharder.nextShard(devices, 25, ShardPartitionEnum.ORG_UNIT);
+		Assert.assertTrue(first.stream().allMatch(device -> "/Unit 0".equals(device.getProperties().get("OrgUnit"))));
+
+		devices.get(1).getProperties().put("OrgUnit", "/Unit 0");
+		Collections.shuffle(devices);
+		List<AggregatedDevice> second = sharder.nextShard(devices, 25, ShardPartitionEnum.ORG_UNIT);
+		Assert.assertEquals(1, second.stream().filter(device -> "/Unit 0".equals(device.getProperties().get("OrgUnit"))).count());
+
+		devices.addAll(createDevices(101).subList(100, 101));
+		sharder.nextShard(devices, 25, ShardPartitionEnum.ORG_UNIT);
+		Assert.assertEquals(5, sharder.getShardCount());
+	}
+
+	/**
+	 * Creates devices spread round robin over 4 organizational units
+	 */
+	private List<AggregatedDevice> createDevices(int count) {
+		List<AggregatedDevice> devices = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			AggregatedDevice device = new AggregatedDevice();
+			device.setDeviceId("device-" + i);
+			Map<String, String> properties = new HashMap<>();
+			properties.put("OrgUnit", "/Unit " + i % 4);
+			device.setProperties(properties);
+			devices.add(device);
+		}
+		return devices;
+	}
+}
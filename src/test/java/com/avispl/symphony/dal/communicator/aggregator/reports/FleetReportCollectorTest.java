@@ -0,0 +1,158 @@
+package com.avispl.symphony.dal.communicator.aggregator.reports;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FleetReportCollectorTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class FleetReportCollectorTest {
+	private static final String VERSIONS_URI = "versions?pageSize=100";
+	private static final String AUTO_UPDATE_EXPIRATION_URI = "aue";
+	private static final String HARDWARE_URI = "hardware";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Verifies that every section is counted and that other systems than ChromeOS are skipped.
+	 */
+	@Test
+	void testCollectsAllSections() {
+		FleetReportCollector collector = new FleetReportCollector(uri -> {
+			if (uri.startsWith(VERSIONS_URI)) {
+				return createVersionsPage(null, "SYSTEM_CROS", "SYSTEM_WINDOWS");
+			}
+			ObjectNode response = objectMapper.createObjectNode();
+			if (AUTO_UPDATE_EXPIRATION_URI.equals(uri)) {
+				response.putArray("deviceAueCountReports").add(objectMapper.createObjectNode().put("expired", true).put("count", 2))
+						.add(objectMapper.createObjectNode().put("aueYear", "2030").put("count", 5));
+			} else {
+				response.putArray("modelReports").add(objectMapper.createObjectNode().put("bucket", "Chromebox").put("count", 4))
+						.add(objectMapper.createObjectNode().put("bucket", "Chromebase").put("count", 3));
+			}
+			return response;
+		});
+		Map<String, String> statistics = populate(collector);
+
+		Assert.assertEquals("10", statistics.get(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + "120.0"));
+		Assert.assertEquals(1, countGroup(statistics, FleetReportCollector.CHROME_OS_VERSIONS_GROUP));
+		Assert.assertEquals("2", statistics.get(FleetReportCollector.AUTO_UPDATE_EXPIRATION_GROUP + "Expired"));
+		Assert.assertEquals("5", statistics.get(FleetReportCollector.AUTO_UPDATE_EXPIRATION_GROUP + "2030"));
+		Assert.assertEquals("4", statistics.get(FleetReportCollector.HARDWARE_MODELS_GROUP + "Chromebox"));
+		Assert.assertEquals(7, collector.getLastReport().getDevicesCount());
+		Assert.assertFalse(statistics.containsKey(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + FleetReport.TRUNCATED));
+	}
+
+	/**
+	 * Verifies that the versions report stops at the page limit and is marked as truncated,
+	 * until a later collection reads the whole list.
+	 */
+	@Test
+	void testMarksTruncatedVersions() {
+		AtomicInteger requests = new AtomicInteger();
+		AtomicBoolean endless = new AtomicBoolean(true);
+		FleetReportCollector collector = new FleetReportCollector(uri -> {
+			if (uri.startsWith(VERSIONS_URI)) {
+				requests.incrementAndGet();
+				return createVersionsPage(endless.get() ? "next" : null, "SYSTEM_CROS");
+			}
+			return objectMapper.createObjectNode();
+		});
+		Map<String, String> statistics = populate(collector);
+		Assert.assertEquals(20, requests.get());
+		Assert.assertEquals("true", statistics.get(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + FleetReport.TRUNCATED));
+		Assert.assertEquals("200", statistics.get(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + "120.0"));
+
+		endless.set(false);
+		statistics = populate(collector);
+		Assert.assertFalse(statistics.containsKey(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + FleetReport.TRUNCATED));
+		Assert.assertEquals("10", statistics.get(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + "120.0"));
+	}
+
+	/**
+	 * Verifies that a failed report keeps its sections from the previous collection, while the other reports are refreshed.
+	 */
+	@Test
+	void testKeepsPreviousSectionsOnFailure() {
+		AtomicBoolean failing = new AtomicBoolean();
+		AtomicInteger count = new AtomicInteger(1);
+		FleetReportCollector collector = new FleetReportCollector(uri -> {
+			if (uri.startsWith(VERSIONS_URI) && failing.get()) {
+				throw new IOException("Versions report failed");
+			}
+			if (uri.startsWith(VERSIONS_URI)) {
+				return createVersionsPage(null, "SYSTEM_CROS");
+			}
+			ObjectNode response = objectMapper.createObjectNode();
+			response.putArray("modelReports").add(objectMapper.createObjectNode().put("bucket", "Chromebox").put("count", count.get()));
+			return response;
+		});
+		populate(collector);
+
+		failing.set(true);
+		count.set(2);
+		Map<String, String> statistics = populate(collector);
+		Assert.assertEquals("10", statistics.get(FleetReportCollector.CHROME_OS_VERSIONS_GROUP + "120.0"));
+		Assert.assertEquals("2", statistics.get(FleetReportCollector.HARDWARE_MODELS_GROUP + "Chromebox"));
+
+		FleetReportCollector failingCollector = new FleetReportCollector(uri -> {
+			throw new IOException("All reports failed");
+		});
+		Assert.assertNull(failingCollector.collect(VERSIONS_URI, AUTO_UPDATE_EXPIRATION_URI, HARDWARE_URI));
+	}
+
+	/**
+	 * Collects all reports and returns the statistics of the collected report.
+	 *
+	 * @param collector collector to run
+	 * @return fleet statistics
+	 */
+	private Map<String, String> populate(FleetReportCollector collector) {
+		Map<String, String> statistics = new HashMap<>();
+		collector.collect(VERSIONS_URI, AUTO_UPDATE_EXPIRATION_URI, HARDWARE_URI).populateStatistics(statistics);
+		return statistics;
+	}
+
+	/**
+	 * Counts the statistics of a section group.
+	 *
+	 * @param statistics fleet statistics
+	 * @param group section group
+	 * @return number of statistics in the group
+	 */
+	private long countGroup(Map<String, String> statistics, String group) {
+		return statistics.keySet().stream().filter(key -> key.startsWith(group)).count();
+	}
+
+	/**
+	 * Creates a countChromeVersions page with 10 devices on version 120.0 for each given system.
+	 *
+	 * @param nextPageToken token of the next page, or null for the last page
+	 * @param systems system of each browser version entry
+	 * @return response page
+	 */
+	private JsonNode createVersionsPage(String nextPageToken, String... systems) {
+		ObjectNode response = objectMapper.createObjectNode();
+		for (int i = 0; i < systems.length; i++) {
+			response.withArray("browserVersions").add(objectMapper.createObjectNode()
+					.put("system", systems[i]).put("version", i == 0 ? "120.0" : "121.0").put("count", 10));
+		}
+		if (nextPageToken != null) {
+			response.put("nextPageToken", nextPageToken);
+		}
+		return response;
+	}
+}
@@ -0,0 +1,66 @@
+package com.avispl.symphony.dal.communicator.aggregator.scheduling;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AdaptiveCollectionSchedulerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class AdaptiveCollectionSchedulerTest {
+
+	/**
+	 * Verifies that a quiet fleet lengthens the interval up to the upper bound and a busy one shortens it down to the lower bound.
+	 */
+	@Test
+	void testIntervalFollowsChurn() {
+		AdaptiveCollectionScheduler scheduler = new AdaptiveCollectionScheduler(5, 1);
+		Assert.assertEquals(1000, scheduler.completeSweep(1000, 8000, 0));
+		for (long expected : new long[] { 2000, 4000, 8000, 8000 }) {
+			record(scheduler, 1000, 0);
+			Assert.assertEquals(expected, scheduler.completeSweep(1000, 8000, 0));
+		}
+		Assert.assertEquals(0, scheduler.getLastChurnPercent());
+
+		for (long expected : new long[] { 4000, 2000, 1000, 1000 }) {
+			record(scheduler, 1000, 100);
+			Assert.assertEquals(expected, scheduler.completeSweep(1000, 8000, 0));
+		}
+		Assert.assertEquals(10, scheduler.getLastChurnPercent());
+
+		record(scheduler, 1000, 20);
+		Assert.assertEquals(1000, scheduler.completeSweep(1000, 8000, 0));
+	}
+
+	/**
+	 * Verifies that the next sweep is due only once the interval since the last completed sweep elapsed.
+	 */
+	@Test
+	void testSweepDue() {
+		AdaptiveCollectionScheduler scheduler = new AdaptiveCollectionScheduler(5, 1);
+		Assert.assertTrue(scheduler.isSweepDue(0));
+		scheduler.completeSweep(1000, 8000, 5000);
+		Assert.assertFalse(scheduler.isSweepDue(5999));
+		Assert.assertTrue(scheduler.isSweepDue(6000));
+
+		scheduler.reset();
+		Assert.assertTrue(scheduler.isSweepDue(0));
+		Assert.assertEquals(0, scheduler.getInterval());
+	}
+
+	/**
+	 * Records collected devices
+	 *
+	 * @param scheduler scheduler to record with
+	 * @param devices number of collected devices
+	 * @param changed number of changed devices among them
+	 */
+	private void record(AdaptiveCollectionScheduler scheduler, int devices, int changed) {
+		for (int i = 0; i < devices; i++) {
+			scheduler.record(i < changed);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.avispl.symphony.dal.communicator.aggregator.scheduling;
+
+import java.time.Instant;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TieredRefreshSchedulerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class TieredRefreshSchedulerTest {
+	private static final long NOW = Instant.parse("2026-10-19T12:00:00Z").toEpochMilli();
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	/**
+	 * Verifies that devices are bucketed by status and time since their last sync.
+	 */
+	@Test
+	void testClassify() {
+		Assert.assertEquals(RefreshTierEnum.ACTIVE, RefreshTierEnum.classify("ACTIVE", "2026-10-19T11:30:00.000Z", NOW, HOUR, 24 * HOUR));
+		Assert.assertEquals(RefreshTierEnum.IDLE, RefreshTierEnum.classify("ACTIVE", "2026-10-19T08:00:00Z", NOW, HOUR, 24 * HOUR));
+		Assert.assertEquals(RefreshTierEnum.OFFLINE, RefreshTierEnum.classify("ACTIVE", "2026-10-17T12:00:00Z", NOW, HOUR, 24 * HOUR));
+		Assert.assertEquals(RefreshTierEnum.OFFLINE, RefreshTierEnum.classify("ACTIVE", null, NOW, HOUR, 24 * HOUR));
+		Assert.assertEquals(RefreshTierEnum.OFFLINE, RefreshTierEnum.classify("ACTIVE", "yesterday", NOW, HOUR, 24 * HOUR));
+		Assert.assertEquals(RefreshTierEnum.DISABLED, RefreshTierEnum.classify("DEPROVISIONED", "2026-10-19T11:30:00Z", NOW, HOUR, 24 * HOUR));
+		Assert.assertEquals(RefreshTierEnum.DISABLED, RefreshTierEnum.classify("DISABLED", null, NOW, HOUR, 24 * HOUR));
+	}
+
+	/**
+	 * Verifies that a device is refreshed when it was not collected yet or its tier interval elapsed, and kept otherwise.
+	 */
+	@Test
+	void testShouldRefresh() {
+		TieredRefreshScheduler scheduler = new TieredRefreshScheduler();
+		Assert.assertTrue(scheduler.shouldRefresh(RefreshTierEnum.OFFLINE, HOUR, null, NOW));
+		Assert.assertTrue(scheduler.shouldRefresh(RefreshTierEnum.ACTIVE, 0, NOW, NOW));
+		Assert.assertFalse(scheduler.shouldRefresh(RefreshTierEnum.OFFLINE, HOUR, NOW - HOUR + 1, NOW));
+		Assert.assertTrue(scheduler.shouldRefresh(RefreshTierEnum.OFFLINE, HOUR, NOW - HOUR, NOW));
+
+		Assert.assertEquals(2, scheduler.getRefreshed(RefreshTierEnum.OFFLINE));
+		Assert.assertEquals(1, scheduler.getRefreshed(RefreshTierEnum.ACTIVE));
+		Assert.assertEquals(1, scheduler.getSkipped());
+		scheduler.reset();
+		Assert.assertEquals(0, scheduler.getSkipped());
+	}
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.communicator.aggregator.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import com.avispl.symphony.dal.communicator.aggregator.fixture.SyntheticFleet;
+
+/**
+ * GoogleWorkspaceSimulator is an embedded HTTP stand-in for the Google APIs used by the adapter:
+ * OAuth2 token, Directory API users, orgunits and chromeosdevices, and Chrome Management telemetry.
+ * Fleet size, latency, error rate and 429 throttling rate are configurable, so the adapter can be load and soak tested offline.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class GoogleWorkspaceSimulator implements AutoCloseable {
+	public static final String CUSTOMER_ID = "C0simulated";
+	public static final String ACCESS_TOKEN = "simulated-access-token";
+
+	private static final Pattern TOKEN_PATH = Pattern.compile("^/token$");
+	private static final Pattern USERS_PATH = Pattern.compile("^/admin/directory/v1/users$");
+	private static final Pattern ORG_UNITS_PATH = Pattern.compile("^/admin/directory/v1/customer/[^/]+/orgunits/?$");
+	private static final Pattern ORG_UNIT_PATH = Pattern.compile("^/admin/directory/v1/customer/[^/]+/orgunits/(.+)$");
+	private static final Pattern CHROME_OS_PATH = Pattern.compile("^/admin/directory/v1/customer/[^/]+/devices/chromeos$");
+	private static final Pattern TELEMETRY_PATH = Pattern.compile("^/v1/customers/[^/]+/telemetry/devices$");
+	private static final Pattern REPORTS_PATH = Pattern.compile("^/v1/customers/[^/]+/reports:(\\w+)$");
+	private static final int DEFAULT_PAGE_SIZE = 100;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final AtomicLong throttled = new AtomicLong();
+	private final AtomicInteger pageFailures = new AtomicInteger();
+	private int fleetSize = 1000;
+	private long seed = 42L;
+	private long latencyMillis;
+	private double errorRate;
+	private double throttleRate;
+	private volatile boolean telemetryUnavailable;
+	private SyntheticFleet fleet;
+	private HttpServer server;
+	private ExecutorService executorService;
+
+	/**
+	 * Sets {@link #fleetSize} value
+	 *
+	 * @param fleetSize new value of {@link #fleetSize}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator fleetSize(int fleetSize) {
+		this.fleetSize = fleetSize;
+		return this;
+	}
+
+	/**
+	 * Sets {@link #seed} value
+	 *
+	 * @param seed new value of {@link #seed}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	/**
+	 * Sets {@link #latencyMillis} value, added to every response
+	 *
+	 * @param latencyMillis new value of {@link #latencyMillis}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator latencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+		return this;
+	}
+
+	/**
+	 * Sets {@link #errorRate} value, fraction of requests answered with 500. OAuth2 token requests are not failed,
+	 * since a failed token request fails the whole cycle instead of exercising the retries of the adapter.
+	 *
+	 * @param errorRate new value of {@link #errorRate}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator errorRate(double errorRate) {
+		this.errorRate = errorRate;
+		return this;
+	}
+
+	/**
+	 * Sets {@link #throttleRate} value, fraction of requests answered with 429. OAuth2 token requests are not throttled.
+	 *
+	 * @param throttleRate new value of {@link #throttleRate}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator throttleRate(double throttleRate) {
+		this.throttleRate = throttleRate;
+		return this;
+	}
+
+	/**
+	 * Sets {@link #pageFailures} value, number of the next chromeosdevices page requests answered with 500
+	 * in addition to {@link #errorRate}, so a test can rely on failed pages.
+	 *
+	 * @param pageFailures new value of {@link #pageFailures}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator pageFailures(int pageFailures) {
+		this.pageFailures.set(pageFailures);
+		return this;
+	}
+
+	/**
+	 * Sets {@link #telemetryUnavailable} value, answering telemetry requests with 503 while set.
+	 * Can be changed while the simulator is running.
+	 *
+	 * @param telemetryUnavailable new value of {@link #telemetryUnavailable}
+	 * @return this simulator
+	 */
+	public GoogleWorkspaceSimulator telemetryUnavailable(boolean telemetryUnavailable) {
+		this.telemetryUnavailable = telemetryUnavailable;
+		return this;
+	}
+
+	/**
+	 * Generates the fleet and starts the server on a free local port.
+	 *
+	 * @return this simulator
+	 * @throws IOException if the server cannot be started
+	 */
+	public GoogleWorkspaceSimulator start() throws IOException {
+		fleet = new SyntheticFleet(objectMapper, fleetSize, seed);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		executorService = Executors.newFixedThreadPool(8);
+		server.setExecutor(executorService);
+		server.createContext("/", this::handle);
+		server.start();
+		return this;
+	}
+
+	/**
+	 * Retrieves port the server listens on
+	 *
+	 * @return server port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Retrieves base URL of the server
+	 *
+	 * @return base URL
+	 */
+	public String getBaseUrl() {
+		return "http://127.0.0.1:" + getPort();
+	}
+
+	/**
+	 * Retrieves {@link #requests}
+	 *
+	 * @return value of {@link #requests}
+	 */
+	public long getRequests() {
+		return requests.get();
+	}
+
+	/**
+	 * Retrieves {@link #errors}
+	 *
+	 * @return value of {@link #errors}
+	 */
+	public long getErrors() {
+		return errors.get();
+	}
+
+	/**
+	 * Retrieves {@link #throttled}
+	 *
+	 * @return value of {@link #throttled}
+	 */
+	public long getThrottled() {
+		return throttled.get();
+	}
+
+	/**
+	 * Stops the server
+	 */
+	@Override
+	public void close() {
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+	}
+
+	/**
+	 * Handles a single request
+	 *
+	 * @param exchange HTTP exchange
+	 * @throws IOException if the response cannot be written
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		try (InputStream requestBody = exchange.getRequestBody()) {
+			while (requestBody.read() != -1) {
+				// drain request body so the connection can be reused
+			}
+		}
+		requests.incrementAndGet();
+		if (latencyMillis > 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(latencyMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		String path = exchange.getRequestURI().getPath();
+		boolean tokenRequest = TOKEN_PATH.matcher(path).matches();
+		double chance = tokenRequest ? 1 : ThreadLocalRandom.current().nextDouble();
+		if (chance < throttleRate) {
+			throttled.incrementAndGet();
+			exchange.getResponseHeaders().set("Retry-After", "1");
+			respond(exchange, 429, error(429, "RESOURCE_EXHAUSTED", "Quota exceeded"));
+			return;
+		}
+		if (chance < throttleRate + errorRate) {
+			errors.incrementAndGet();
+			respond(exchange, 500, error(500, "INTERNAL", "Internal error encountered"));
+			return;
+		}
+		Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+		Matcher orgUnitMatcher = ORG_UNIT_PATH.matcher(path);
+		Matcher reportsMatcher = REPORTS_PATH.matcher(path);
+		if (tokenRequest) {
+			ObjectNode token = objectMapper.createObjectNode();
+			token.put("access_token", ACCESS_TOKEN);
+			token.put("expires_in", 3599);
+			token.put("token_type", "Bearer");
+			respond(exchange, 200, token);
+		} else if (!("Bearer " + ACCESS_TOKEN).equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+			respond(exchange, 401, error(401, "UNAUTHENTICATED", "Request had invalid authentication credentials"));
+		} else if (USERS_PATH.matcher(path).matches()) {
+			ObjectNode users = objectMapper.createObjectNode();
+			users.putArray("users").addObject().put("customerId", CUSTOMER_ID).put("primaryEmail", "admin@example.com");
+			respond(exchange, 200, users);
+		} else if (ORG_UNITS_PATH.matcher(path).matches()) {
+			ObjectNode orgUnits = objectMapper.createObjectNode();
+			orgUnits.put("kind", "admin#directory#org_units");
+			orgUnits.set("organizationUnits", fleet.getOrgUnits());
+			respond(exchange, 200, orgUnits);
+		} else if (orgUnitMatcher.matches()) {
+			ObjectNode orgUnit = objectMapper.createObjectNode();
+			orgUnit.put("kind", "admin#directory#orgUnit");
+			orgUnit.put("etag", "\"simulated\"");
+			orgUnit.put("name", "Simulated Organization");
+			orgUnit.put("description", "Root organizational unit");
+			orgUnit.put("orgUnitPath", "/");
+			orgUnit.put("orgUnitId", orgUnitMatcher.group(1));
+			respond(exchange, 200, orgUnit);
+		} else if (CHROME_OS_PATH.matcher(path).matches() && pageFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+			errors.incrementAndGet();
+			respond(exchange, 500, error(500, "INTERNAL", "Internal error encountered"));
+		} else if (CHROME_OS_PATH.matcher(path).matches()) {
+			int offset = parseInt(query.get("pageToken"), 0);
+			int pageSize = parseInt(query.get("maxResults"), DEFAULT_PAGE_SIZE);
+			respond(exchange, 200, fleet.chromeOsDevicesPage(offset, pageSize, nextPageToken(offset, pageSize)));
+		} else if (TELEMETRY_PATH.matcher(path).matches() && telemetryUnavailable) {
+			errors.incrementAndGet();
+			respond(exchange, 503, error(503, "UNAVAILABLE", "The service is currently unavailable"));
+		} else if (TELEMETRY_PATH.matcher(path).matches()) {
+			int offset = parseInt(query.get("pageToken"), 0);
+			int pageSize = parseInt(query.get("pageSize"), DEFAULT_PAGE_SIZE);
+			respond(exchange, 200, fleet.telemetryPage(offset, pageSize, nextPageToken(offset, pageSize)));
+		} else if (reportsMatcher.matches() && report(reportsMatcher.group(1)) != null) {
+			respond(exchange, 200, report(reportsMatcher.group(1)));
+		} else {
+			respond(exchange, 404, error(404, "NOT_FOUND", "Requested entity was not found"));
+		}
+	}
+
+	/**
+	 * Builds a Chrome Management report counted from the synthetic fleet, in a single page
+	 *
+	 * @param name report method name
+	 * @return report body, or null for an unknown report
+	 */
+	private ObjectNode report(String name) {
+		ObjectNode body = objectMapper.createObjectNode();
+		long now = System.currentTimeMillis();
+		switch (name) {
+			case "countChromeVersions":
+				ArrayNode browserVersions = body.putArray("browserVersions");
+				count(device -> device.path("osVersion").asText()).forEach((version, count) ->
+						browserVersions.addObject().put("version", version).put("count", String.valueOf(count)).put("system", "SYSTEM_CROS").put("channel", "STABLE"));
+				break;
+			case "countChromeDevicesReachingAutoExpirationDate":
+				ArrayNode aueReports = body.putArray("deviceAueCountReports");
+				count(device -> {
+					long expiration = device.path("autoUpdateExpiration").asLong();
+					return expiration < now ? "expired" : String.valueOf(Instant.ofEpochMilli(expiration).atZone(ZoneOffset.UTC).getYear());
+				}).forEach((year, count) -> {
+					ObjectNode aueReport = aueReports.addObject().put("count", String.valueOf(count));
+					if ("expired".equals(year)) {
+						aueReport.put("expired", true);
+					} else {
+						aueReport.put("aueYear", year).put("aueMonth", "JANUARY");
+					}
+				});
+				break;
+			case "countChromeHardwareFleetDevices":
+				ArrayNode modelReports = body.putArray("modelReports");
+				count(device -> device.path("model").asText()).forEach((model, count) -> modelReports.addObject().put("bucket", model).put("count", String.valueOf(count)));
+				ArrayNode memoryReports = body.putArray("memoryReports");
+				count(device -> device.path("systemRamTotal").asLong() / 1000000000L + " GB").forEach((memory, count) -> memoryReports.addObject().put("bucket", memory).put("count", String.valueOf(count)));
+				break;
+			default:
+				return null;
+		}
+		return body;
+	}
+
+	/**
+	 * Counts devices of the synthetic fleet per bucket
+	 *
+	 * @param bucket extracts the bucket of a device
+	 * @return device count per bucket
+	 */
+	private Map<String, Long> count(Function<JsonNode, String> bucket) {
+		Map<String, Long> counts = new TreeMap<>();
+		for (JsonNode device : fleet.getDevices()) {
+			counts.merge(bucket.apply(device), 1L, Long::sum);
+		}
+		return counts;
+	}
+
+	/**
+	 * Builds next page token, which is the offset of the next page
+	 *
+	 * @param offset offset of the current page
+	 * @param pageSize page size
+	 * @return next page token, or null for the last page
+	 */
+	private String nextPageToken(int offset, int pageSize) {
+		return offset + pageSize < fleetSize ? String.valueOf(offset + pageSize) : null;
+	}
+
+	/**
+	 * Builds a Google style error body
+	 *
+	 * @param code HTTP status code
+	 * @param status error status
+	 * @param message error message
+	 * @return error body
+	 */
+	private ObjectNode error(int code, String status, String message) {
+		ObjectNode body = objectMapper.createObjectNode();
+		ObjectNode error = body.putObject("error");
+		error.put("code", code);
+		error.put("message", message);
+		error.put("status", status);
+		return body;
+	}
+
+	/**
+	 * Writes JSON response, gzip compressed when the client accepts it
+	 *
+	 * @param exchange HTTP exchange
+	 * @param status HTTP status code
+	 * @param body response body
+	 * @throws IOException if the response cannot be written
+	 */
+	private void respond(HttpExchange exchange, int status, ObjectNode body) throws IOException {
+		byte[] content = objectMapper.writeValueAsBytes(body);
+		String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+		if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+			exchange.sendResponseHeaders(status, 0);
+			try (OutputStream outputStream = new GZIPOutputStream(exchange.getResponseBody())) {
+				outputStream.write(content);
+			}
+		} else {
+			exchange.sendResponseHeaders(status, content.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(content);
+			}
+		}
+	}
+
+	/**
+	 * Parses URL query into a map
+	 *
+	 * @param rawQuery raw query string
+	 * @return query parameters
+	 * @throws IOException if the query cannot be decoded
+	 */
+	private static Map<String, String> parseQuery(String rawQuery) throws IOException {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery != null) {
+			for (String parameter : rawQuery.split("&")) {
+				int separator = parameter.indexOf('=');
+				if (separator > 0) {
+					query.put(parameter.substring(0, separator), URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8.name()));
+				}
+			}
+		}
+		return query;
+	}
+
+	/**
+	 * Parses integer value
+	 *
+	 * @param value value to parse
+	 * @param defaultValue value used when the value is missing or invalid
+	 * @return parsed value
+	 */
+	private static int parseInt(String value, int defaultValue) {
+		try {
+			return value == null || value.isEmpty() ? defaultValue : Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.avispl.symphony.dal.communicator.aggregator.snapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.DeviceSnapshot;
+import com.avispl.symphony.dal.communicator.aggregator.dto.snapshot.InventorySnapshot;
+import com.avispl.symphony.dal.communicator.aggregator.dto.systemInfo.OrgUnit;
+
+/**
+ * InventorySnapshotStoreTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class InventorySnapshotStoreTest {
+
+	/**
+	 * Verifies that a written snapshot is read back unchanged, replacing the previous one without leaving a temporary file.
+	 */
+	@Test
+	void testRoundTrip() throws Exception {
+		Path directory = Files.createTempDirectory("googleworkspace-snapshot");
+		InventorySnapshotStore store = new InventorySnapshotStore(directory.resolve("nested").resolve("snapshot.json.gz"));
+		Assert.assertNull(store.read());
+
+		store.write(createSnapshot(1000L, "device-1"));
+		store.write(createSnapshot(2000L, "device-2"));
+		InventorySnapshot snapshot = store.read();
+		Assert.assertEquals(InventorySnapshotStore.FORMAT_VERSION, snapshot.getVersion());
+		Assert.assertEquals(2000L, snapshot.getCreatedAt());
+		Assert.assertEquals("Acme", snapshot.getParentOrgUnit());
+		Assert.assertEquals("/Lab", snapshot.getOrgUnits().get(0).getOrgUnitPath());
+		Assert.assertEquals(1, snapshot.getDevices().size());
+		DeviceSnapshot device = snapshot.getDevices().get(0);
+		Assert.assertEquals("device-2", device.getDeviceId());
+		Assert.assertEquals("Chromebox", device.getDeviceModel());
+		Assert.assertEquals(Boolean.TRUE, device.getDeviceOnline());
+		Assert.assertEquals(Long.valueOf(1500L), device.getCollectedAt());
+		Assert.assertEquals("ACTIVE", device.getProperties().get("Status"));
+		Assert.assertTrue(device.getProperties().containsKey("AnnotatedUser"));
+		try (Stream<Path> files = Files.list(store.getSnapshotFile().getParent())) {
+			Assert.assertEquals(Collections.singletonList(store.getSnapshotFile()), files.collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * Verifies that a file which is not gzipped JSON, or is truncated, fails to read instead of restoring a partial inventory.
+	 */
+	@Test
+	void testCorruptFile() throws Exception {
+		Path directory = Files.createTempDirectory("googleworkspace-snapshot");
+		InventorySnapshotStore store = new InventorySnapshotStore(directory.resolve("snapshot.json.gz"));
+		Files.write(store.getSnapshotFile(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+		assertReadFails(store);
+
+		store.write(createSnapshot(1000L, "device-1"));
+		byte[] content = Files.readAllBytes(store.getSnapshotFile());
+		Files.write(store.getSnapshotFile(), Arrays.copyOf(content, content.length / 2));
+		assertReadFails(store);
+
+		writeGzipped(store.getSnapshotFile(), "{\"createdAt\":");
+		assertReadFails(store);
+	}
+
+	/**
+	 * Verifies that a snapshot written in another format version, or before the version was recorded, is not restored.
+	 */
+	@Test
+	void testVersionMismatch() throws Exception {
+		Path directory = Files.createTempDirectory("googleworkspace-snapshot");
+		InventorySnapshotStore store = new InventorySnapshotStore(directory.resolve("snapshot.json.gz"));
+		writeGzipped(store.getSnapshotFile(), "{\"version\":" + (InventorySnapshotStore.FORMAT_VERSION + 1) + ",\"createdAt\":1000,\"devices\":[{\"deviceId\":\"device-1\"}]}");
+		Assert.assertNull(store.read());
+
+		writeGzipped(store.getSnapshotFile(), "{\"createdAt\":1000,\"devices\":[{\"deviceId\":\"device-1\"}]}");
+		Assert.assertNull(store.read());
+
+		writeGzipped(store.getSnapshotFile(), "{\"version\":" + InventorySnapshotStore.FORMAT_VERSION + ",\"createdAt\":1000,\"unknownField\":true}");
+		Assert.assertEquals(1000L, store.read().getCreatedAt());
+	}
+
+	/**
+	 * Creates a snapshot with a single organizational unit and device
+	 */
+	private InventorySnapshot createSnapshot(long createdAt, String deviceId) {
+		InventorySnapshot snapshot = new InventorySnapshot();
+		snapshot.setCreatedAt(createdAt);
+		snapshot.setParentOrgUnit("Acme");
+		snapshot.setOrgUnits(Collections.singletonList(new OrgUnit("admin#directory#orgUnit", "etag", "Lab", "", "/Lab", "id:lab", "/", "id:root")));
+		DeviceSnapshot device = new DeviceSnapshot();
+		device.setDeviceId(deviceId);
+		device.setDeviceName("Lab device");
+		device.setDeviceModel("Chromebox");
+		device.setDeviceOnline(true);
+		device.setCollectedAt(1500L);
+		Map<String, String> properties = new HashMap<>();
+		properties.put("Status", "ACTIVE");
+		properties.put("AnnotatedUser", null);
+		device.setProperties(properties);
+		snapshot.setDevices(Collections.singletonList(device));
+		return snapshot;
+	}
+
+	/**
+	 * Writes gzipped content into a file
+	 */
+	private void writeGzipped(Path file, String content) throws IOException {
+		try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(file))) {
+			outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Asserts that reading the snapshot fails with an IOException
+	 */
+	private void assertReadFails(InventorySnapshotStore store) {
+		try {
+			store.read();
+			Assert.fail("Corrupt snapshot was read");
+		} catch (IOException e) {
+			Assert.assertNotNull(e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceMetricHistoryTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class DeviceMetricHistoryTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Verifies that a newest-first series keeps all of its samples once sorted,
+	 * and that the overlapping series of the next poll only adds the new sample.
+	 */
+	@Test
+	void testRecordsReversedSeries() {
+		DeviceMetricHistory history = new DeviceMetricHistory(10);
+		ArrayNode reports = objectMapper.createArrayNode();
+		reports.add(createReport("2026-10-19T10:03:00Z", 40));
+		reports.add(createReport("2026-10-19T10:02:00Z", 30));
+		reports.add(createReport("2026-10-19T10:01:00Z", 20));
+		Assert.assertEquals(3, record(history, reports));
+
+		reports.insert(0, createReport("2026-10-19T10:04:00Z", 50));
+		Assert.assertEquals(1, record(history, reports));
+
+		MetricRingBuffer buffer = history.getBuffer(MetricHistoryEnum.CPU_UTILIZATION);
+		Assert.assertEquals(4, buffer.size());
+		Assert.assertEquals(20f, buffer.min(), 0.001);
+		Assert.assertEquals(50f, buffer.latest(), 0.001);
+	}
+
+	/**
+	 * Verifies that only entries without a valid report time are left out of a series.
+	 */
+	@Test
+	void testSkipsReportsWithoutTime() {
+		ArrayNode reports = objectMapper.createArrayNode();
+		reports.add(createReport("2026-10-19T10:02:00Z", 30));
+		reports.add(createReport(null, 99));
+		reports.add(createReport("not a time", 99));
+		reports.add(createReport("2026-10-19T10:01:00Z", 20));
+
+		SortedMap<Long, JsonNode> series = ReportSeries.byReportTime(reports);
+		Assert.assertEquals(2, series.size());
+		Assert.assertTrue(series.firstKey() < series.lastKey());
+		Assert.assertTrue(ReportSeries.byReportTime(null).isEmpty());
+	}
+
+	/**
+	 * Verifies that the first sample of a metric is accepted whatever its report time.
+	 */
+	@Test
+	void testRecordsFirstSampleAtAnyTime() {
+		DeviceMetricHistory history = new DeviceMetricHistory(10);
+		Assert.assertTrue(history.record(MetricHistoryEnum.MEMORY_FREE, Long.MIN_VALUE, 1f));
+		Assert.assertFalse(history.record(MetricHistoryEnum.MEMORY_FREE, Long.MIN_VALUE, 2f));
+		Assert.assertTrue(history.record(MetricHistoryEnum.MEMORY_FREE, 0L, 3f));
+	}
+
+	/**
+	 * Records the CPU utilization of every entry of a report series in report time order.
+	 *
+	 * @param history history to record into
+	 * @param reports report series as returned by Google
+	 * @return number of recorded samples
+	 */
+	private int record(DeviceMetricHistory history, JsonNode reports) {
+		int recorded = 0;
+		for (Map.Entry<Long, JsonNode> entry : ReportSeries.byReportTime(reports).entrySet()) {
+			float value = (float) entry.getValue().get("cpuUtilizationPercentageInfo").get(0).asDouble();
+			if (history.record(MetricHistoryEnum.CPU_UTILIZATION, entry.getKey(), value)) {
+				recorded++;
+			}
+		}
+		return recorded;
+	}
+
+	/**
+	 * Creates a CPU status report entry.
+	 *
+	 * @param reportTime report time, or null to leave it out
+	 * @param utilization CPU utilization percentage
+	 * @return report entry
+	 */
+	private JsonNode createReport(String reportTime, int utilization) {
+		ObjectNode report = objectMapper.createObjectNode();
+		if (reportTime != null) {
+			report.put("reportTime", reportTime);
+		}
+		report.putArray("cpuUtilizationPercentageInfo").add(utilization);
+		return report;
+	}
+}
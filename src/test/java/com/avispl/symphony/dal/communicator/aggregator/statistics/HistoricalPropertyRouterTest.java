@@ -0,0 +1,65 @@
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.AggregatedDeviceEnum;
+
+/**
+ * HistoricalPropertyRouterTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class HistoricalPropertyRouterTest {
+
+	/**
+	 * Verifies that plain names route the property in any group while qualified names route it in their group only.
+	 */
+	@Test
+	void testPlainAndQualifiedNames() {
+		HistoricalPropertyRouter router = HistoricalPropertyRouter.compile(" CPUUtilization(%) ,CPUTemperature#Core1(C),, Status");
+		Assert.assertEquals(new LinkedHashSet<>(Arrays.asList("CPUUtilization(%)", "CPUTemperature#Core1(C)", "Status")), router.getProperties());
+		Assert.assertTrue(router.isHistorical("CPUUtilization(%)", "CPUUtilization(%)"));
+		Assert.assertTrue(router.isHistorical("Metrics#CPUUtilization(%)", "CPUUtilization(%)"));
+		Assert.assertTrue(router.isHistorical("CPUTemperature#Core1(C)", "Core1(C)"));
+		Assert.assertFalse(router.isHistorical("CPUTemperature#Core2(C)", "Core2(C)"));
+		Assert.assertFalse(router.isHistorical("Storage#Core1(C)", "Core1(C)"));
+		Assert.assertFalse(router.isEmpty());
+	}
+
+	/**
+	 * Verifies that only numeric aggregated device metrics named without group are reported as routed metrics,
+	 * and that callers cannot change them.
+	 */
+	@Test
+	void testRoutedMetrics() {
+		HistoricalPropertyRouter router = HistoricalPropertyRouter.compile("VolumeLevel(%),MemoryFree(GB),Status,Metrics#CPUUtilization(%)");
+		Assert.assertEquals(EnumSet.of(AggregatedDeviceEnum.VOLUME_LEVEL, AggregatedDeviceEnum.MEMORY_FREE), router.getRoutedMetrics());
+		try {
+			HistoricalPropertyRouter.EMPTY.getRoutedMetrics().add(AggregatedDeviceEnum.VOLUME_LEVEL);
+			Assert.fail("Routed metrics were modified");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		Assert.assertTrue(HistoricalPropertyRouter.EMPTY.getRoutedMetrics().isEmpty());
+	}
+
+	/**
+	 * Verifies that a blank configuration compiles to the shared empty router.
+	 */
+	@Test
+	void testEmpty() {
+		Assert.assertSame(HistoricalPropertyRouter.EMPTY, HistoricalPropertyRouter.compile(null));
+		Assert.assertSame(HistoricalPropertyRouter.EMPTY, HistoricalPropertyRouter.compile("  "));
+		Assert.assertTrue(HistoricalPropertyRouter.EMPTY.isEmpty());
+		Assert.assertTrue(HistoricalPropertyRouter.EMPTY.getRoutedMetrics().isEmpty());
+		Assert.assertFalse(HistoricalPropertyRouter.EMPTY.isHistorical("CPUUtilization(%)", "CPUUtilization(%)"));
+		Assert.assertTrue(HistoricalPropertyRouter.compile(" , ").isEmpty());
+	}
+}
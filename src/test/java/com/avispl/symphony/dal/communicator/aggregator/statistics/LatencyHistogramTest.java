@@ -0,0 +1,57 @@
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.communicator.aggregator.common.ApiEndpointEnum;
+
+/**
+ * LatencyHistogramTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class LatencyHistogramTest {
+
+	/**
+	 * Verifies that percentiles are reported as upper bounds of the buckets they fall into.
+	 */
+	@Test
+	void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assert.assertEquals(0, histogram.percentile(50));
+		for (int i = 0; i < 90; i++) {
+			histogram.record(8);
+		}
+		for (int i = 0; i < 9; i++) {
+			histogram.record(150);
+		}
+		histogram.record(120000);
+		Assert.assertEquals(100, histogram.getCount());
+		Assert.assertEquals(10, histogram.percentile(50));
+		Assert.assertEquals(200, histogram.percentile(95));
+		Assert.assertEquals(200, histogram.percentile(99));
+		Assert.assertEquals(60000, histogram.percentile(100));
+	}
+
+	/**
+	 * Verifies that request URIs are grouped by endpoint and only used endpoints are published.
+	 */
+	@Test
+	void testEndpointStatistics() {
+		AdapterMetrics adapterMetrics = new AdapterMetrics();
+		adapterMetrics.getEndpointMetrics(ApiEndpointEnum.fromUri("/admin/directory/v1/customer/C01/devices/chromeos?maxResults=200")).record(40, false);
+		adapterMetrics.getEndpointMetrics(ApiEndpointEnum.fromUri("https://oauth2.googleapis.com/token")).record(300, true);
+		Map<String, String> statistics = new HashMap<>();
+		adapterMetrics.populateStatistics(statistics);
+		Assert.assertEquals("1", statistics.get("ApiEndpointChromeOS#Requests"));
+		Assert.assertEquals("0", statistics.get("ApiEndpointChromeOS#Errors"));
+		Assert.assertEquals("50", statistics.get("ApiEndpointChromeOS#LatencyP95(ms)"));
+		Assert.assertEquals("1", statistics.get("ApiEndpointOAuth#Errors"));
+		Assert.assertFalse(statistics.containsKey("ApiEndpointUsers#Requests"));
+	}
+}
@@ -0,0 +1,46 @@
+package com.avispl.symphony.dal.communicator.aggregator.statistics;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MetricRingBufferTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.3
+ */
+public class MetricRingBufferTest {
+
+	/**
+	 * Verifies that the oldest samples are overwritten once the buffer is full
+	 * and that min/max/avg/p95 are calculated over the retained samples only.
+	 */
+	@Test
+	void testStatisticsOverRetainedSamples() {
+		MetricRingBuffer buffer = new MetricRingBuffer(4);
+		for (int i = 1; i <= 6; i++) {
+			buffer.add(i * 10);
+		}
+		Assert.assertEquals(4, buffer.size());
+		Assert.assertEquals(30f, buffer.min(), 0.001);
+		Assert.assertEquals(60f, buffer.max(), 0.001);
+		Assert.assertEquals(45f, buffer.average(), 0.001);
+		Assert.assertEquals(60f, buffer.percentile(95), 0.001);
+		Assert.assertEquals(60f, buffer.latest(), 0.001);
+	}
+
+	/**
+	 * Verifies that already recorded reports are skipped by the device history.
+	 */
+	@Test
+	void testDeviceHistorySkipsSeenReports() {
+		DeviceMetricHistory history = new DeviceMetricHistory(10);
+		Assert.assertTrue(history.record(MetricHistoryEnum.CPU_UTILIZATION, 1000L, 10f));
+		Assert.assertTrue(history.record(MetricHistoryEnum.CPU_UTILIZATION, 2000L, 20f));
+		Assert.assertFalse(history.record(MetricHistoryEnum.CPU_UTILIZATION, 2000L, 20f));
+		Assert.assertFalse(history.record(MetricHistoryEnum.CPU_UTILIZATION, 3000L, Float.NaN));
+		Assert.assertEquals(2, history.getBuffer(MetricHistoryEnum.CPU_UTILIZATION).size());
+		Assert.assertEquals(0, history.getBuffer(MetricHistoryEnum.VOLUME_LEVEL).size());
+	}
+}